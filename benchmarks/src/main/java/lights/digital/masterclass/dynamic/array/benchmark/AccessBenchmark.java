@@ -0,0 +1,172 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.DynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads, hashing and in-place writes on {@link DynamicArrayImplementation}, {@link ArrayList} and {@link ArrayDeque}.
+ * The indexed variant of {@link DynamicArrayImplementation} has its element index enabled.
+ * {@link ArrayDeque} has no indexed access, so it only takes part in the search and stream benchmarks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccessBenchmark {
+
+    private static final int INDEX_COUNT = 1024;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private DynamicArray<Integer> dynamicArray;
+    private DynamicArrayImplementation<Integer> indexedDynamicArray;
+    private ArrayList<Integer> arrayList;
+    private ArrayDeque<Integer> arrayDeque;
+
+    private int[] indexes;
+    private int cursor;
+
+    private Integer missingElement;
+    private List<Integer> lastElements;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dynamicArray = new DynamicArrayImplementation<>(Integer.class);
+        arrayList = new ArrayList<>();
+        arrayDeque = new ArrayDeque<>();
+
+        indexedDynamicArray = new DynamicArrayImplementation<>(Integer.class);
+        indexedDynamicArray.enableElementIndex();
+
+        for (int i = 0; i < size; i++) {
+            dynamicArray.push(i);
+            indexedDynamicArray.push(i);
+            arrayList.add(i);
+            arrayDeque.addLast(i);
+        }
+
+        Random random = new Random(42);
+        indexes = new int[INDEX_COUNT];
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+
+        missingElement = -1;
+        lastElements = new ArrayList<>(arrayList.subList(Math.max(0, size - 16), size));
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) & (INDEX_COUNT - 1);
+        return indexes[cursor];
+    }
+
+    @Benchmark
+    public Integer dynamicArrayGet() {
+        return dynamicArray.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer arrayListGet() {
+        return arrayList.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer dynamicArraySet() {
+        int index = nextIndex();
+        return dynamicArray.set(index, index);
+    }
+
+    @Benchmark
+    public Integer arrayListSet() {
+        int index = nextIndex();
+        return arrayList.set(index, index);
+    }
+
+    @Benchmark
+    public boolean dynamicArrayContains() {
+        return dynamicArray.contains(missingElement);
+    }
+
+    @Benchmark
+    public boolean indexedDynamicArrayContains() {
+        return indexedDynamicArray.contains(missingElement);
+    }
+
+    @Benchmark
+    public boolean arrayListContains() {
+        return arrayList.contains(missingElement);
+    }
+
+    @Benchmark
+    public boolean arrayDequeContains() {
+        return arrayDeque.contains(missingElement);
+    }
+
+    @Benchmark
+    public boolean dynamicArrayContainsAll() {
+        return dynamicArray.containsAll(lastElements);
+    }
+
+    @Benchmark
+    public boolean indexedDynamicArrayContainsAll() {
+        return indexedDynamicArray.containsAll(lastElements);
+    }
+
+    @Benchmark
+    public int indexedDynamicArrayIndexOf() {
+        return indexedDynamicArray.indexOf(nextIndex());
+    }
+
+    @Benchmark
+    public int arrayListIndexOf() {
+        return arrayList.indexOf(nextIndex());
+    }
+
+    @Benchmark
+    public boolean arrayListContainsAll() {
+        return arrayList.containsAll(lastElements);
+    }
+
+    @Benchmark
+    public boolean arrayDequeContainsAll() {
+        return arrayDeque.containsAll(lastElements);
+    }
+
+    @Benchmark
+    public long dynamicArrayStream() {
+        return dynamicArray.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long arrayListStream() {
+        return arrayList.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long arrayDequeStream() {
+        return arrayDeque.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    /**
+     * A repeated lookup key: the hash is cached after the first call.
+     */
+    @Benchmark
+    public int dynamicArrayHashCode() {
+        return dynamicArray.hashCode();
+    }
+
+    @Benchmark
+    public int arrayListHashCode() {
+        return arrayList.hashCode();
+    }
+}
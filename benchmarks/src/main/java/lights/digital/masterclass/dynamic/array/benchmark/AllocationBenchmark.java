@@ -0,0 +1,56 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.ArrayPool;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import lights.digital.masterclass.dynamic.array.GrowthPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived arrays, built and thrown away once per simulated request, with and without an {@link ArrayPool}.
+ * Run with {@code -prof gc} to compare the allocation rate and the number of collections.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AllocationBenchmark {
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private ArrayPool arrayPool;
+    private Integer[] values;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        arrayPool = new ArrayPool();
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+    }
+
+    @Benchmark
+    public int unpooledRequest() {
+        DynamicArrayImplementation<Integer> dynamicArray = new DynamicArrayImplementation<>(Integer.class);
+        for (Integer value : values) {
+            dynamicArray.push(value);
+        }
+        return dynamicArray.size();
+    }
+
+    @Benchmark
+    public int pooledRequest() {
+        try (DynamicArrayImplementation<Integer> dynamicArray =
+                     new DynamicArrayImplementation<>(Integer.class, 1, GrowthPolicy.defaultPolicy(), arrayPool)) {
+            for (Integer value : values) {
+                dynamicArray.push(value);
+            }
+            return dynamicArray.size();
+        }
+    }
+}
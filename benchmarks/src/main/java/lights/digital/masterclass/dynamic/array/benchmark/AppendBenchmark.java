@@ -0,0 +1,147 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.ChunkedDynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appending and removing at the tail of {@link DynamicArrayImplementation}, {@link ArrayList} and {@link ArrayDeque}.
+ * {@link ChunkedDynamicArray} takes part in {@code push} to show growth without copying, and
+ * {@code dynamicArrayPushWithMetrics} shows the cost of enabled metrics against {@code dynamicArrayPush}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AppendBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private Integer[] elements;
+    private List<Integer> elementsList;
+
+    private DynamicArray<Integer> filledDynamicArray;
+    private ArrayList<Integer> filledArrayList;
+    private ArrayDeque<Integer> filledArrayDeque;
+
+    @Setup(Level.Trial)
+    public void setUpElements() {
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        elementsList = Arrays.asList(elements);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpFilled() {
+        filledDynamicArray = new DynamicArrayImplementation<>(Integer.class);
+        filledDynamicArray.addAll(elements);
+        filledArrayList = new ArrayList<>(elementsList);
+        filledArrayDeque = new ArrayDeque<>(elementsList);
+    }
+
+    @Benchmark
+    public DynamicArray<Integer> dynamicArrayPush() {
+        DynamicArray<Integer> dynamicArray = new DynamicArrayImplementation<>(Integer.class);
+        for (Integer element : elements) {
+            dynamicArray.push(element);
+        }
+        return dynamicArray;
+    }
+
+    @Benchmark
+    public DynamicArray<Integer> dynamicArrayPushWithMetrics() {
+        DynamicArrayImplementation<Integer> dynamicArray = new DynamicArrayImplementation<>(Integer.class);
+        dynamicArray.enableMetrics();
+        for (Integer element : elements) {
+            dynamicArray.push(element);
+        }
+        return dynamicArray;
+    }
+
+    @Benchmark
+    public DynamicArray<Integer> chunkedDynamicArrayPush() {
+        DynamicArray<Integer> dynamicArray = new ChunkedDynamicArray<>(Integer.class);
+        for (Integer element : elements) {
+            dynamicArray.push(element);
+        }
+        return dynamicArray;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> arrayListPush() {
+        ArrayList<Integer> arrayList = new ArrayList<>(1);
+        for (Integer element : elements) {
+            arrayList.add(element);
+        }
+        return arrayList;
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> arrayDequePush() {
+        ArrayDeque<Integer> arrayDeque = new ArrayDeque<>(1);
+        for (Integer element : elements) {
+            arrayDeque.addLast(element);
+        }
+        return arrayDeque;
+    }
+
+    @Benchmark
+    public DynamicArray<Integer> dynamicArrayAddAll() {
+        DynamicArray<Integer> dynamicArray = new DynamicArrayImplementation<>(Integer.class);
+        dynamicArray.addAll(elements);
+        return dynamicArray;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> arrayListAddAll() {
+        ArrayList<Integer> arrayList = new ArrayList<>(1);
+        arrayList.addAll(elementsList);
+        return arrayList;
+    }
+
+    @Benchmark
+    public ArrayDeque<Integer> arrayDequeAddAll() {
+        ArrayDeque<Integer> arrayDeque = new ArrayDeque<>(1);
+        arrayDeque.addAll(elementsList);
+        return arrayDeque;
+    }
+
+    @Benchmark
+    public int dynamicArrayPopAll() {
+        int sum = 0;
+        while (!filledDynamicArray.isEmpty()) {
+            sum += filledDynamicArray.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int arrayListPopAll() {
+        int sum = 0;
+        while (!filledArrayList.isEmpty()) {
+            sum += filledArrayList.remove(filledArrayList.size() - 1);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int arrayDequePopAll() {
+        int sum = 0;
+        while (!filledArrayDeque.isEmpty()) {
+            sum += filledArrayDeque.pollLast();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,97 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.DynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-place sorting and transformations of a {@link DynamicArray}, next to copying the elements out of
+ * the array, sorting them and pushing them back, and to the equivalent {@link ArrayList} operations.
+ * The parallel variants only beat the sequential ones on machines with more than one core.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkOperationBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private Integer[] values;
+    private DynamicArrayImplementation<Integer> dynamicArray;
+    private ArrayList<Integer> arrayList;
+
+    @Setup(Level.Trial)
+    public void setUpValues() {
+        Random random = new Random(19);
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+
+        arrayList = new ArrayList<>(List.of(values));
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        dynamicArray = new DynamicArrayImplementation<>(Integer.class, size);
+        dynamicArray.addAll(values, 0, size);
+    }
+
+    @Benchmark
+    public DynamicArray<Integer> copyOutSortAndPushBack() {
+        Integer[] elements = dynamicArray.takeN(size);
+        Arrays.sort(elements, Comparator.naturalOrder());
+        dynamicArray.clear();
+        dynamicArray.addAll(elements, 0, size);
+        return dynamicArray;
+    }
+
+    @Benchmark
+    public DynamicArray<Integer> sort() {
+        dynamicArray.sort(Comparator.naturalOrder());
+        return dynamicArray;
+    }
+
+    @Benchmark
+    public DynamicArray<Integer> parallelSort() {
+        dynamicArray.parallelSort(Comparator.naturalOrder());
+        return dynamicArray;
+    }
+
+    @Benchmark
+    public DynamicArray<Integer> parallelPrefix() {
+        dynamicArray.parallelPrefix(Integer::sum);
+        return dynamicArray;
+    }
+
+    @Benchmark
+    public DynamicArray<Long> map() {
+        return dynamicArray.map(el -> el * 3L, Long.class);
+    }
+
+    @Benchmark
+    public List<Long> arrayListStreamMap() {
+        return arrayList.stream().map(el -> el * 3L).toList();
+    }
+
+    @Benchmark
+    public DynamicArray<Integer> filter() {
+        return dynamicArray.filter(el -> (el & 1) == 0);
+    }
+
+    @Benchmark
+    public List<Integer> arrayListStreamFilter() {
+        return arrayList.stream().filter(el -> (el & 1) == 0).toList();
+    }
+}
@@ -0,0 +1,91 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.DynamicArrayChannel;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handing elements from two producers to one consumer through a {@link DynamicArrayChannel},
+ * taking them one at a time or in batches, and through an {@link ArrayBlockingQueue}.
+ * The throughput of the producer methods is the number of handed-over elements.
+ * Waits are timed, so that no thread stays blocked once an iteration ends.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ChannelBenchmark {
+
+    private static final int CAPACITY = 1024;
+    private static final int BATCH = 256;
+    private static final long WAIT_MILLIS = 10;
+
+    private static final Integer ELEMENT = 42;
+
+    private DynamicArrayChannel<Integer> channel;
+    private ArrayBlockingQueue<Integer> queue;
+
+    @State(Scope.Thread)
+    public static class Batch {
+        public final DynamicArrayImplementation<Integer> elements =
+                new DynamicArrayImplementation<>(Integer.class, BATCH);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        channel = new DynamicArrayChannel<>(Integer.class, CAPACITY);
+        queue = new ArrayBlockingQueue<>(CAPACITY);
+    }
+
+    @Benchmark
+    @Group("channel")
+    @GroupThreads(2)
+    public boolean channelProducer() throws InterruptedException {
+        return channel.offer(ELEMENT, WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("channel")
+    @GroupThreads(1)
+    public Integer channelConsumer() throws InterruptedException {
+        return channel.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("channelBatch")
+    @GroupThreads(2)
+    public boolean channelBatchProducer() throws InterruptedException {
+        return channel.offer(ELEMENT, WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("channelBatch")
+    @GroupThreads(1)
+    public int channelBatchConsumer(Batch batch) {
+        int drained = channel.drainTo(batch.elements, BATCH);
+        if (drained == 0) {
+            Thread.yield();
+        }
+        batch.elements.clear();
+        return drained;
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue")
+    @GroupThreads(2)
+    public boolean arrayBlockingQueueProducer() throws InterruptedException {
+        return queue.offer(ELEMENT, WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("arrayBlockingQueue")
+    @GroupThreads(1)
+    public Integer arrayBlockingQueueConsumer() throws InterruptedException {
+        return queue.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,70 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.ColumnarDynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Summing one component of every record, stored as an array of records and column by column.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColumnarBenchmark {
+
+    public record Trade(int id, long timestamp, double price, long quantity, String symbol) {
+    }
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private DynamicArray<Trade> rows;
+    private ColumnarDynamicArray<Trade> columns;
+    private int price;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rows = new DynamicArrayImplementation<>(Trade.class, size);
+        columns = new ColumnarDynamicArray<>(Trade.class, size);
+
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            Trade trade = new Trade(i, 1_000L * i, random.nextDouble() * 100, random.nextInt(1_000), "S" + (i % 100));
+            rows.push(trade);
+            columns.push(trade);
+        }
+
+        price = columns.columnIndex("price");
+    }
+
+    @Benchmark
+    public double rowsPriceSum() {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += rows.get(i).price();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double columnPriceSum() {
+        return columns.doubleColumn(price).sum();
+    }
+
+    @Benchmark
+    public double flyweightPriceSum() {
+        ColumnarDynamicArray<Trade>.Row row = columns.row();
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += row.moveTo(i).getDouble(price);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,84 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.CompressedLongDynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random and sequential reads of monotonic timestamps from the block-compressed array and from
+ * an array of boxed {@link Long} values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompressionBenchmark {
+
+    private static final int READS = 1000;
+
+    @Param({"100000", "10000000"})
+    public int size;
+
+    private CompressedLongDynamicArray compressed;
+    private DynamicArray<Long> boxed;
+    private int[] positions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        compressed = new CompressedLongDynamicArray(size);
+        boxed = new DynamicArrayImplementation<>(Long.class, size);
+
+        Random random = new Random(42);
+        long timestamp = 1_700_000_000_000L;
+        for (int i = 0; i < size; i++) {
+            timestamp += 1_000 + random.nextInt(50);
+            compressed.push(timestamp);
+            boxed.push(timestamp);
+        }
+        compressed.trimToSize();
+
+        positions = new int[READS];
+        for (int i = 0; i < READS; i++) {
+            positions[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public long compressedRandomGet() {
+        long sum = 0;
+        for (int position : positions) {
+            sum += compressed.get(position);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long boxedRandomGet() {
+        long sum = 0;
+        for (int position : positions) {
+            sum += boxed.get(position);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long compressedSum() {
+        return compressed.sum();
+    }
+
+    @Benchmark
+    public long compressedStreamSum() {
+        return compressed.stream().sum();
+    }
+
+    @Benchmark
+    public long boxedStreamSum() {
+        return boxed.stream().mapToLong(Long::longValue).sum();
+    }
+}
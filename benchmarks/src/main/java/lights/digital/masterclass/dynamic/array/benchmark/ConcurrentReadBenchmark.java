@@ -0,0 +1,134 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.DynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import lights.digital.masterclass.dynamic.array.StampedDynamicArray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Read throughput of {@link StampedDynamicArray} against a {@code synchronized} and a
+ * {@link ReentrantReadWriteLock} guarded {@link DynamicArrayImplementation}.
+ * <p>
+ * Run with different thread counts to see how reads scale with cores, for example
+ * {@code java -jar benchmarks.jar ConcurrentReadBenchmark -t 1} and then {@code -t 2}, {@code -t 4}, ...
+ * The {@code *ReadMostly} groups add one writer which keeps calling {@code set} next to seven readers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentReadBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private DynamicArray<Integer> stampedDynamicArray;
+    private DynamicArray<Integer> synchronizedDynamicArray;
+    private DynamicArray<Integer> readWriteLockDynamicArray;
+    private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stampedDynamicArray = new StampedDynamicArray<>(Integer.class, size);
+        synchronizedDynamicArray = new DynamicArrayImplementation<>(Integer.class, size);
+        readWriteLockDynamicArray = new DynamicArrayImplementation<>(Integer.class, size);
+
+        for (int i = 0; i < size; i++) {
+            stampedDynamicArray.push(i);
+            synchronizedDynamicArray.push(i);
+            readWriteLockDynamicArray.push(i);
+        }
+    }
+
+    private int randomIndex() {
+        return ThreadLocalRandom.current().nextInt(size);
+    }
+
+    private Integer readWriteLockGet(int index) {
+        readWriteLock.readLock().lock();
+        try {
+            return readWriteLockDynamicArray.get(index);
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+    }
+
+    private Integer readWriteLockSet(int index) {
+        readWriteLock.writeLock().lock();
+        try {
+            return readWriteLockDynamicArray.set(index, index);
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    @Benchmark
+    public Integer stampedGet() {
+        return stampedDynamicArray.get(randomIndex());
+    }
+
+    @Benchmark
+    public Integer synchronizedGet() {
+        int index = randomIndex();
+        synchronized (synchronizedDynamicArray) {
+            return synchronizedDynamicArray.get(index);
+        }
+    }
+
+    @Benchmark
+    public Integer readWriteLockGet() {
+        return readWriteLockGet(randomIndex());
+    }
+
+    @Benchmark
+    @Group("stampedReadMostly")
+    @GroupThreads(7)
+    public Integer stampedReadMostlyGet() {
+        return stampedDynamicArray.get(randomIndex());
+    }
+
+    @Benchmark
+    @Group("stampedReadMostly")
+    @GroupThreads(1)
+    public Integer stampedReadMostlySet() {
+        int index = randomIndex();
+        return stampedDynamicArray.set(index, index);
+    }
+
+    @Benchmark
+    @Group("synchronizedReadMostly")
+    @GroupThreads(7)
+    public Integer synchronizedReadMostlyGet() {
+        return synchronizedGet();
+    }
+
+    @Benchmark
+    @Group("synchronizedReadMostly")
+    @GroupThreads(1)
+    public Integer synchronizedReadMostlySet() {
+        int index = randomIndex();
+        synchronized (synchronizedDynamicArray) {
+            return synchronizedDynamicArray.set(index, index);
+        }
+    }
+
+    @Benchmark
+    @Group("readWriteLockReadMostly")
+    @GroupThreads(7)
+    public Integer readWriteLockReadMostlyGet() {
+        return readWriteLockGet(randomIndex());
+    }
+
+    @Benchmark
+    @Group("readWriteLockReadMostly")
+    @GroupThreads(1)
+    public Integer readWriteLockReadMostlySet() {
+        return readWriteLockSet(randomIndex());
+    }
+}
@@ -0,0 +1,65 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.CircularDynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import lights.digital.masterclass.dynamic.array.DynamicDeque;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queue usage: take the first element and append it again at the back.
+ * {@link DynamicArrayImplementation} has to shift the whole array on every dequeue,
+ * while {@link CircularDynamicArray} and {@link ArrayDeque} only move their head.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DequeBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private DynamicArray<Integer> dynamicArray;
+    private DynamicDeque<Integer> circularDynamicArray;
+    private ArrayDeque<Integer> arrayDeque;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dynamicArray = new DynamicArrayImplementation<>(Integer.class);
+        circularDynamicArray = new CircularDynamicArray<>(Integer.class);
+        arrayDeque = new ArrayDeque<>();
+
+        for (int i = 0; i < size; i++) {
+            dynamicArray.push(i);
+            circularDynamicArray.push(i);
+            arrayDeque.addLast(i);
+        }
+    }
+
+    @Benchmark
+    public Integer dynamicArrayDeleteFirst() {
+        Integer first = dynamicArray.delete(0);
+        dynamicArray.push(first);
+        return first;
+    }
+
+    @Benchmark
+    public Integer circularDynamicArrayPopFirst() {
+        Integer first = circularDynamicArray.popFirst();
+        circularDynamicArray.push(first);
+        return first;
+    }
+
+    @Benchmark
+    public Integer arrayDequePollFirst() {
+        Integer first = arrayDeque.pollFirst();
+        arrayDeque.addLast(first);
+        return first;
+    }
+}
@@ -0,0 +1,77 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.DynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import lights.digital.masterclass.dynamic.array.ElementCodec;
+import lights.digital.masterclass.dynamic.array.MappedDynamicArray;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starting up from an array stored in a file: {@link MappedDynamicArray} only maps the file,
+ * while an on-heap {@link DynamicArrayImplementation} has to read and push every element.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappedBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    public int size;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("mapped-benchmark", ".bin");
+        Files.delete(file);
+
+        try (MappedDynamicArray<Integer> array = new MappedDynamicArray<>(file, ElementCodec.INT, size)) {
+            for (int i = 0; i < size; i++) {
+                array.push(i);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Integer mappedDynamicArrayReopen() throws IOException {
+        try (MappedDynamicArray<Integer> array = new MappedDynamicArray<>(file, ElementCodec.INT)) {
+            return array.get(array.size() - 1);
+        }
+    }
+
+    @Benchmark
+    public Integer dynamicArrayRebuildFromFile() throws IOException {
+        DynamicArray<Integer> array = new DynamicArrayImplementation<>(Integer.class, size);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            channel.position(32); // skip the header of the mapped file
+            while (array.size() < size && channel.read(buffer) > 0) {
+                buffer.flip();
+                while (buffer.remaining() >= Integer.BYTES && array.size() < size) {
+                    array.push(buffer.getInt());
+                }
+                buffer.compact();
+            }
+        }
+
+        return array.get(array.size() - 1);
+    }
+}
@@ -0,0 +1,85 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.DynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Operations which move or reallocate the backing array of {@link DynamicArrayImplementation} and {@link ArrayList}.
+ * Every benchmark restores the original size, so consecutive invocations measure the same amount of work.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MutationBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private DynamicArray<Integer> dynamicArray;
+    private ArrayList<Integer> arrayList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dynamicArray = new DynamicArrayImplementation<>(Integer.class);
+        arrayList = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            dynamicArray.push(i);
+            arrayList.add(i);
+        }
+    }
+
+    @Benchmark
+    public Integer dynamicArrayDeleteMiddle() {
+        Integer deleted = dynamicArray.delete(size / 2);
+        dynamicArray.push(deleted);
+        return deleted;
+    }
+
+    @Benchmark
+    public Integer arrayListDeleteMiddle() {
+        Integer deleted = arrayList.remove(size / 2);
+        arrayList.add(deleted);
+        return deleted;
+    }
+
+    @Benchmark
+    public int dynamicArrayRemoveRangeFromFront() {
+        int windowSize = size / 10 + 1;
+        Integer[] window = dynamicArray.takeN(windowSize);
+        dynamicArray.removeRange(0, windowSize);
+        dynamicArray.addAll(window);
+        return dynamicArray.size();
+    }
+
+    @Benchmark
+    public int arrayListRemoveRangeFromFront() {
+        int windowSize = size / 10 + 1;
+        Integer[] window = arrayList.subList(0, windowSize).toArray(new Integer[0]);
+        arrayList.subList(0, windowSize).clear();
+        arrayList.addAll(Arrays.asList(window));
+        return arrayList.size();
+    }
+
+    @Benchmark
+    public int dynamicArrayEnsureCapacityThenTrimToSize() {
+        dynamicArray.ensureCapacity(dynamicArray.capacity() + size / 2 + 1);
+        dynamicArray.trimToSize();
+        return dynamicArray.capacity();
+    }
+
+    @Benchmark
+    public int arrayListEnsureCapacityThenTrimToSize() {
+        arrayList.ensureCapacity(size + size / 2 + 1);
+        arrayList.trimToSize();
+        return arrayList.size();
+    }
+}
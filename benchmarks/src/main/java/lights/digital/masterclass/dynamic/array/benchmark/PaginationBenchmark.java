@@ -0,0 +1,71 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.DynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading one page from the end of a large array through {@code dropN}/{@code takeN} copies,
+ * through a {@code slice} view and through {@link ArrayList#subList}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PaginationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"100000", "5000000"})
+    public int size;
+
+    private DynamicArray<Integer> dynamicArray;
+    private ArrayList<Integer> arrayList;
+
+    private int pageStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dynamicArray = new DynamicArrayImplementation<>(Integer.class);
+        arrayList = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            dynamicArray.push(i);
+            arrayList.add(i);
+        }
+
+        pageStart = size - 2 * PAGE_SIZE;
+    }
+
+    @Benchmark
+    public long copyPage() {
+        Integer[] prefix = dynamicArray.takeN(pageStart + PAGE_SIZE);
+        return sum(Arrays.asList(prefix).subList(pageStart, pageStart + PAGE_SIZE));
+    }
+
+    @Benchmark
+    public long slicePage() {
+        return dynamicArray.slice(pageStart, pageStart + PAGE_SIZE).stream()
+                .mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long arrayListSubListPage() {
+        return sum(arrayList.subList(pageStart, pageStart + PAGE_SIZE));
+    }
+
+    private static long sum(List<Integer> page) {
+        long sum = 0;
+        for (Integer element : page) {
+            sum += element;
+        }
+        return sum;
+    }
+}
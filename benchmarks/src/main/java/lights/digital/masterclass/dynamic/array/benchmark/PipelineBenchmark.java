@@ -0,0 +1,72 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.DynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A short filter, map and limit chain run through {@code stream()} and through the fused {@code lazy()} pipeline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PipelineBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private DynamicArray<Integer> dynamicArray;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dynamicArray = new DynamicArrayImplementation<>(Integer.class, size);
+        for (int i = 0; i < size; i++) {
+            dynamicArray.push(i);
+        }
+    }
+
+    @Benchmark
+    public List<Long> streamFilterMapLimit() {
+        return dynamicArray.stream()
+                .filter(i -> (i & 3) == 0)
+                .map(i -> i * 3L)
+                .limit(size / 8)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public DynamicArray<Long> lazyFilterMapLimit() {
+        return dynamicArray.lazy()
+                .filter(i -> (i & 3) == 0)
+                .map(i -> i * 3L, Long.class)
+                .limit(size / 8)
+                .toDynamicArray();
+    }
+
+    @Benchmark
+    public long streamCount() {
+        return dynamicArray.stream().filter(i -> i % 3 == 0).count();
+    }
+
+    @Benchmark
+    public int lazyCount() {
+        return dynamicArray.lazy().filter(i -> i % 3 == 0).count();
+    }
+
+    @Benchmark
+    public int streamReduce() {
+        return dynamicArray.stream().map(i -> i ^ 5).reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int lazyReduce() {
+        return dynamicArray.lazy().map(i -> i ^ 5, Integer.class).reduce(0, Integer::sum);
+    }
+}
@@ -0,0 +1,131 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.DoubleDynamicArray;
+import lights.digital.masterclass.dynamic.array.DoubleDynamicArrayImplementation;
+import lights.digital.masterclass.dynamic.array.IntDynamicArray;
+import lights.digital.masterclass.dynamic.array.IntDynamicArrayImplementation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search and aggregation on the primitive arrays with scalar and with vectorized kernels.
+ * The arrays pick their kernels when the JVM starts, so both variants run in their own forks:
+ * the vector forks add the {@code jdk.incubator.vector} module and the scalar forks do not.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class PrimitiveAggregationBenchmark {
+
+    private static final String VECTOR_MODULE = "--add-modules=jdk.incubator.vector";
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private IntDynamicArray intArray;
+    private DoubleDynamicArray doubleArray;
+    private int threshold;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        intArray = new IntDynamicArrayImplementation(size);
+        doubleArray = new DoubleDynamicArrayImplementation(size);
+
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            int value = random.nextInt(1_000_000);
+            intArray.push(value);
+            doubleArray.push(value);
+        }
+
+        threshold = 900_000;
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int scalarIntIndexOfMissing() {
+        return intArray.indexOf(-1);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public int vectorIntIndexOfMissing() {
+        return intArray.indexOf(-1);
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int scalarIntSum() {
+        return intArray.sum();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public int vectorIntSum() {
+        return intArray.sum();
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int scalarIntMax() {
+        return intArray.max();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public int vectorIntMax() {
+        return intArray.max();
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int scalarIntCountGreaterThan() {
+        return intArray.countGreaterThan(threshold);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public int vectorIntCountGreaterThan() {
+        return intArray.countGreaterThan(threshold);
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int[] scalarIntIndexesGreaterThan() {
+        return intArray.indexesGreaterThan(threshold);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public int[] vectorIntIndexesGreaterThan() {
+        return intArray.indexesGreaterThan(threshold);
+    }
+
+    @Benchmark
+    @Fork(1)
+    public double scalarDoubleSum() {
+        return doubleArray.sum();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public double vectorDoubleSum() {
+        return doubleArray.sum();
+    }
+
+    @Benchmark
+    @Fork(1)
+    public double scalarDoubleMin() {
+        return doubleArray.min();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = VECTOR_MODULE)
+    public double vectorDoubleMin() {
+        return doubleArray.min();
+    }
+}
@@ -0,0 +1,94 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.DynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import lights.digital.masterclass.dynamic.array.DynamicArraySerializer;
+import lights.digital.masterclass.dynamic.array.ElementCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checkpointing an array to a file and reading it back with {@link DynamicArraySerializer}
+ * and with Java serialization of an {@link ArrayList} holding the same elements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    @Param({"100000", "10000000"})
+    public int size;
+
+    private DynamicArray<Long> dynamicArray;
+    private ArrayList<Long> arrayList;
+    private DynamicArraySerializer<Long> serializer;
+
+    private Path serializerFile;
+    private Path javaSerializationFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dynamicArray = new DynamicArrayImplementation<>(Long.class);
+        arrayList = new ArrayList<>();
+        serializer = new DynamicArraySerializer<>(ElementCodec.LONG);
+
+        for (long i = 0; i < size; i++) {
+            dynamicArray.push(i);
+            arrayList.add(i);
+        }
+
+        serializerFile = Files.createTempFile("serializer-benchmark", ".bin");
+        javaSerializationFile = Files.createTempFile("java-serialization-benchmark", ".bin");
+        serializerWrite();
+        javaSerializationWrite();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(serializerFile);
+        Files.deleteIfExists(javaSerializationFile);
+    }
+
+    @Benchmark
+    public long serializerWrite() throws IOException {
+        try (FileChannel channel = FileChannel.open(serializerFile,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            serializer.write(dynamicArray, channel);
+            return channel.position();
+        }
+    }
+
+    @Benchmark
+    public int serializerRead() throws IOException {
+        try (FileChannel channel = FileChannel.open(serializerFile, StandardOpenOption.READ)) {
+            return serializer.read(channel).size();
+        }
+    }
+
+    @Benchmark
+    public long javaSerializationWrite() throws IOException {
+        try (ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(javaSerializationFile), 1 << 20))) {
+            output.writeObject(arrayList);
+        }
+        return Files.size(javaSerializationFile);
+    }
+
+    @Benchmark
+    public int javaSerializationRead() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(
+                Files.newInputStream(javaSerializationFile), 1 << 20))) {
+            return ((ArrayList<?>) input.readObject()).size();
+        }
+    }
+}
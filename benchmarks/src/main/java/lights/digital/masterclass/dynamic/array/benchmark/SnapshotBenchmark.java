@@ -0,0 +1,66 @@
+package lights.digital.masterclass.dynamic.array.benchmark;
+
+import lights.digital.masterclass.dynamic.array.DynamicArray;
+import lights.digital.masterclass.dynamic.array.DynamicArrayImplementation;
+import lights.digital.masterclass.dynamic.array.PersistentDynamicArray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Taking an immutable {@code copy()} followed by one {@code set}, which is what a writer does
+ * when it hands a fresh snapshot to readers after every update.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private DynamicArray<Integer> dynamicArray;
+    private DynamicArray<Integer> persistentDynamicArray;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dynamicArray = new DynamicArrayImplementation<>(Integer.class);
+        persistentDynamicArray = new PersistentDynamicArray<>(Integer.class);
+
+        for (int i = 0; i < size; i++) {
+            dynamicArray.push(i);
+            persistentDynamicArray.push(i);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> dynamicArrayCopyThenSet() {
+        List<Integer> snapshot = dynamicArray.copy();
+        int index = ThreadLocalRandom.current().nextInt(size);
+        dynamicArray.set(index, index);
+        return snapshot;
+    }
+
+    @Benchmark
+    public List<Integer> persistentDynamicArrayCopyThenSet() {
+        List<Integer> snapshot = persistentDynamicArray.copy();
+        int index = ThreadLocalRandom.current().nextInt(size);
+        persistentDynamicArray.set(index, index);
+        return snapshot;
+    }
+
+    @Benchmark
+    public Integer persistentDynamicArrayGet() {
+        return persistentDynamicArray.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    public Integer dynamicArrayGet() {
+        return dynamicArray.get(ThreadLocalRandom.current().nextInt(size));
+    }
+}
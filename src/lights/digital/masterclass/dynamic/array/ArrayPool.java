@@ -0,0 +1,141 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+/**
+ * Pool of backing arrays for short-lived dynamic arrays.
+ * <p>
+ * Pooled arrays have power-of-two lengths, from {@value #MIN_POOLED_LENGTH} up to the maximum pooled
+ * length, so every request is rounded up to its size class. Each thread keeps its own small cache per
+ * size class, so acquiring and releasing never contend with other threads. An array released on one
+ * thread can only be reused by that thread. Requests above the maximum pooled length are allocated
+ * exactly and never pooled, and arrays which do not fit in a full cache are left to the garbage collector.
+ * <p>
+ * A thread retains at most {@code arraysPerSizeClass} arrays of every size class.
+ */
+public final class ArrayPool {
+
+    public static final int DEFAULT_MAX_POOLED_LENGTH = 1 << 20;
+    public static final int DEFAULT_ARRAYS_PER_SIZE_CLASS = 4;
+
+    static final int MIN_POOLED_LENGTH = 16;
+    private static final int MIN_SIZE_CLASS_SHIFT = Integer.numberOfTrailingZeros(MIN_POOLED_LENGTH);
+
+    private final int maxPooledLength;
+    private final int arraysPerSizeClass;
+    private final ThreadLocal<Cache> caches;
+
+    /**
+     * The arrays released by one thread, grouped by size class.
+     */
+    private static final class Cache {
+
+        private final Object[][][] arrays;
+        private final int[] counts;
+
+        private Cache(int sizeClasses, int arraysPerSizeClass) {
+            this.arrays = new Object[sizeClasses][arraysPerSizeClass][];
+            this.counts = new int[sizeClasses];
+        }
+    }
+
+    public ArrayPool() {
+        this(DEFAULT_MAX_POOLED_LENGTH, DEFAULT_ARRAYS_PER_SIZE_CLASS);
+    }
+
+    /**
+     * @param maxPooledLength    The longest array the pool keeps, rounded down to a power of two
+     * @param arraysPerSizeClass The number of arrays of one size class a thread keeps
+     * @throws IllegalArgumentException if {@code maxPooledLength} is less than {@value #MIN_POOLED_LENGTH}
+     *                                  or {@code arraysPerSizeClass} is less than 1
+     */
+    public ArrayPool(int maxPooledLength, int arraysPerSizeClass) {
+        if (maxPooledLength < MIN_POOLED_LENGTH) {
+            throw new IllegalArgumentException("The value of argument maxPooledLength " +
+                    "cannot be less than " + MIN_POOLED_LENGTH + "!");
+        }
+
+        if (arraysPerSizeClass < 1) {
+            throw new IllegalArgumentException("The value of argument arraysPerSizeClass " +
+                    "cannot be less than 1!");
+        }
+
+        this.maxPooledLength = Integer.highestOneBit(maxPooledLength);
+        this.arraysPerSizeClass = arraysPerSizeClass;
+
+        int sizeClasses = sizeClass(this.maxPooledLength) + 1;
+        this.caches = ThreadLocal.withInitial(() -> new Cache(sizeClasses, arraysPerSizeClass));
+    }
+
+    private static int sizeClass(int powerOfTwoLength) {
+        return Integer.numberOfTrailingZeros(powerOfTwoLength) - MIN_SIZE_CLASS_SHIFT;
+    }
+
+    /**
+     * @return The length of the arrays {@link #acquire} returns for {@code minLength}
+     */
+    public int lengthFor(int minLength) {
+        if (minLength > maxPooledLength) {
+            return minLength;
+        }
+
+        return Math.max(MIN_POOLED_LENGTH, Integer.highestOneBit(Math.max(minLength - 1, 1)) << 1);
+    }
+
+    /**
+     * Take an array of {@code clazz} elements which has at least {@code minLength} slots, all of them null.
+     *
+     * @throws IllegalArgumentException if {@code minLength} is negative
+     */
+    public <T> T[] acquire(Class<T> clazz, int minLength) {
+        if (minLength < 0) {
+            throw new IllegalArgumentException("The value of argument minLength " +
+                    "cannot be a negative number!");
+        }
+
+        int length = lengthFor(minLength);
+        if (length <= maxPooledLength) {
+            Cache cache = caches.get();
+            int sizeClass = sizeClass(length);
+            Object[][] arrays = cache.arrays[sizeClass];
+
+            for (int i = cache.counts[sizeClass] - 1; i >= 0; i--) {
+                if (arrays[i].getClass().getComponentType() == clazz) {
+                    T[] array = (T[]) arrays[i];
+                    int last = --cache.counts[sizeClass];
+                    arrays[i] = arrays[last];
+                    arrays[last] = null;
+                    return array;
+                }
+            }
+        }
+
+        return (T[]) Array.newInstance(clazz, length);
+    }
+
+    /**
+     * Give {@code array} back to the pool of the current thread. Only its first {@code usedLength}
+     * slots are cleared, so all slots after them must already be null.
+     * Arrays which were not acquired from a pool with a size class of their length are ignored.
+     */
+    public void release(Object[] array, int usedLength) {
+        if (array == null) {
+            return;
+        }
+
+        int length = array.length;
+        if (length < MIN_POOLED_LENGTH || length > maxPooledLength || Integer.bitCount(length) != 1) {
+            return;
+        }
+
+        Cache cache = caches.get();
+        int sizeClass = sizeClass(length);
+        int count = cache.counts[sizeClass];
+        if (count < arraysPerSizeClass) {
+            Arrays.fill(array, 0, Math.min(usedLength, length), null);
+            cache.arrays[sizeClass][count] = array;
+            cache.counts[sizeClass] = count + 1;
+        }
+    }
+}
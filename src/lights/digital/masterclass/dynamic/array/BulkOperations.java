@@ -0,0 +1,168 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Sorting, prefix and transformation kernels over the first {@code size} slots of an array.
+ * <p>
+ * The parallel kernels split the range into chunks of {@value #SEQUENTIAL_CUTOFF} elements and run
+ * them in the common {@link ForkJoinPool}. A range of a single chunk runs on the calling thread,
+ * so small arrays never pay for forking.
+ */
+final class BulkOperations {
+
+    static final int SEQUENTIAL_CUTOFF = 1 << 13;
+
+    private BulkOperations() {
+    }
+
+    @FunctionalInterface
+    private interface ChunkAction {
+        void run(int chunk, int fromIndex, int toIndex);
+    }
+
+    /**
+     * Run {@code action} on every chunk of the range, recursively splitting the chunks in halves.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+
+        private final int size;
+        private final int fromChunk;
+        private final int toChunk;
+        private final ChunkAction action;
+
+        private ChunkTask(int size, int fromChunk, int toChunk, ChunkAction action) {
+            this.size = size;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                runChunk(size, fromChunk, action);
+                return;
+            }
+
+            int middle = (fromChunk + toChunk) >>> 1;
+            invokeAll(new ChunkTask(size, fromChunk, middle, action),
+                    new ChunkTask(size, middle, toChunk, action));
+        }
+    }
+
+    private static int chunkCount(int size) {
+        return Math.max(1, (size + SEQUENTIAL_CUTOFF - 1) / SEQUENTIAL_CUTOFF);
+    }
+
+    private static void runChunk(int size, int chunk, ChunkAction action) {
+        int fromIndex = chunk * SEQUENTIAL_CUTOFF;
+        action.run(chunk, fromIndex, Math.min(fromIndex + SEQUENTIAL_CUTOFF, size));
+    }
+
+    private static void forEachChunk(int size, ChunkAction action) {
+        int chunks = chunkCount(size);
+        if (chunks == 1) {
+            runChunk(size, 0, action);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ChunkTask(size, 0, chunks, action));
+        }
+    }
+
+    static <T> void parallelSort(T[] array, int size, Comparator<? super T> comparator) {
+        if (size <= SEQUENTIAL_CUTOFF) {
+            Arrays.sort(array, 0, size, comparator);
+        } else {
+            Arrays.parallelSort(array, 0, size, comparator);
+        }
+    }
+
+    /**
+     * Replace every element with the result of folding {@code operator} over it and all elements before it.
+     *
+     * @throws IllegalArgumentException if {@code operator} returns null, in which case part of the range
+     *                                  may already hold prefix results
+     */
+    static <T> void parallelPrefix(T[] array, int size, BinaryOperator<T> operator) {
+        BinaryOperator<T> checked = (left, right) -> requireResult(operator.apply(left, right), "parallelPrefix");
+
+        if (size <= SEQUENTIAL_CUTOFF) {
+            for (int i = 1; i < size; i++) {
+                array[i] = checked.apply(array[i - 1], array[i]);
+            }
+        } else {
+            Arrays.parallelPrefix(array, 0, size, checked);
+        }
+    }
+
+    /**
+     * @return A new array of exactly {@code size} elements holding the results of {@code mapper}
+     * @throws IllegalArgumentException if {@code mapper} returns null
+     */
+    static <T, R> R[] map(T[] array, int size, Function<? super T, ? extends R> mapper, Class<R> resultClass) {
+        R[] result = (R[]) Array.newInstance(resultClass, size);
+
+        forEachChunk(size, (chunk, fromIndex, toIndex) -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                result[i] = requireResult(mapper.apply(array[i]), "map");
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Every chunk first counts its matching elements, so the result is allocated with its exact length
+     * and each chunk then copies its elements to its own offset in it.
+     *
+     * @return A new array holding exactly the elements which match {@code filter}, in their order
+     */
+    static <T> T[] filter(T[] array, int size, Predicate<? super T> filter, Class<T> clazz) {
+        boolean[] matches = new boolean[size];
+        int chunks = chunkCount(size);
+        int[] offsets = new int[chunks + 1];
+
+        forEachChunk(size, (chunk, fromIndex, toIndex) -> {
+            int matched = 0;
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (filter.test(array[i])) {
+                    matches[i] = true;
+                    matched++;
+                }
+            }
+            offsets[chunk + 1] = matched;
+        });
+
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            offsets[chunk + 1] += offsets[chunk];
+        }
+
+        T[] result = (T[]) Array.newInstance(clazz, offsets[chunks]);
+        forEachChunk(size, (chunk, fromIndex, toIndex) -> {
+            int writeIndex = offsets[chunk];
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (matches[i]) {
+                    result[writeIndex++] = array[i];
+                }
+            }
+        });
+
+        return result;
+    }
+
+    private static <R> R requireResult(R result, String methodName) {
+        if (result == null) {
+            throw new IllegalArgumentException("The function passed to method " + methodName +
+                    " cannot return null!");
+        }
+
+        return result;
+    }
+}
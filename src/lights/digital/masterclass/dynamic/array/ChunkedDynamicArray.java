@@ -0,0 +1,615 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Dynamic array stored in fixed-size chunks of {@code 2^chunkShift} elements.
+ * <p>
+ * Growing the array allocates one more chunk and never copies elements, so there is no
+ * large reallocation, no copy pause and no temporary double memory peak. Only the small
+ * chunk directory is copied when it runs out of room. {@link #get(int)} resolves the chunk
+ * and the offset with a shift and a mask.
+ */
+public class ChunkedDynamicArray<T> implements DynamicArray<T> {
+
+    private static final int DEFAULT_CHUNK_SHIFT = 12;
+
+    private final Class<T> clazz;
+    private final int chunkShift;
+    private final int chunkSize;
+    private final int chunkMask;
+
+    private Object[][] chunks;
+    private int chunkCount;
+    private int size;
+
+    /**
+     * The number of structural modifications, used by spliterators to fail fast.
+     */
+    private int modCount;
+
+    public ChunkedDynamicArray(Class<T> clazz) {
+        this(clazz, DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * @param clazz      The class of the elements
+     * @param chunkShift The binary logarithm of the chunk size, between 0 and 30
+     */
+    public ChunkedDynamicArray(Class<T> clazz, int chunkShift) {
+        if (chunkShift < 0 || chunkShift > 30) {
+            throw new IllegalArgumentException("The value of argument chunkShift " +
+                    "must be between 0 and 30!");
+        }
+
+        this.clazz = clazz;
+        this.chunkShift = chunkShift;
+        this.chunkSize = 1 << chunkShift;
+        this.chunkMask = chunkSize - 1;
+        this.chunks = new Object[4][];
+        this.chunkCount = 0;
+        this.size = 0;
+    }
+
+    private Object[] chunk(int index) {
+        return chunks[index >>> chunkShift];
+    }
+
+    private void ensureChunksFor(int minCapacity) {
+        if (minCapacity < 0 || minCapacity > GrowthPolicy.MAX_ARRAY_LENGTH) {
+            throw new IllegalStateException("The array cannot grow to " +
+                    Integer.toUnsignedString(minCapacity) + " elements!");
+        }
+
+        int neededChunks = (int) (((long) minCapacity + chunkMask) >>> chunkShift);
+        if (neededChunks > chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(neededChunks, 2 * chunks.length));
+        }
+
+        while (chunkCount < neededChunks) {
+            chunks[chunkCount++] = new Object[chunkSize];
+        }
+    }
+
+    /**
+     * Move {@code length} elements from logical position {@code from} to {@code to},
+     * one {@link System#arraycopy} per chunk boundary. The ranges may overlap.
+     */
+    private void move(int from, int to, int length) {
+        if (from > to) {
+            while (length > 0) {
+                int count = Math.min(length,
+                        Math.min(chunkSize - (from & chunkMask), chunkSize - (to & chunkMask)));
+                System.arraycopy(chunk(from), from & chunkMask, chunk(to), to & chunkMask, count);
+                from += count;
+                to += count;
+                length -= count;
+            }
+        } else if (from < to) {
+            int fromEnd = from + length;
+            int toEnd = to + length;
+            while (length > 0) {
+                int count = Math.min(length,
+                        Math.min(((fromEnd - 1) & chunkMask) + 1, ((toEnd - 1) & chunkMask) + 1));
+                fromEnd -= count;
+                toEnd -= count;
+                System.arraycopy(chunk(fromEnd), fromEnd & chunkMask, chunk(toEnd), toEnd & chunkMask, count);
+                length -= count;
+            }
+        }
+    }
+
+    private void copyOut(int from, Object[] destination, int destinationPosition, int length) {
+        while (length > 0) {
+            int count = Math.min(length, chunkSize - (from & chunkMask));
+            System.arraycopy(chunk(from), from & chunkMask, destination, destinationPosition, count);
+            from += count;
+            destinationPosition += count;
+            length -= count;
+        }
+    }
+
+    private void copyIn(Object[] source, int sourcePosition, int to, int length) {
+        while (length > 0) {
+            int count = Math.min(length, chunkSize - (to & chunkMask));
+            System.arraycopy(source, sourcePosition, chunk(to), to & chunkMask, count);
+            sourcePosition += count;
+            to += count;
+            length -= count;
+        }
+    }
+
+    private void clearSlots(int fromIndex, int toIndex) {
+        while (fromIndex < toIndex) {
+            int count = Math.min(toIndex - fromIndex, chunkSize - (fromIndex & chunkMask));
+            Arrays.fill(chunk(fromIndex), fromIndex & chunkMask, (fromIndex & chunkMask) + count, null);
+            fromIndex += count;
+        }
+    }
+
+    private void checkIndex(int index, String methodName) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The value of argument index in method " + methodName +
+                    " cannot be less than 0 or more than the array size!");
+        }
+    }
+
+    private static void checkRange(Object[] elements, int fromIndex, int toIndex, String methodName) {
+        if (fromIndex < 0 || toIndex > elements.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method " + methodName + " is outside of the given elements!");
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (elements[i] == null) {
+                throw new IllegalArgumentException("The elements in method " + methodName +
+                        " cannot contain null!");
+            }
+        }
+    }
+
+    @Override
+    public void push(T newElement) {
+        if (newElement == null) {
+            throw new IllegalArgumentException("The value of argument newElement, " +
+                    "in method push, cannot be null");
+        }
+
+        if (size == capacity()) {
+            ensureChunksFor(size + 1);
+        }
+
+        chunk(size)[size & chunkMask] = newElement;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public T pop() {
+        if (size == 0) {
+            return null;
+        }
+
+        size--;
+        Object[] chunk = chunk(size);
+        T lastElementInArray = (T) chunk[size & chunkMask];
+        chunk[size & chunkMask] = null;
+        modCount++;
+
+        return lastElementInArray;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, "get");
+
+        return (T) chunks[index >>> chunkShift][index & chunkMask];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        clearSlots(0, size);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        if (element == null) {
+            return false;
+        }
+
+        for (int index = 0; index < size; index += chunkSize) {
+            Object[] chunk = chunk(index);
+            int count = Math.min(chunkSize, size - index);
+            for (int i = 0; i < count; i++) {
+                if (element.equals(chunk[i])) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean containsAll(Collection<T> tCollection) {
+        for (T element : tCollection) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void remove() {
+        delete(size - 1);
+    }
+
+    @Override
+    public void remove(int index) {
+        delete(index);
+    }
+
+    @Override
+    public void ensureCapacity(int newSize) {
+        if (newSize < capacity()) {
+            throw new IllegalArgumentException("The value of argument newSize " +
+                    "cannot be less than the current capacity of the array!");
+        }
+
+        ensureChunksFor(newSize);
+    }
+
+    /**
+     * Release the chunks after the last element. The capacity stays rounded up to a whole chunk.
+     */
+    @Override
+    public void trimToSize() {
+        int neededChunks = (int) (((long) size + chunkMask) >>> chunkShift);
+        Arrays.fill(chunks, neededChunks, chunkCount, null);
+        chunks = Arrays.copyOf(chunks, Math.max(neededChunks, 1));
+        chunkCount = neededChunks;
+        modCount++;
+    }
+
+    @Override
+    public int capacity() {
+        return (int) Math.min((long) chunkCount << chunkShift, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public T set(int index, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("The value of argument value " +
+                    "in method set cannot be null!");
+        }
+
+        checkIndex(index, "set");
+
+        Object[] chunk = chunk(index);
+        T oldValueOnPositionIndex = (T) chunk[index & chunkMask];
+        chunk[index & chunkMask] = value;
+
+        return oldValueOnPositionIndex;
+    }
+
+    @Override
+    public T delete(int index) {
+        checkIndex(index, "delete");
+
+        T result = get(index);
+        move(index + 1, index, size - index - 1);
+        size--;
+        chunk(size)[size & chunkMask] = null;
+        modCount++;
+
+        return result;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method removeRange must be inside the array and fromIndex cannot be more than toIndex!");
+        }
+
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        move(toIndex, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        clearSlots(newSize, size);
+        size = newSize;
+        modCount++;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("The value of argument filter in " +
+                    "method removeIf cannot be null!");
+        }
+
+        int readIndex = 0;
+        while (readIndex < size && !filter.test(get(readIndex))) {
+            readIndex++;
+        }
+
+        if (readIndex == size) {
+            return false;
+        }
+
+        int writeIndex = readIndex++;
+        try {
+            for (; readIndex < size; readIndex++) {
+                Object element = chunk(readIndex)[readIndex & chunkMask];
+                if (!filter.test((T) element)) {
+                    chunk(writeIndex)[writeIndex & chunkMask] = element;
+                    writeIndex++;
+                }
+            }
+        } finally {
+            move(readIndex, writeIndex, size - readIndex);
+            writeIndex += size - readIndex;
+
+            clearSlots(writeIndex, size);
+            size = writeIndex;
+            modCount++;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method retainAll cannot be null!");
+        }
+
+        return removeIf(element -> !tCollection.contains(element));
+    }
+
+    @Override
+    public T[] takeN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method" +
+                    " takeN cannot be a negative number!");
+        }
+
+        int length = Math.min(n, size);
+        T[] localArrayCopyOfFirstNElements = (T[]) Array.newInstance(clazz, length);
+        copyOut(0, localArrayCopyOfFirstNElements, 0, length);
+
+        return localArrayCopyOfFirstNElements;
+    }
+
+    @Override
+    public T[] dropN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method " +
+                    "dropN cannot be a negative number!");
+        }
+
+        return takeN(Math.max(size - n, 0));
+    }
+
+    @SafeVarargs
+    @Override
+    public final void addAll(T... elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method addAll cannot be null!");
+        }
+
+        insertArray(size, elements, 0, elements.length, "addAll");
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method addAll cannot be null!");
+        }
+
+        Object[] elements = tCollection.toArray();
+        insertArray(size, elements, 0, elements.length, "addAll");
+    }
+
+    @Override
+    public void addAll(DynamicArray<? extends T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("The value of argument other in " +
+                    "method addAll cannot be null!");
+        }
+
+        int otherSize = other.size();
+        if (otherSize > 0) {
+            insertArray(size, other.takeN(otherSize), 0, otherSize, "addAll");
+        }
+    }
+
+    @Override
+    public void addAll(T[] elements, int fromIndex, int toIndex) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method addAll cannot be null!");
+        }
+
+        insertArray(size, elements, fromIndex, toIndex, "addAll");
+    }
+
+    @SafeVarargs
+    @Override
+    public final void insertAll(int index, T... elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method insertAll cannot be null!");
+        }
+
+        insertArray(index, elements, 0, elements.length, "insertAll");
+    }
+
+    @Override
+    public void insertAll(int index, Collection<? extends T> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method insertAll cannot be null!");
+        }
+
+        Object[] elements = tCollection.toArray();
+        insertArray(index, elements, 0, elements.length, "insertAll");
+    }
+
+    private void insertArray(int index, Object[] elements, int fromIndex, int toIndex, String methodName) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The value of argument index in method " +
+                    methodName + " cannot be less than 0 or more than the array size!");
+        }
+
+        checkRange(elements, fromIndex, toIndex, methodName);
+
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+
+        ensureChunksFor(size + count);
+        move(index, index + count, size - index);
+        copyIn(elements, fromIndex, index, count);
+
+        size += count;
+        modCount++;
+    }
+
+    @Override
+    public List<T> copy() {
+        return Collections.unmodifiableList(Arrays.asList(takeN(size)));
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(takeN(size));
+    }
+
+    /**
+     * The view fails fast on every structural modification of this array, counted like for its spliterators.
+     */
+    @Override
+    public DynamicArrayView<T> slice(int fromIndex, int toIndex) {
+        return new DynamicArrayView<>(this, clazz, fromIndex, toIndex, () -> modCount);
+    }
+
+    /**
+     * The pipeline fails fast on every structural modification of this array during its terminal operation.
+     */
+    @Override
+    public DynamicArrayPipeline<T> lazy() {
+        return new DynamicArrayPipeline<>(this, clazz, null, () -> modCount);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ChunkSpliterator(0, -1, 0);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Spliterator which walks the chunks in place and fails fast on structural modification.
+     */
+    private final class ChunkSpliterator implements Spliterator<T> {
+
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private ChunkSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+
+            if (lo >= mid) {
+                return null;
+            }
+
+            index = mid;
+            return new ChunkSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            T element = (T) chunk(index)[index & chunkMask];
+            index++;
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int hi = getFence();
+            while (index < hi) {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+
+                Object[] chunk = chunk(index);
+                int offset = index & chunkMask;
+                int end = Math.min(chunkSize, offset + hi - index);
+                index += end - offset;
+
+                for (int i = offset; i < end; i++) {
+                    action.accept((T) chunk[i]);
+                }
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,684 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Ring buffer implementation of {@link DynamicDeque}.
+ * <p>
+ * The elements occupy {@code size} consecutive slots starting at {@code head} and wrap around
+ * the end of the backing array, so adding or removing at either end is O(1). Growing unwraps
+ * the ring into the new array with at most two block copies. Removing or inserting in the middle
+ * shifts whichever side of the position is shorter.
+ */
+public class CircularDynamicArray<T> implements DynamicDeque<T> {
+
+    private final Class<T> clazz;
+    private final GrowthPolicy growthPolicy;
+
+    private T[] dynamicArray;
+    private int head;
+    private int size;
+
+    /**
+     * The number of structural modifications, used by spliterators to fail fast.
+     */
+    private int modCount;
+
+    public CircularDynamicArray(Class<T> clazz) {
+        this(clazz, 1);
+    }
+
+    public CircularDynamicArray(Class<T> clazz, int capacity) {
+        this(clazz, capacity, GrowthPolicy.defaultPolicy());
+    }
+
+    public CircularDynamicArray(Class<T> clazz, int capacity, GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("The value of argument growthPolicy " +
+                    "cannot be null!");
+        }
+
+        this.clazz = clazz;
+        this.growthPolicy = growthPolicy;
+        this.dynamicArray = (T[]) Array.newInstance(clazz, capacity);
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * @return The position in the backing array of the element with logical index {@code index}
+     */
+    private int physical(int index) {
+        int position = head + index;
+        return position >= dynamicArray.length ? position - dynamicArray.length : position;
+    }
+
+    private void reallocate(int newCapacity) {
+        T[] newDynamicArray = (T[]) Array.newInstance(clazz, newCapacity);
+        copyOut(0, newDynamicArray, 0, size);
+
+        this.dynamicArray = newDynamicArray;
+        this.head = 0;
+        this.modCount++;
+    }
+
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity > dynamicArray.length) {
+            int newCapacity = growthPolicy.grow(dynamicArray.length, minCapacity);
+            if (newCapacity < minCapacity) {
+                throw new IllegalStateException("The growth policy returned capacity " + newCapacity +
+                        ", which cannot hold " + minCapacity + " elements!");
+            }
+
+            reallocate(newCapacity);
+        }
+    }
+
+    /**
+     * Copy the logical range {@code [from, from + length)} with at most two block copies.
+     */
+    private void copyOut(int from, Object[] destination, int destinationPosition, int length) {
+        if (length == 0) {
+            return;
+        }
+
+        int position = physical(from);
+        int firstPart = Math.min(length, dynamicArray.length - position);
+        System.arraycopy(dynamicArray, position, destination, destinationPosition, firstPart);
+        System.arraycopy(dynamicArray, 0, destination, destinationPosition + firstPart, length - firstPart);
+    }
+
+    /**
+     * Write {@code length} elements to the logical range starting at {@code to} with at most two block copies.
+     */
+    private void copyIn(Object[] source, int sourcePosition, int to, int length) {
+        if (length == 0) {
+            return;
+        }
+
+        int position = physical(to);
+        int firstPart = Math.min(length, dynamicArray.length - position);
+        System.arraycopy(source, sourcePosition, dynamicArray, position, firstPart);
+        System.arraycopy(source, sourcePosition + firstPart, dynamicArray, 0, length - firstPart);
+    }
+
+    private void clearSlots(int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            dynamicArray[physical(i)] = null;
+        }
+    }
+
+    private void checkIndex(int index, String methodName) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The value of argument index in method " + methodName +
+                    " cannot be less than 0 or more than the array size!");
+        }
+    }
+
+    @Override
+    public void pushFirst(T newElement) {
+        if (newElement == null) {
+            throw new IllegalArgumentException("The value of argument newElement, " +
+                    "in method pushFirst, cannot be null");
+        }
+
+        ensureCapacityInternal(size + 1);
+
+        head = head == 0 ? dynamicArray.length - 1 : head - 1;
+        dynamicArray[head] = newElement;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public T popFirst() {
+        if (size == 0) {
+            return null;
+        }
+
+        T firstElementInArray = dynamicArray[head];
+        dynamicArray[head] = null;
+        head = head + 1 == dynamicArray.length ? 0 : head + 1;
+        size--;
+        modCount++;
+
+        return firstElementInArray;
+    }
+
+    /**
+     * Move up to {@code maxElements} elements from the front of this array to the end of {@code target},
+     * keeping their order. The elements are handed to {@link DynamicArray#addAll(Object[], int, int)} straight
+     * from the backing array, as one block, or two if they wrap around its end. If the second block fails,
+     * the first one stays moved.
+     *
+     * @return The number of moved elements
+     * @throws IllegalArgumentException if {@code target} is null or this array, or {@code maxElements} is negative
+     */
+    public int drainFirstTo(DynamicArray<? super T> target, int maxElements) {
+        if (target == null || target == this) {
+            throw new IllegalArgumentException("The value of argument target in method drainFirstTo " +
+                    "cannot be null or the drained array!");
+        }
+
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("The value of argument maxElements in method drainFirstTo " +
+                    "cannot be a negative number!");
+        }
+
+        int drained = Math.min(maxElements, size);
+        if (drained == 0) {
+            return 0;
+        }
+
+        int firstPart = Math.min(drained, dynamicArray.length - head);
+        drainBlock(target, firstPart);
+        if (drained > firstPart) {
+            drainBlock(target, drained - firstPart);
+        }
+
+        return drained;
+    }
+
+    /**
+     * Move the first {@code count} elements, which must not wrap, to {@code target} and drop them from this array
+     * before anything else is drained, so a failing {@code addAll} never leaves an element in both arrays.
+     */
+    private void drainBlock(DynamicArray<? super T> target, int count) {
+        target.addAll(dynamicArray, head, head + count);
+
+        clearSlots(0, count);
+        head = physical(count);
+        size -= count;
+        modCount++;
+    }
+
+    @Override
+    public T peekFirst() {
+        return size == 0 ? null : dynamicArray[head];
+    }
+
+    @Override
+    public T peekLast() {
+        return size == 0 ? null : dynamicArray[physical(size - 1)];
+    }
+
+    @Override
+    public void push(T newElement) {
+        if (newElement == null) {
+            throw new IllegalArgumentException("The value of argument newElement, " +
+                    "in method push, cannot be null");
+        }
+
+        ensureCapacityInternal(size + 1);
+
+        dynamicArray[physical(size)] = newElement;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public T pop() {
+        if (size == 0) {
+            return null;
+        }
+
+        int position = physical(size - 1);
+        T lastElementInArray = dynamicArray[position];
+        dynamicArray[position] = null;
+        size--;
+        modCount++;
+
+        return lastElementInArray;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, "get");
+
+        return dynamicArray[physical(index)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        clearSlots(0, size);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        if (element == null) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (element.equals(dynamicArray[physical(i)])) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean containsAll(Collection<T> tCollection) {
+        for (T element : tCollection) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void remove() {
+        delete(size - 1);
+    }
+
+    @Override
+    public void remove(int index) {
+        delete(index);
+    }
+
+    @Override
+    public void ensureCapacity(int newSize) {
+        if (newSize < dynamicArray.length) {
+            throw new IllegalArgumentException("The value of argument newSize " +
+                    "cannot be less than the current capacity of the array!");
+        }
+
+        reallocate(newSize);
+    }
+
+    @Override
+    public void trimToSize() {
+        reallocate(size);
+    }
+
+    @Override
+    public int capacity() {
+        return dynamicArray.length;
+    }
+
+    @Override
+    public T set(int index, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("The value of argument value " +
+                    "in method set cannot be null!");
+        }
+
+        checkIndex(index, "set");
+
+        int position = physical(index);
+        T oldValueOnPositionIndex = dynamicArray[position];
+        dynamicArray[position] = value;
+
+        return oldValueOnPositionIndex;
+    }
+
+    @Override
+    public T delete(int index) {
+        checkIndex(index, "delete");
+
+        T result = get(index);
+        removeRange(index, index + 1);
+
+        return result;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method removeRange must be inside the array and fromIndex cannot be more than toIndex!");
+        }
+
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+
+        if (fromIndex < size - toIndex) {
+            for (int i = fromIndex - 1; i >= 0; i--) {
+                dynamicArray[physical(i + count)] = dynamicArray[physical(i)];
+            }
+            clearSlots(0, count);
+            head = physical(count);
+        } else {
+            for (int i = toIndex; i < size; i++) {
+                dynamicArray[physical(i - count)] = dynamicArray[physical(i)];
+            }
+            clearSlots(size - count, size);
+        }
+
+        size -= count;
+        if (size == 0) {
+            head = 0;
+        }
+        modCount++;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("The value of argument filter in " +
+                    "method removeIf cannot be null!");
+        }
+
+        int readIndex = 0;
+        while (readIndex < size && !filter.test(dynamicArray[physical(readIndex)])) {
+            readIndex++;
+        }
+
+        if (readIndex == size) {
+            return false;
+        }
+
+        int writeIndex = readIndex++;
+        try {
+            for (; readIndex < size; readIndex++) {
+                T element = dynamicArray[physical(readIndex)];
+                if (!filter.test(element)) {
+                    dynamicArray[physical(writeIndex++)] = element;
+                }
+            }
+        } finally {
+            for (; readIndex < size; readIndex++) {
+                dynamicArray[physical(writeIndex++)] = dynamicArray[physical(readIndex)];
+            }
+
+            clearSlots(writeIndex, size);
+            size = writeIndex;
+            modCount++;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method retainAll cannot be null!");
+        }
+
+        return removeIf(element -> !tCollection.contains(element));
+    }
+
+    @Override
+    public T[] takeN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method" +
+                    " takeN cannot be a negative number!");
+        }
+
+        int length = Math.min(n, size);
+        T[] localArrayCopyOfFirstNElements = (T[]) Array.newInstance(clazz, length);
+        copyOut(0, localArrayCopyOfFirstNElements, 0, length);
+
+        return localArrayCopyOfFirstNElements;
+    }
+
+    @Override
+    public T[] dropN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method " +
+                    "dropN cannot be a negative number!");
+        }
+
+        return takeN(Math.max(size - n, 0));
+    }
+
+    @SafeVarargs
+    @Override
+    public final void addAll(T... elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method addAll cannot be null!");
+        }
+
+        insertArray(size, elements, 0, elements.length, "addAll");
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method addAll cannot be null!");
+        }
+
+        Object[] elements = tCollection.toArray();
+        insertArray(size, elements, 0, elements.length, "addAll");
+    }
+
+    @Override
+    public void addAll(DynamicArray<? extends T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("The value of argument other in " +
+                    "method addAll cannot be null!");
+        }
+
+        int otherSize = other.size();
+        if (otherSize > 0) {
+            insertArray(size, other.takeN(otherSize), 0, otherSize, "addAll");
+        }
+    }
+
+    @Override
+    public void addAll(T[] elements, int fromIndex, int toIndex) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method addAll cannot be null!");
+        }
+
+        insertArray(size, elements, fromIndex, toIndex, "addAll");
+    }
+
+    @SafeVarargs
+    @Override
+    public final void insertAll(int index, T... elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method insertAll cannot be null!");
+        }
+
+        insertArray(index, elements, 0, elements.length, "insertAll");
+    }
+
+    @Override
+    public void insertAll(int index, Collection<? extends T> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method insertAll cannot be null!");
+        }
+
+        Object[] elements = tCollection.toArray();
+        insertArray(index, elements, 0, elements.length, "insertAll");
+    }
+
+    private void insertArray(int index, Object[] elements, int fromIndex, int toIndex, String methodName) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The value of argument index in method " +
+                    methodName + " cannot be less than 0 or more than the array size!");
+        }
+
+        if (fromIndex < 0 || toIndex > elements.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method " + methodName + " is outside of the given elements!");
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (elements[i] == null) {
+                throw new IllegalArgumentException("The elements in method " + methodName +
+                        " cannot contain null!");
+            }
+        }
+
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+
+        ensureCapacityInternal(size + count);
+
+        if (index < size - index) {
+            head = head >= count ? head - count : head - count + dynamicArray.length;
+            for (int i = 0; i < index; i++) {
+                dynamicArray[physical(i)] = dynamicArray[physical(i + count)];
+            }
+        } else {
+            for (int i = size - 1; i >= index; i--) {
+                dynamicArray[physical(i + count)] = dynamicArray[physical(i)];
+            }
+        }
+
+        copyIn(elements, fromIndex, index, count);
+        size += count;
+        modCount++;
+    }
+
+    @Override
+    public List<T> copy() {
+        return Collections.unmodifiableList(Arrays.asList(takeN(size)));
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(takeN(size));
+    }
+
+    /**
+     * The view fails fast on every structural modification of this array, counted like for its spliterators.
+     */
+    @Override
+    public DynamicArrayView<T> slice(int fromIndex, int toIndex) {
+        return new DynamicArrayView<>(this, clazz, fromIndex, toIndex, () -> modCount);
+    }
+
+    /**
+     * The pipeline fails fast on every structural modification of this array during its terminal operation.
+     */
+    @Override
+    public DynamicArrayPipeline<T> lazy() {
+        return new DynamicArrayPipeline<>(this, clazz, null, () -> modCount);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new RingSpliterator(0, -1, 0);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Spliterator over the logical order of the ring which fails fast on structural modification.
+     */
+    private final class RingSpliterator implements Spliterator<T> {
+
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private RingSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+
+            if (lo >= mid) {
+                return null;
+            }
+
+            index = mid;
+            return new RingSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            T element = dynamicArray[physical(index++)];
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int hi = getFence();
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            T[] elements = dynamicArray;
+            int start = head;
+            int length = elements.length;
+            for (; index < hi; index++) {
+                int position = start + index;
+                action.accept(elements[position >= length ? position - length : position]);
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,661 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Dynamic array of records stored column by column.
+ * <p>
+ * Every component of the record type gets its own array: {@code int}, {@code long} and {@code double}
+ * components are kept in primitive arrays, all other components in reference arrays. The columns share
+ * one size and grow together, so row {@code i} is made of slot {@code i} of every column. A scan over
+ * one column, through {@link #intColumn}, {@link #longColumn} or {@link #doubleColumn}, reads a single
+ * contiguous primitive array and never touches the other components.
+ * <p>
+ * {@link #get(int)} and {@link #stream()} build a new record for every row. {@link Row} is a reusable
+ * flyweight which reads and writes the components of a row in place without building records.
+ *
+ * @param <R> The type of the stored records
+ */
+public class ColumnarDynamicArray<R extends Record> {
+
+    private final Class<R> recordClass;
+    private final GrowthPolicy growthPolicy;
+    private final Column[] columns;
+
+    /**
+     * The canonical constructor, taking the components as an {@code Object[]}.
+     */
+    private final MethodHandle constructor;
+
+    private int capacity;
+    private int size;
+
+    /**
+     * One component of the record type, stored for all rows.
+     */
+    private abstract static class Column {
+
+        final String name;
+        final Class<?> type;
+
+        private Column(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        /**
+         * Write the component of {@code record} to slot {@code index}.
+         */
+        abstract void write(int index, Record record) throws Throwable;
+
+        abstract Object read(int index);
+
+        abstract void resize(int newCapacity);
+
+        /**
+         * Move {@code length} slots from {@code from} to {@code to}.
+         */
+        abstract void move(int from, int to, int length);
+
+        /**
+         * Drop the references held by the slots {@code [from, to)}.
+         */
+        void clear(int from, int to) {
+        }
+    }
+
+    private static final class IntColumn extends Column {
+
+        private final MethodHandle accessor;
+        private int[] values;
+
+        private IntColumn(String name, MethodHandle accessor, int capacity) {
+            super(name, int.class);
+            this.accessor = accessor.asType(MethodType.methodType(int.class, Record.class));
+            this.values = new int[capacity];
+        }
+
+        @Override
+        void write(int index, Record record) throws Throwable {
+            values[index] = (int) accessor.invokeExact(record);
+        }
+
+        @Override
+        Object read(int index) {
+            return values[index];
+        }
+
+        @Override
+        void resize(int newCapacity) {
+            values = Arrays.copyOf(values, newCapacity);
+        }
+
+        @Override
+        void move(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+        }
+    }
+
+    private static final class LongColumn extends Column {
+
+        private final MethodHandle accessor;
+        private long[] values;
+
+        private LongColumn(String name, MethodHandle accessor, int capacity) {
+            super(name, long.class);
+            this.accessor = accessor.asType(MethodType.methodType(long.class, Record.class));
+            this.values = new long[capacity];
+        }
+
+        @Override
+        void write(int index, Record record) throws Throwable {
+            values[index] = (long) accessor.invokeExact(record);
+        }
+
+        @Override
+        Object read(int index) {
+            return values[index];
+        }
+
+        @Override
+        void resize(int newCapacity) {
+            values = Arrays.copyOf(values, newCapacity);
+        }
+
+        @Override
+        void move(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+
+        private final MethodHandle accessor;
+        private double[] values;
+
+        private DoubleColumn(String name, MethodHandle accessor, int capacity) {
+            super(name, double.class);
+            this.accessor = accessor.asType(MethodType.methodType(double.class, Record.class));
+            this.values = new double[capacity];
+        }
+
+        @Override
+        void write(int index, Record record) throws Throwable {
+            values[index] = (double) accessor.invokeExact(record);
+        }
+
+        @Override
+        Object read(int index) {
+            return values[index];
+        }
+
+        @Override
+        void resize(int newCapacity) {
+            values = Arrays.copyOf(values, newCapacity);
+        }
+
+        @Override
+        void move(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+        }
+    }
+
+    /**
+     * Column of any other component type, including the remaining primitive types, stored boxed.
+     */
+    private static final class ReferenceColumn extends Column {
+
+        private final MethodHandle accessor;
+        private Object[] values;
+
+        private ReferenceColumn(String name, Class<?> type, MethodHandle accessor, int capacity) {
+            super(name, type);
+            this.accessor = accessor.asType(MethodType.methodType(Object.class, Record.class));
+            this.values = new Object[capacity];
+        }
+
+        @Override
+        void write(int index, Record record) throws Throwable {
+            values[index] = (Object) accessor.invokeExact(record);
+        }
+
+        @Override
+        Object read(int index) {
+            return values[index];
+        }
+
+        @Override
+        void resize(int newCapacity) {
+            values = Arrays.copyOf(values, newCapacity);
+        }
+
+        @Override
+        void move(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+        }
+
+        @Override
+        void clear(int from, int to) {
+            Arrays.fill(values, from, to, null);
+        }
+    }
+
+    public ColumnarDynamicArray(Class<R> recordClass) {
+        this(recordClass, 1);
+    }
+
+    public ColumnarDynamicArray(Class<R> recordClass, int capacity) {
+        this(recordClass, capacity, GrowthPolicy.defaultPolicy());
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code recordClass} or {@code growthPolicy} is null,
+     *                                  {@code recordClass} is not a record class or {@code capacity} is negative
+     */
+    public ColumnarDynamicArray(Class<R> recordClass, int capacity, GrowthPolicy growthPolicy) {
+        if (recordClass == null || !recordClass.isRecord()) {
+            throw new IllegalArgumentException("The value of argument recordClass " +
+                    "must be a record class!");
+        }
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The value of argument capacity " +
+                    "cannot be a negative number!");
+        }
+
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("The value of argument growthPolicy " +
+                    "cannot be null!");
+        }
+
+        this.recordClass = recordClass;
+        this.growthPolicy = growthPolicy;
+        this.capacity = capacity;
+
+        RecordComponent[] components = recordClass.getRecordComponents();
+        Class<?>[] componentTypes = new Class<?>[components.length];
+        this.columns = new Column[components.length];
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            for (int i = 0; i < components.length; i++) {
+                componentTypes[i] = components[i].getType();
+                Method accessor = components[i].getAccessor();
+                accessor.setAccessible(true);
+                columns[i] = newColumn(components[i].getName(), componentTypes[i], lookup.unreflect(accessor), capacity);
+            }
+
+            Constructor<R> canonical = recordClass.getDeclaredConstructor(componentTypes);
+            canonical.setAccessible(true);
+            MethodHandle handle = lookup.unreflectConstructor(canonical);
+            this.constructor = handle.asType(handle.type().generic())
+                    .asSpreader(Object[].class, components.length);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("The components of record " + recordClass.getName() +
+                    " cannot be accessed!", e);
+        }
+    }
+
+    private static Column newColumn(String name, Class<?> type, MethodHandle accessor, int capacity) {
+        if (type == int.class) {
+            return new IntColumn(name, accessor, capacity);
+        } else if (type == long.class) {
+            return new LongColumn(name, accessor, capacity);
+        } else if (type == double.class) {
+            return new DoubleColumn(name, accessor, capacity);
+        } else {
+            return new ReferenceColumn(name, type, accessor, capacity);
+        }
+    }
+
+    private void resize(int minCapacity) {
+        int newCapacity = growthPolicy.grow(this.capacity, minCapacity);
+        if (newCapacity < minCapacity) {
+            throw new IllegalStateException("The growth policy returned capacity " + newCapacity +
+                    ", which cannot hold " + minCapacity + " elements!");
+        }
+
+        reallocate(newCapacity);
+    }
+
+    private void reallocate(int newCapacity) {
+        for (Column column : columns) {
+            column.resize(newCapacity);
+        }
+        this.capacity = newCapacity;
+    }
+
+    private void checkIndex(int index, String methodName) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The value of argument index in method " + methodName +
+                    " cannot be less than 0 or more than the array size!");
+        }
+    }
+
+    private void writeRow(int index, R record) {
+        try {
+            for (Column column : columns) {
+                column.write(index, record);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("The record accessor threw a checked exception!", e);
+        }
+    }
+
+    private R readRow(int index) {
+        Object[] components = new Object[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            components[i] = columns[i].read(index);
+        }
+
+        try {
+            return recordClass.cast((Object) constructor.invokeExact(components));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("The record constructor threw a checked exception!", e);
+        }
+    }
+
+    /**
+     * Add a record to the end of the array, storing each of its components in its column.
+     *
+     * @throws IllegalArgumentException if {@code record} is null
+     */
+    public void push(R record) {
+        if (record == null) {
+            throw new IllegalArgumentException("The value of argument record, " +
+                    "in method push, cannot be null");
+        }
+
+        if (size >= capacity) {
+            resize(size + 1);
+        }
+
+        writeRow(size, record);
+        size++;
+    }
+
+    /**
+     * @return A record built from the last row, which is removed, or null if the array is empty
+     */
+    public R pop() {
+        if (size == 0) {
+            return null;
+        }
+
+        R record = readRow(size - 1);
+        size--;
+        for (Column column : columns) {
+            column.clear(size, size + 1);
+        }
+
+        return record;
+    }
+
+    /**
+     * @return A new record built from the components of row {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or not less than the array size
+     */
+    public R get(int index) {
+        checkIndex(index, "get");
+
+        return readRow(index);
+    }
+
+    /**
+     * Replace the components of row {@code index} with those of {@code record}.
+     *
+     * @return A record built from the old components of the row
+     * @throws IllegalArgumentException  if {@code record} is null
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or not less than the array size
+     */
+    public R set(int index, R record) {
+        if (record == null) {
+            throw new IllegalArgumentException("The value of argument record " +
+                    "in method set cannot be null!");
+        }
+
+        checkIndex(index, "set");
+
+        R oldRecord = readRow(index);
+        writeRow(index, record);
+        return oldRecord;
+    }
+
+    /**
+     * Delete row {@code index}, shifting the following rows of every column to the left.
+     *
+     * @return A record built from the deleted row
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or not less than the array size
+     */
+    public R delete(int index) {
+        checkIndex(index, "delete");
+
+        R record = readRow(index);
+        for (Column column : columns) {
+            column.move(index + 1, index, size - index - 1);
+            column.clear(size - 1, size);
+        }
+        size--;
+
+        return record;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        for (Column column : columns) {
+            column.clear(0, size);
+        }
+        size = 0;
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code newSize} is less than the current capacity of the array
+     */
+    public void ensureCapacity(int newSize) {
+        if (newSize < this.capacity) {
+            throw new IllegalArgumentException("The value of argument newSize " +
+                    "cannot be less than the current capacity of the array!");
+        }
+
+        reallocate(newSize);
+    }
+
+    public void trimToSize() {
+        reallocate(size);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The names of the record components, in the order of the columns
+     */
+    public List<String> columnNames() {
+        List<String> names = new ArrayList<>(columns.length);
+        for (Column column : columns) {
+            names.add(column.name);
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * @return The position of the column storing the component {@code name}
+     * @throws IllegalArgumentException if the record has no component {@code name}
+     */
+    public int columnIndex(String name) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].name.equals(name)) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException("The record " + recordClass.getSimpleName() +
+                " has no component " + name + "!");
+    }
+
+    private <C extends Column> C column(int column, Class<C> columnClass, String typeName) {
+        if (column < 0 || column >= columns.length) {
+            throw new IndexOutOfBoundsException("The value of argument column cannot be less than 0 " +
+                    "or more than the number of components!");
+        }
+
+        if (!columnClass.isInstance(columns[column])) {
+            throw new IllegalArgumentException("The component " + columns[column].name + " is of type " +
+                    columns[column].type.getSimpleName() + ", not " + typeName + "!");
+        }
+
+        return columnClass.cast(columns[column]);
+    }
+
+    /**
+     * @return A stream over the contiguous values of an {@code int} column
+     * @throws IllegalArgumentException  if the column does not store an {@code int} component
+     * @throws IndexOutOfBoundsException if there is no column {@code column}
+     */
+    public IntStream intColumn(int column) {
+        return Arrays.stream(column(column, IntColumn.class, "int").values, 0, size);
+    }
+
+    /**
+     * @return A stream over the contiguous values of a {@code long} column
+     * @throws IllegalArgumentException  if the column does not store a {@code long} component
+     * @throws IndexOutOfBoundsException if there is no column {@code column}
+     */
+    public LongStream longColumn(int column) {
+        return Arrays.stream(column(column, LongColumn.class, "long").values, 0, size);
+    }
+
+    /**
+     * @return A stream over the contiguous values of a {@code double} column
+     * @throws IllegalArgumentException  if the column does not store a {@code double} component
+     * @throws IndexOutOfBoundsException if there is no column {@code column}
+     */
+    public DoubleStream doubleColumn(int column) {
+        return Arrays.stream(column(column, DoubleColumn.class, "double").values, 0, size);
+    }
+
+    /**
+     * @return A stream over the values of a column storing any other component type
+     * @throws IllegalArgumentException  if the column stores an {@code int}, {@code long} or {@code double} component,
+     *                                   or its values are not of {@code type}
+     * @throws IndexOutOfBoundsException if there is no column {@code column}
+     */
+    public <C> Stream<C> objectColumn(int column, Class<C> type) {
+        ReferenceColumn referenceColumn = column(column, ReferenceColumn.class, "a reference type");
+        Class<?> boxedType = MethodType.methodType(referenceColumn.type).wrap().returnType();
+        if (type == null || !type.isAssignableFrom(boxedType)) {
+            throw new IllegalArgumentException("The component " + referenceColumn.name + " is of type " +
+                    referenceColumn.type.getSimpleName() + ", not " + type + "!");
+        }
+
+        return Arrays.stream(referenceColumn.values, 0, size).map(type::cast);
+    }
+
+    /**
+     * @return A stream of new records, one for every row
+     */
+    public Stream<R> stream() {
+        return IntStream.range(0, size).mapToObj(this::readRow);
+    }
+
+    /**
+     * @return An immutable list of new records, one for every row
+     */
+    public List<R> copy() {
+        List<R> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(readRow(i));
+        }
+        return Collections.unmodifiableList(records);
+    }
+
+    /**
+     * @return A new flyweight, which has to be moved to a row with {@link Row#moveTo(int)} before it is read
+     */
+    public Row row() {
+        return new Row();
+    }
+
+    /**
+     * Call {@code action} for every row with one flyweight, moved from row to row.
+     * The flyweight must not be kept after the call returns.
+     *
+     * @throws IllegalArgumentException if {@code action} is null
+     */
+    public void forEachRow(Consumer<? super Row> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("The value of argument action in " +
+                    "method forEachRow cannot be null!");
+        }
+
+        Row row = new Row();
+        for (int i = 0; i < size; i++) {
+            action.accept(row.moveTo(i));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return copy().toString();
+    }
+
+    /**
+     * Reusable cursor over the rows of the array, reading and writing single components in place.
+     * Every access checks that the row is still inside the array.
+     */
+    public final class Row {
+
+        private int index = -1;
+
+        private Row() {
+        }
+
+        /**
+         * @return This flyweight, now pointing to row {@code index}
+         * @throws IndexOutOfBoundsException if {@code index} is less than 0 or not less than the array size
+         */
+        public Row moveTo(int index) {
+            checkIndex(index, "moveTo");
+            this.index = index;
+            return this;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        private int current() {
+            checkIndex(index, "row");
+            return index;
+        }
+
+        public int getInt(int column) {
+            return column(column, IntColumn.class, "int").values[current()];
+        }
+
+        public long getLong(int column) {
+            return column(column, LongColumn.class, "long").values[current()];
+        }
+
+        public double getDouble(int column) {
+            return column(column, DoubleColumn.class, "double").values[current()];
+        }
+
+        /**
+         * @return The component stored in {@code column}, boxed if it is primitive
+         */
+        public Object get(int column) {
+            if (column < 0 || column >= columns.length) {
+                throw new IndexOutOfBoundsException("The value of argument column cannot be less than 0 " +
+                        "or more than the number of components!");
+            }
+
+            return columns[column].read(current());
+        }
+
+        public void setInt(int column, int value) {
+            column(column, IntColumn.class, "int").values[current()] = value;
+        }
+
+        public void setLong(int column, long value) {
+            column(column, LongColumn.class, "long").values[current()] = value;
+        }
+
+        public void setDouble(int column, double value) {
+            column(column, DoubleColumn.class, "double").values[current()] = value;
+        }
+
+        /**
+         * @return A new record built from the components of the row
+         */
+        public R toRecord() {
+            return readRow(current());
+        }
+    }
+}
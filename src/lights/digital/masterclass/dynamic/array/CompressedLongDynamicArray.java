@@ -0,0 +1,481 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Append-oriented array of {@code long} values, compressed in blocks of {@value #BLOCK_SIZE}.
+ * <p>
+ * New values go to an uncompressed tail block. Once the tail is full it is encoded as frame of reference:
+ * value {@code i} of the block is stored as its distance from {@code base + i * step}. The block uses one of
+ * two frames, whichever needs fewer bits per value:
+ * <ul>
+ *     <li>a flat frame, with a step of 0, which suits small-range values such as identifiers;</li>
+ *     <li>a delta frame, with the average difference between neighbouring values as its step, which suits
+ *     monotonic sequences such as timestamps, where only the deviation from a steady rate is stored.</li>
+ * </ul>
+ * The stored distances are bit-packed with the width of the largest one, so a block of width {@code w} takes
+ * {@code 2 * w} words. Every value is decoded on its own, so {@link #get(int)} reads one or two words of
+ * a single block, and streams decode a whole block at a time into a buffer.
+ * <p>
+ * Only the tail block can change: {@link #pop()} decodes the last block back into the tail when the tail is empty.
+ */
+public class CompressedLongDynamicArray {
+
+    static final int BLOCK_SIZE = 128;
+    private static final int BLOCK_SHIFT = Integer.numberOfTrailingZeros(BLOCK_SIZE);
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * The bit-packed values of all encoded blocks, followed by at least one zero word.
+     */
+    private long[] words;
+    private int wordCount;
+
+    /**
+     * The frame of every block: value {@code i} of block {@code b} is {@code blockBases[b] + i * blockSteps[b]}
+     * plus its packed distance.
+     */
+    private long[] blockBases;
+    private long[] blockSteps;
+    private int[] blockOffsets;
+    private byte[] blockWidths;
+    private int blockCount;
+
+    private final long[] tail = new long[BLOCK_SIZE];
+    private int tailSize;
+
+    public CompressedLongDynamicArray() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize The number of values the block tables are allocated for
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public CompressedLongDynamicArray(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The value of argument expectedSize " +
+                    "cannot be a negative number!");
+        }
+
+        this.growthPolicy = GrowthPolicy.defaultPolicy();
+        allocateBlocks(expectedSize >>> BLOCK_SHIFT);
+        this.words = new long[1];
+    }
+
+    private void allocateBlocks(int blocks) {
+        this.blockBases = new long[blocks];
+        this.blockSteps = new long[blocks];
+        this.blockOffsets = new int[blocks];
+        this.blockWidths = new byte[blocks];
+    }
+
+    private void resizeBlocks(int newLength) {
+        blockBases = Arrays.copyOf(blockBases, newLength);
+        blockSteps = Arrays.copyOf(blockSteps, newLength);
+        blockOffsets = Arrays.copyOf(blockOffsets, newLength);
+        blockWidths = Arrays.copyOf(blockWidths, newLength);
+    }
+
+    /**
+     * @return The number of bits needed for unsigned values up to {@code range}
+     */
+    private static int width(long range) {
+        return Long.SIZE - Long.numberOfLeadingZeros(range);
+    }
+
+    private static void pack(long[] words, int offset, int width, int slot, long value) {
+        long bit = (long) slot * width;
+        int word = offset + (int) (bit >>> 6);
+        int shift = (int) (bit & 63);
+
+        words[word] |= value << shift;
+        if (shift + width > Long.SIZE) {
+            words[word + 1] |= value >>> (Long.SIZE - shift);
+        }
+    }
+
+    /**
+     * Read the packed number of {@code slot} of a block of non-zero {@code width}. The words always end with
+     * a spare zero word, so the word after the one holding the slot can be read unconditionally; shifting it
+     * in two steps makes it vanish when the slot starts on a word boundary.
+     */
+    private static long unpack(long[] words, int offset, int width, long mask, int slot) {
+        long bit = (long) slot * width;
+        int word = offset + (int) (bit >>> 6);
+        int shift = (int) (bit & 63);
+
+        return ((words[word] >>> shift) | ((words[word + 1] << 1) << (63 - shift))) & mask;
+    }
+
+    private static long mask(int width) {
+        return width == Long.SIZE ? -1L : (1L << width) - 1;
+    }
+
+    /**
+     * Encode the full tail as a new block, with the frame which needs fewer bits per value.
+     */
+    private void sealTail() {
+        long step = (tail[BLOCK_SIZE - 1] - tail[0]) / (BLOCK_SIZE - 1);
+
+        long min = tail[0];
+        long max = tail[0];
+        long minResidual = tail[0];
+        long maxResidual = tail[0];
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            min = Math.min(min, tail[i]);
+            max = Math.max(max, tail[i]);
+
+            long residual = tail[i] - i * step;
+            minResidual = Math.min(minResidual, residual);
+            maxResidual = Math.max(maxResidual, residual);
+        }
+
+        int flatWidth = width(max - min);
+        int deltaWidth = width(maxResidual - minResidual);
+        if (flatWidth <= deltaWidth) {
+            step = 0L;
+        } else {
+            min = minResidual;
+        }
+        int width = Math.min(flatWidth, deltaWidth);
+
+        if (blockCount == blockBases.length) {
+            resizeBlocks(growthPolicy.grow(blockBases.length, blockCount + 1));
+        }
+
+        int blockWords = 2 * width;
+        if (wordCount + blockWords + 1 > words.length) {
+            words = Arrays.copyOf(words, growthPolicy.grow(words.length, wordCount + blockWords + 1));
+        }
+
+        if (width > 0) {
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                pack(words, wordCount, width, i, tail[i] - i * step - min);
+            }
+        }
+
+        blockBases[blockCount] = min;
+        blockSteps[blockCount] = step;
+        blockOffsets[blockCount] = wordCount;
+        blockWidths[blockCount] = (byte) width;
+
+        blockCount++;
+        wordCount += blockWords;
+        tailSize = 0;
+    }
+
+    /**
+     * Decode all values of {@code block} into {@code target}.
+     */
+    private void decodeBlock(int block, long[] target) {
+        long base = blockBases[block];
+        long step = blockSteps[block];
+        int offset = blockOffsets[block];
+        int width = blockWidths[block];
+
+        if (width == 0) {
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                target[i] = base + i * step;
+            }
+            return;
+        }
+
+        long mask = mask(width);
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            target[i] = base + i * step + unpack(words, offset, width, mask, i);
+        }
+    }
+
+    /**
+     * Add a value to the end of the array.
+     */
+    public void push(long newElement) {
+        tail[tailSize++] = newElement;
+        if (tailSize == BLOCK_SIZE) {
+            sealTail();
+        }
+    }
+
+    /**
+     * @param elements The values which should be added to the end of the array
+     */
+    public void addAll(long... elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method addAll cannot be null!");
+        }
+
+        for (long element : elements) {
+            push(element);
+        }
+    }
+
+    /**
+     * Delete the last value and return it. If the tail is empty, the last block is decoded into it first.
+     *
+     * @throws NoSuchElementException if the array is empty
+     */
+    public long pop() {
+        if (tailSize == 0) {
+            if (blockCount == 0) {
+                throw new NoSuchElementException("The method pop cannot be called on an empty array!");
+            }
+
+            blockCount--;
+            decodeBlock(blockCount, tail);
+
+            int offset = blockOffsets[blockCount];
+            Arrays.fill(words, offset, wordCount, 0L);
+            wordCount = offset;
+            tailSize = BLOCK_SIZE;
+        }
+
+        return tail[--tailSize];
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or not less than the array size
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("The argument index in method get" +
+                    " cannot be less than 0 or more than the array size!");
+        }
+
+        int block = index >>> BLOCK_SHIFT;
+        int slot = index & BLOCK_MASK;
+        if (block == blockCount) {
+            return tail[slot];
+        }
+
+        long frame = blockBases[block] + slot * blockSteps[block];
+        int width = blockWidths[block];
+        if (width == 0) {
+            return frame;
+        }
+
+        return frame + unpack(words, blockOffsets[block], width, mask(width), slot);
+    }
+
+    public int size() {
+        return (blockCount << BLOCK_SHIFT) + tailSize;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(words, 0, wordCount, 0L);
+        wordCount = 0;
+        blockCount = 0;
+        tailSize = 0;
+    }
+
+    /**
+     * Shrink the packed words and the block tables to the encoded blocks.
+     */
+    public void trimToSize() {
+        words = Arrays.copyOf(words, wordCount + 1);
+        resizeBlocks(blockCount);
+    }
+
+    /**
+     * @return The approximate number of bytes held by the array: the packed words, the block tables and the tail
+     */
+    public long sizeInBytes() {
+        long blockTables = (long) blockBases.length * (Long.BYTES + Long.BYTES + Integer.BYTES + Byte.BYTES);
+        return (long) words.length * Long.BYTES + blockTables + (long) tail.length * Long.BYTES;
+    }
+
+    /**
+     * Call {@code action} for every value, in order, decoding one block at a time.
+     *
+     * @throws IllegalArgumentException if {@code action} is null
+     */
+    public void forEach(LongConsumer action) {
+        if (action == null) {
+            throw new IllegalArgumentException("The value of argument action in " +
+                    "method forEach cannot be null!");
+        }
+
+        spliterator().forEachRemaining(action);
+    }
+
+    /**
+     * @return The sum of the values, which overflows like {@link LongStream#sum()}. The frames of the blocks are
+     * summed in closed form, so only the packed distances are decoded
+     */
+    public long sum() {
+        long slotSum = (long) BLOCK_SIZE * (BLOCK_SIZE - 1) / 2;
+        long sum = 0L;
+        for (int block = 0; block < blockCount; block++) {
+            sum += BLOCK_SIZE * blockBases[block] + slotSum * blockSteps[block];
+
+            int offset = blockOffsets[block];
+            int width = blockWidths[block];
+            if (width > 0) {
+                long mask = mask(width);
+                for (int i = 0; i < BLOCK_SIZE; i++) {
+                    sum += unpack(words, offset, width, mask, i);
+                }
+            }
+        }
+
+        for (int i = 0; i < tailSize; i++) {
+            sum += tail[i];
+        }
+        return sum;
+    }
+
+    /**
+     * @throws NoSuchElementException if the array is empty
+     */
+    public long min() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The method min cannot be called on an empty array!");
+        }
+
+        return stream().min().getAsLong();
+    }
+
+    /**
+     * @throws NoSuchElementException if the array is empty
+     */
+    public long max() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The method max cannot be called on an empty array!");
+        }
+
+        return stream().max().getAsLong();
+    }
+
+    /**
+     * @return A mutable array of the first {@code n} values
+     */
+    public long[] takeN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method" +
+                    " takeN cannot be a negative number!");
+        }
+
+        long[] values = new long[Math.min(n, size())];
+        int[] next = {0};
+        Spliterator.OfLong spliterator = new CompressedSpliterator(0, values.length);
+        spliterator.forEachRemaining((long value) -> values[next[0]++] = value);
+        return values;
+    }
+
+    /**
+     * @return A spliterator which decodes one block at a time and splits at block boundaries
+     */
+    public Spliterator.OfLong spliterator() {
+        return new CompressedSpliterator(0, size());
+    }
+
+    public LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(takeN(size()));
+    }
+
+    private final class CompressedSpliterator implements Spliterator.OfLong {
+
+        private int index;
+        private final int fence;
+
+        private long[] buffer;
+        private int bufferedBlock = -1;
+
+        private CompressedSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        /**
+         * @return The values of {@code block}, decoded into the buffer unless it is the tail
+         */
+        private long[] block(int block) {
+            if (block == blockCount) {
+                return tail;
+            }
+
+            if (block != bufferedBlock) {
+                if (buffer == null) {
+                    buffer = new long[BLOCK_SIZE];
+                }
+                decodeBlock(block, buffer);
+                bufferedBlock = block;
+            }
+            return buffer;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            int lo = index;
+            int mid = ((lo + fence) >>> 1) & ~BLOCK_MASK;
+
+            if (mid <= lo) {
+                return null;
+            }
+
+            index = mid;
+            return new CompressedSpliterator(lo, mid);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            if (index >= fence) {
+                return false;
+            }
+
+            action.accept(block(index >>> BLOCK_SHIFT)[index & BLOCK_MASK]);
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int i = index;
+            index = fence;
+
+            while (i < fence) {
+                long[] values = block(i >>> BLOCK_SHIFT);
+                int end = Math.min(fence - (i & ~BLOCK_MASK), BLOCK_SIZE);
+                for (int slot = i & BLOCK_MASK; slot < end; slot++) {
+                    action.accept(values[slot]);
+                }
+                i = (i & ~BLOCK_MASK) + end;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
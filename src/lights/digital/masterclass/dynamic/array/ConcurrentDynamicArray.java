@@ -0,0 +1,522 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Thread-safe, append-only dynamic array for many concurrent producers.
+ * <p>
+ * Producers claim slots with a single atomic increment and write them into geometrically
+ * sized chunks: chunk {@code k} holds {@code 16 << k} elements, so growing the array only
+ * allocates a new chunk and never copies or locks existing data. An element becomes visible
+ * once every slot before it has been written, which keeps {@link #size()} a contiguous prefix
+ * and makes {@link #get(int)} wait-free for every index below it.
+ * <p>
+ * Operations which remove elements or shift them are not supported and throw
+ * {@link UnsupportedOperationException}.
+ */
+public class ConcurrentDynamicArray<T> implements DynamicArray<T> {
+
+    private static final int FIRST_CHUNK_SHIFT = 4;
+    private static final int FIRST_CHUNK_SIZE = 1 << FIRST_CHUNK_SHIFT;
+    private static final int MAX_CHUNKS = Integer.SIZE - FIRST_CHUNK_SHIFT - 1;
+    private static final int MAX_ELEMENTS = (int) (((long) FIRST_CHUNK_SIZE << MAX_CHUNKS) - FIRST_CHUNK_SIZE);
+
+    private final Class<T> clazz;
+    private final AtomicReferenceArray<AtomicReferenceArray<T>> chunks;
+
+    /**
+     * The number of slots handed out to producers.
+     */
+    private final AtomicInteger claimed;
+
+    /**
+     * The length of the prefix in which every slot has been written.
+     */
+    private final AtomicInteger published;
+
+    public ConcurrentDynamicArray(Class<T> clazz) {
+        this(clazz, FIRST_CHUNK_SIZE);
+    }
+
+    public ConcurrentDynamicArray(Class<T> clazz, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The value of argument capacity " +
+                    "cannot be a negative number!");
+        }
+
+        this.clazz = clazz;
+        this.chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+        this.claimed = new AtomicInteger();
+        this.published = new AtomicInteger();
+
+        allocateChunksFor(capacity);
+    }
+
+    private static int chunkIndex(int index) {
+        return 31 - Integer.numberOfLeadingZeros((index >>> FIRST_CHUNK_SHIFT) + 1);
+    }
+
+    private static int chunkOffset(int index, int chunkIndex) {
+        return index + FIRST_CHUNK_SIZE - (FIRST_CHUNK_SIZE << chunkIndex);
+    }
+
+    private AtomicReferenceArray<T> chunk(int chunkIndex) {
+        AtomicReferenceArray<T> chunk = chunks.get(chunkIndex);
+        if (chunk == null) {
+            AtomicReferenceArray<T> newChunk = new AtomicReferenceArray<>(FIRST_CHUNK_SIZE << chunkIndex);
+            chunk = chunks.compareAndSet(chunkIndex, null, newChunk) ? newChunk : chunks.get(chunkIndex);
+        }
+        return chunk;
+    }
+
+    private void allocateChunksFor(int capacity) {
+        if (capacity > MAX_ELEMENTS) {
+            throw new IllegalArgumentException("The capacity of a concurrent array cannot be more than " +
+                    MAX_ELEMENTS + "!");
+        }
+
+        if (capacity > 0) {
+            int lastChunk = chunkIndex(capacity - 1);
+            for (int i = 0; i <= lastChunk; i++) {
+                chunk(i);
+            }
+        }
+    }
+
+    private T slot(int index) {
+        int chunkIndex = chunkIndex(index);
+        if (chunkIndex >= MAX_CHUNKS) {
+            return null;
+        }
+
+        AtomicReferenceArray<T> chunk = chunks.get(chunkIndex);
+        return chunk == null ? null : chunk.get(chunkOffset(index, chunkIndex));
+    }
+
+    private void write(int index, T element) {
+        int chunkIndex = chunkIndex(index);
+        chunk(chunkIndex).set(chunkOffset(index, chunkIndex), element);
+    }
+
+    /**
+     * Claim {@code count} consecutive slots and return the first of them.
+     */
+    private int claim(int count) {
+        int first = claimed.getAndAdd(count);
+        if (first < 0 || first > MAX_ELEMENTS - count) {
+            throw new IllegalStateException("The array cannot hold more than " +
+                    MAX_ELEMENTS + " elements!");
+        }
+        return first;
+    }
+
+    /**
+     * Move the published prefix over every written slot. Any producer may finish
+     * the work of another one, so a stalled producer only delays the elements after its own.
+     */
+    private void publish() {
+        int prefix;
+        while ((prefix = published.get()) < claimed.get() && slot(prefix) != null) {
+            published.compareAndSet(prefix, prefix + 1);
+        }
+    }
+
+    private void checkIndex(int index, String methodName) {
+        if (index < 0 || index >= published.get()) {
+            throw new IndexOutOfBoundsException("The value of argument index in method " + methodName +
+                    " cannot be less than 0 or more than the array size!");
+        }
+    }
+
+    private static UnsupportedOperationException appendOnly(String methodName) {
+        return new UnsupportedOperationException("The method " + methodName +
+                " is not supported by an append-only array!");
+    }
+
+    @Override
+    public void push(T newElement) {
+        if (newElement == null) {
+            throw new IllegalArgumentException("The value of argument newElement, " +
+                    "in method push, cannot be null");
+        }
+
+        write(claim(1), newElement);
+        publish();
+    }
+
+    @Override
+    public T pop() {
+        throw appendOnly("pop");
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, "get");
+
+        return slot(index);
+    }
+
+    @Override
+    public int size() {
+        return published.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        throw appendOnly("clear");
+    }
+
+    @Override
+    public boolean contains(T element) {
+        if (element == null) {
+            return false;
+        }
+
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            if (element.equals(slot(i))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean containsAll(Collection<T> tCollection) {
+        for (T element : tCollection) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void remove() {
+        throw appendOnly("remove");
+    }
+
+    @Override
+    public void remove(int index) {
+        throw appendOnly("remove");
+    }
+
+    @Override
+    public void ensureCapacity(int newSize) {
+        if (newSize < capacity()) {
+            throw new IllegalArgumentException("The value of argument newSize " +
+                    "cannot be less than the current capacity of the array!");
+        }
+
+        allocateChunksFor(newSize);
+    }
+
+    /**
+     * Does nothing, because releasing a chunk could lose elements written by a concurrent producer.
+     */
+    @Override
+    public void trimToSize() {
+    }
+
+    @Override
+    public int capacity() {
+        long capacity = 0;
+        for (int i = 0; i < MAX_CHUNKS; i++) {
+            if (chunks.get(i) != null) {
+                capacity += FIRST_CHUNK_SIZE << i;
+            }
+        }
+
+        return (int) Math.min(capacity, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public T set(int index, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("The value of argument value " +
+                    "in method set cannot be null!");
+        }
+
+        checkIndex(index, "set");
+
+        int chunkIndex = chunkIndex(index);
+        return chunks.get(chunkIndex).getAndSet(chunkOffset(index, chunkIndex), value);
+    }
+
+    @Override
+    public T delete(int index) {
+        throw appendOnly("delete");
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw appendOnly("removeRange");
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw appendOnly("removeIf");
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> tCollection) {
+        throw appendOnly("retainAll");
+    }
+
+    @Override
+    public T[] takeN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method" +
+                    " takeN cannot be a negative number!");
+        }
+
+        int length = Math.min(n, size());
+        T[] localArrayCopyOfFirstNElements = (T[]) Array.newInstance(clazz, length);
+        copyTo(localArrayCopyOfFirstNElements, length);
+
+        return localArrayCopyOfFirstNElements;
+    }
+
+    @Override
+    public T[] dropN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method " +
+                    "dropN cannot be a negative number!");
+        }
+
+        int length = Math.max(size() - n, 0);
+        T[] localArrayCopyOfFirstSizeDivNElements = (T[]) Array.newInstance(clazz, length);
+        copyTo(localArrayCopyOfFirstSizeDivNElements, length);
+
+        return localArrayCopyOfFirstSizeDivNElements;
+    }
+
+    private void copyTo(T[] destination, int length) {
+        for (int i = 0; i < length; i++) {
+            destination[i] = slot(i);
+        }
+    }
+
+    @SafeVarargs
+    @Override
+    public final void addAll(T... elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method addAll cannot be null!");
+        }
+
+        appendArray(elements, 0, elements.length, "addAll");
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method addAll cannot be null!");
+        }
+
+        Object[] elements = tCollection.toArray();
+        appendArray(elements, 0, elements.length, "addAll");
+    }
+
+    @Override
+    public void addAll(DynamicArray<? extends T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("The value of argument other in " +
+                    "method addAll cannot be null!");
+        }
+
+        int otherSize = other.size();
+        if (otherSize > 0) {
+            appendArray(other.takeN(otherSize), 0, otherSize, "addAll");
+        }
+    }
+
+    @Override
+    public void addAll(T[] elements, int fromIndex, int toIndex) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method addAll cannot be null!");
+        }
+
+        appendArray(elements, fromIndex, toIndex, "addAll");
+    }
+
+    /**
+     * Claim the slots for the whole batch with one atomic operation and fill them. Every element is checked
+     * before the claim, since a claimed slot which is never written would stop {@link #publish()} for good.
+     *
+     * @throws ClassCastException if an element is not an instance of the element class
+     */
+    private void appendArray(Object[] elements, int fromIndex, int toIndex, String methodName) {
+        if (fromIndex < 0 || toIndex > elements.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method " + methodName + " is outside of the given elements!");
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (elements[i] == null) {
+                throw new IllegalArgumentException("The elements in method " + methodName +
+                        " cannot contain null!");
+            }
+            clazz.cast(elements[i]);
+        }
+
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+
+        int first = claim(count);
+        for (int i = 0; i < count; i++) {
+            write(first + i, (T) elements[fromIndex + i]);
+        }
+        publish();
+    }
+
+    @SafeVarargs
+    @Override
+    public final void insertAll(int index, T... elements) {
+        throw appendOnly("insertAll");
+    }
+
+    @Override
+    public void insertAll(int index, Collection<? extends T> tCollection) {
+        throw appendOnly("insertAll");
+    }
+
+    @Override
+    public List<T> copy() {
+        return List.of(takeN(size()));
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(takeN(size()));
+    }
+
+    /**
+     * The view covers part of the published prefix, whose slots never change, so it never fails
+     * with a {@link java.util.ConcurrentModificationException} while other threads append.
+     */
+    @Override
+    public DynamicArrayView<T> slice(int fromIndex, int toIndex) {
+        return new DynamicArrayView<>(this, clazz, fromIndex, toIndex, () -> 0);
+    }
+
+    /**
+     * The pipeline runs over the prefix published when its terminal operation starts, so appends by
+     * other threads during the loop are neither seen nor reported.
+     */
+    @Override
+    public DynamicArrayPipeline<T> lazy() {
+        return new DynamicArrayPipeline<>(this, clazz, null, () -> 0);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ChunkSpliterator(0, -1);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Spliterator over the elements published when the traversal starts.
+     * Elements pushed afterwards are not seen, elements replaced by {@link #set(int, Object)} may be.
+     */
+    private final class ChunkSpliterator implements Spliterator<T> {
+
+        private int index;
+        private int fence;
+
+        private ChunkSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                fence = size();
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+
+            if (lo >= mid) {
+                return null;
+            }
+
+            index = mid;
+            return new ChunkSpliterator(lo, mid);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            if (index >= getFence()) {
+                return false;
+            }
+
+            action.accept(slot(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int hi = getFence();
+            while (index < hi) {
+                int chunkIndex = chunkIndex(index);
+                AtomicReferenceArray<T> chunk = chunks.get(chunkIndex);
+                int offset = chunkOffset(index, chunkIndex);
+                int end = Math.min(chunk.length(), offset + hi - index);
+
+                for (int i = offset; i < end; i++) {
+                    action.accept(chunk.get(i));
+                }
+                index += end - offset;
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
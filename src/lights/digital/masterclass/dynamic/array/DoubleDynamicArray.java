@@ -0,0 +1,167 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+
+public interface DoubleDynamicArray {
+
+    /**
+     * Add an element to the end of the array.
+     *
+     * @param newElement The element we want to add to our array
+     */
+    void push(double newElement);
+
+    /**
+     * Delete the last added element in the array and return it.
+     *
+     * @return The last added element in the array
+     * @throws java.util.NoSuchElementException if the array is empty
+     */
+    double pop();
+
+    /**
+     * Find the element on position index and return it.
+     *
+     * @param index The position of the wanted element
+     * @return The element on position index
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or not less than the array size
+     */
+    double get(int index);
+
+    /**
+     * @return The current size of the array
+     */
+    int size();
+
+    /**
+     * @return If the current array contains no elements return true, else false
+     */
+    boolean isEmpty();
+
+    /**
+     * Erases all elements from the array.
+     */
+    void clear();
+
+    /**
+     * @param element The element we are searching for in the array
+     * @return Whether the element is in the array or not.
+     */
+    boolean contains(double element);
+
+    /**
+     * @param element The element we are searching for in the array, compared like {@link Double#compare(double, double)}
+     * @return The position of the first occurrence of {@code element} or -1 if it is not in the array
+     */
+    int indexOf(double element);
+
+    /**
+     * The additions may be grouped differently than in a sequential loop, so the result
+     * can differ from {@link DoubleStream#sum()} in the last bits.
+     *
+     * @return The sum of the elements
+     */
+    double sum();
+
+    /**
+     * @return The smallest element in the array
+     * @throws java.util.NoSuchElementException if the array is empty
+     */
+    double min();
+
+    /**
+     * @return The largest element in the array
+     * @throws java.util.NoSuchElementException if the array is empty
+     */
+    double max();
+
+    /**
+     * @param threshold The value the counted elements must be more than
+     * @return The number of elements which are more than {@code threshold}
+     */
+    int countGreaterThan(double threshold);
+
+    /**
+     * @param threshold The value the selected elements must be more than
+     * @return The ascending positions of the elements which are more than {@code threshold}
+     */
+    int[] indexesGreaterThan(double threshold);
+
+    /**
+     * Remove an element on the last position in the array.
+     */
+    void remove();
+
+    /**
+     * Remove the element on position index in the array.
+     *
+     * @param index The position of the element we are removing
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or not less than the array size
+     */
+    void remove(int index);
+
+    /**
+     * Enlarge the capacity of the array to {@code newSize}
+     *
+     * @param newSize The new capacity which should be ensured
+     * @throws IllegalArgumentException if {@code newSize} is less than the current array capacity
+     */
+    void ensureCapacity(int newSize);
+
+    /**
+     * Decrease the capacity of the current array to the number of elements in it.
+     */
+    void trimToSize();
+
+    /**
+     * @return The capacity of the current array
+     */
+    int capacity();
+
+    /**
+     * Set the value on position {@code index} to {@code value}.
+     *
+     * @param index The position which should be upgraded
+     * @param value The new value for position index
+     * @return The old value on position index
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or not less than the array size
+     */
+    double set(int index, double value);
+
+    /**
+     * Deletes an element on a certain index and returns it.
+     *
+     * @param index The position of the element we are trying to delete
+     * @return The element we have deleted
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or not less than the array size
+     */
+    double delete(int index);
+
+    /**
+     * @param n The number of elements that should be returned.
+     * @return A mutable array of the first n elements
+     */
+    double[] takeN(int n);
+
+    /**
+     * @param n The number of element that should be removed
+     * @return A mutable array of the first (size() - n ) elements
+     */
+    double[] dropN(int n);
+
+    /**
+     * @param elements The elements which should be added to the current array
+     */
+    void addAll(double... elements);
+
+    /**
+     * @return A spliterator over the elements of the array
+     */
+    Spliterator.OfDouble spliterator();
+
+    /**
+     * @return A DoubleStream of the elements in the current array.
+     */
+    DoubleStream stream();
+}
@@ -0,0 +1,270 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+public class DoubleDynamicArrayImplementation implements DoubleDynamicArray {
+
+    /**
+     * The search and aggregation loops, vectorized when the Vector API is available.
+     */
+    private static final PrimitiveKernels KERNELS = PrimitiveKernels.INSTANCE;
+
+    private final GrowthPolicy growthPolicy;
+
+    private double[] dynamicArray;
+    private int size;
+
+    private void resize(int minCapacity) {
+        int newCapacity = growthPolicy.grow(this.dynamicArray.length, minCapacity);
+        if (newCapacity < minCapacity) {
+            throw new IllegalStateException("The growth policy returned capacity " + newCapacity +
+                    ", which cannot hold " + minCapacity + " elements!");
+        }
+
+        this.dynamicArray = Arrays.copyOf(this.dynamicArray, newCapacity);
+    }
+
+    public DoubleDynamicArrayImplementation() {
+        this(1);
+    }
+
+    public DoubleDynamicArrayImplementation(int capacity) {
+        this(capacity, GrowthPolicy.defaultPolicy());
+    }
+
+    public DoubleDynamicArrayImplementation(int capacity, GrowthPolicy growthPolicy) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The value of argument capacity " +
+                    "cannot be a negative number!");
+        }
+
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("The value of argument growthPolicy " +
+                    "cannot be null!");
+        }
+
+        this.growthPolicy = growthPolicy;
+        this.dynamicArray = new double[capacity];
+        this.size = 0;
+    }
+
+    @Override
+    public void push(double newElement) {
+        if (this.size >= this.dynamicArray.length) {
+            resize(this.size + 1);
+        }
+
+        this.dynamicArray[size++] = newElement;
+    }
+
+    @Override
+    public double pop() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("The method pop cannot be called on an empty array!");
+        }
+
+        return this.dynamicArray[--size];
+    }
+
+    @Override
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The argument index in method get" +
+                    " cannot be less than 0 or more than the array size!");
+        }
+
+        return dynamicArray[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        this.size = 0;
+    }
+
+    @Override
+    public boolean contains(double element) {
+        return KERNELS.indexOf(dynamicArray, size, element) >= 0;
+    }
+
+    @Override
+    public int indexOf(double element) {
+        return KERNELS.indexOf(dynamicArray, size, element);
+    }
+
+    @Override
+    public double sum() {
+        return KERNELS.sum(dynamicArray, size);
+    }
+
+    @Override
+    public double min() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("The method min cannot be called on an empty array!");
+        }
+
+        return KERNELS.min(dynamicArray, size);
+    }
+
+    @Override
+    public double max() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("The method max cannot be called on an empty array!");
+        }
+
+        return KERNELS.max(dynamicArray, size);
+    }
+
+    @Override
+    public int countGreaterThan(double threshold) {
+        return KERNELS.countGreaterThan(dynamicArray, size, threshold);
+    }
+
+    @Override
+    public int[] indexesGreaterThan(double threshold) {
+        return KERNELS.indexesGreaterThan(dynamicArray, size, threshold);
+    }
+
+    @Override
+    public void remove() {
+        delete(this.size - 1);
+    }
+
+    @Override
+    public void remove(int index) {
+        delete(index);
+    }
+
+    @Override
+    public void ensureCapacity(int newSize) {
+        if (newSize < this.dynamicArray.length) {
+            throw new IllegalArgumentException("The value of argument newSize " +
+                    "cannot be less than the current capacity of the array!");
+        }
+
+        this.dynamicArray = Arrays.copyOf(this.dynamicArray, newSize);
+    }
+
+    @Override
+    public void trimToSize() {
+        this.dynamicArray = Arrays.copyOf(this.dynamicArray, size);
+    }
+
+    @Override
+    public int capacity() {
+        return this.dynamicArray.length;
+    }
+
+    @Override
+    public double set(int index, double value) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The value of argument index in " +
+                    "method set cannot be less than 0 and more than the array size!");
+        }
+
+        double oldValueOnPositionIndex = dynamicArray[index];
+        dynamicArray[index] = value;
+
+        return oldValueOnPositionIndex;
+    }
+
+    @Override
+    public double delete(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The value of argument index cannot be" +
+                    " less than 0 and more than array length!");
+        }
+
+        double result = dynamicArray[index];
+
+        System.arraycopy(dynamicArray, index + 1, dynamicArray, index, size - index - 1);
+        size--;
+
+        return result;
+    }
+
+    @Override
+    public double[] takeN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method" +
+                    " takeN cannot be a negative number!");
+        }
+
+        return Arrays.copyOf(dynamicArray, Math.min(n, size));
+    }
+
+    @Override
+    public double[] dropN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method " +
+                    "dropN cannot be a negative number!");
+        }
+
+        if (n > size) {
+            return new double[0];
+        }
+
+        return Arrays.copyOf(dynamicArray, size - n);
+    }
+
+    @Override
+    public void addAll(double... elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method addAll cannot be null!");
+        }
+
+        if (size + elements.length > dynamicArray.length) {
+            resize(size + elements.length);
+        }
+
+        System.arraycopy(elements, 0, dynamicArray, size, elements.length);
+        size += elements.length;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(takeN(size));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DoubleDynamicArrayImplementation that = (DoubleDynamicArrayImplementation) o;
+        return Arrays.equals(dynamicArray, 0, size, that.dynamicArray, 0, that.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Double.hashCode(dynamicArray[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return Spliterators.spliterator(dynamicArray, 0, size, Spliterator.ORDERED);
+    }
+
+    @Override
+    public DoubleStream stream() {
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
+}
@@ -1,8 +1,13 @@
 package lights.digital.masterclass.dynamic.array;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 public interface DynamicArray<T> {
@@ -58,6 +63,42 @@ public interface DynamicArray<T> {
      */
     boolean containsAll(Collection<T> tCollection);
 
+    /**
+     * @param element The element we are searching for in the array
+     * @return The position of the first occurrence of {@code element} or -1 if it is not in the array
+     */
+    default int indexOf(T element) {
+        if (element == null) {
+            return -1;
+        }
+
+        for (int i = 0, size = size(); i < size; i++) {
+            if (element.equals(get(i))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @param element The element we are searching for in the array
+     * @return The position of the last occurrence of {@code element} or -1 if it is not in the array
+     */
+    default int lastIndexOf(T element) {
+        if (element == null) {
+            return -1;
+        }
+
+        for (int i = size() - 1; i >= 0; i--) {
+            if (element.equals(get(i))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
     /**
      * Remove an element on the last position in the array.
      */
@@ -109,6 +150,33 @@ public interface DynamicArray<T> {
      */
     T delete(int index);
 
+    /**
+     * Remove the elements on positions from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive.
+     *
+     * @param fromIndex The position of the first removed element
+     * @param toIndex   The position after the last removed element
+     * @throws IndexOutOfBoundsException if the range is outside of the array or {@code fromIndex} is more than {@code toIndex}
+     */
+    void removeRange(int fromIndex, int toIndex);
+
+    /**
+     * Remove every element which matches {@code filter}, keeping the order of the other elements.
+     *
+     * @param filter The condition for removing an element
+     * @return Whether any element was removed
+     * @throws IllegalArgumentException if {@code filter} is null
+     */
+    boolean removeIf(Predicate<? super T> filter);
+
+    /**
+     * Remove every element which is not contained in {@code tCollection}.
+     *
+     * @param tCollection The elements which should be kept
+     * @return Whether any element was removed
+     * @throws IllegalArgumentException if {@code tCollection} is null
+     */
+    boolean retainAll(Collection<?> tCollection);
+
     /**
      * @param n The number of elements that should be returned.
      * @return A mutable array of the first n elements
@@ -126,6 +194,186 @@ public interface DynamicArray<T> {
      */
     void addAll(T... elements);
 
+    /**
+     * Add all elements of {@code tCollection} to the end of the array, growing it at most once.
+     *
+     * @param tCollection The elements which should be added to the current array
+     * @throws IllegalArgumentException if {@code tCollection} is null or contains null
+     */
+    void addAll(Collection<? extends T> tCollection);
+
+    /**
+     * Add all elements of {@code other} to the end of the array, growing it at most once.
+     *
+     * @param other The array whose elements should be added to the current array
+     * @throws IllegalArgumentException if {@code other} is null
+     */
+    void addAll(DynamicArray<? extends T> other);
+
+    /**
+     * Add {@code elements[fromIndex..toIndex)} to the end of the array, growing it at most once.
+     *
+     * @param elements  The array holding the elements which should be added
+     * @param fromIndex The position of the first element to add, inclusive
+     * @param toIndex   The position of the last element to add, exclusive
+     * @throws IllegalArgumentException  if {@code elements} is null or the range contains null
+     * @throws IndexOutOfBoundsException if the range is outside of {@code elements}
+     */
+    void addAll(T[] elements, int fromIndex, int toIndex);
+
+    /**
+     * Insert {@code elements} on position {@code index}, shifting the following elements to the right.
+     *
+     * @param index    The position of the first inserted element
+     * @param elements The elements which should be inserted
+     * @throws IllegalArgumentException  if {@code elements} is null or contains null
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or more than the array size
+     */
+    void insertAll(int index, T... elements);
+
+    /**
+     * Insert the elements of {@code tCollection} on position {@code index}, shifting the following elements to the right.
+     *
+     * @param index       The position of the first inserted element
+     * @param tCollection The elements which should be inserted
+     * @throws IllegalArgumentException  if {@code tCollection} is null or contains null
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or more than the array size
+     */
+    void insertAll(int index, Collection<? extends T> tCollection);
+
+    /**
+     * Sort the elements in place. The sort is stable.
+     *
+     * @param comparator The order of the sorted elements
+     * @throws IllegalArgumentException if {@code comparator} is null
+     */
+    default void sort(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("The value of argument comparator in " +
+                    "method sort cannot be null!");
+        }
+
+        T[] elements = takeN(size());
+        Arrays.sort(elements, comparator);
+        setAll(elements);
+    }
+
+    /**
+     * Sort the elements in place, splitting large arrays across the common fork/join pool.
+     * The sort is stable.
+     *
+     * @param comparator The order of the sorted elements
+     * @throws IllegalArgumentException if {@code comparator} is null
+     */
+    default void parallelSort(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("The value of argument comparator in " +
+                    "method parallelSort cannot be null!");
+        }
+
+        T[] elements = takeN(size());
+        BulkOperations.parallelSort(elements, elements.length, comparator);
+        setAll(elements);
+    }
+
+    /**
+     * Replace every element with the result of folding {@code operator} over it and all elements before it,
+     * splitting large arrays across the common fork/join pool.
+     *
+     * @param operator An associative function without side effects
+     * @throws IllegalArgumentException if {@code operator} is null or returns null
+     */
+    default void parallelPrefix(BinaryOperator<T> operator) {
+        if (operator == null) {
+            throw new IllegalArgumentException("The value of argument operator in " +
+                    "method parallelPrefix cannot be null!");
+        }
+
+        T[] elements = takeN(size());
+        BulkOperations.parallelPrefix(elements, elements.length, operator);
+        setAll(elements);
+    }
+
+    /**
+     * Apply {@code mapper} to every element, splitting large arrays across the common fork/join pool.
+     *
+     * @param mapper      A function without side effects
+     * @param resultClass The type of the mapped elements
+     * @return A new array, sized exactly for the results, in the order of the original elements
+     * @throws IllegalArgumentException if {@code mapper} or {@code resultClass} is null, or {@code mapper} returns null
+     */
+    default <R> DynamicArray<R> map(Function<? super T, ? extends R> mapper, Class<R> resultClass) {
+        if (mapper == null || resultClass == null) {
+            throw new IllegalArgumentException("The values of arguments mapper and resultClass in " +
+                    "method map cannot be null!");
+        }
+
+        T[] elements = takeN(size());
+        R[] mapped = BulkOperations.map(elements, elements.length, mapper, resultClass);
+        return new DynamicArrayImplementation<>(resultClass, mapped, mapped.length);
+    }
+
+    /**
+     * Keep the elements which match {@code filter}, splitting large arrays across the common fork/join pool.
+     *
+     * @param filter A condition without side effects
+     * @return A new array, sized exactly for the matching elements, in their original order
+     * @throws IllegalArgumentException if {@code filter} is null
+     */
+    default DynamicArray<T> filter(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("The value of argument filter in " +
+                    "method filter cannot be null!");
+        }
+
+        T[] elements = takeN(size());
+        Class<T> clazz = (Class<T>) elements.getClass().getComponentType();
+        T[] matching = BulkOperations.filter(elements, elements.length, filter, clazz);
+        return new DynamicArrayImplementation<>(clazz, matching, matching.length);
+    }
+
+    private void setAll(T[] elements) {
+        for (int i = 0; i < elements.length; i++) {
+            set(i, elements[i]);
+        }
+    }
+
+    /**
+     * Create a view over the positions {@code [fromIndex, toIndex)} without copying any element.
+     * The view reads and writes through to this array. It does not detect modifications of this array;
+     * implementations which count their structural modifications override this method with a view which
+     * fails fast once the array is modified structurally.
+     *
+     * @param fromIndex The position of the first element of the view, inclusive
+     * @param toIndex   The position after the last element of the view, exclusive
+     * @return A view of {@code toIndex - fromIndex} elements
+     * @throws IndexOutOfBoundsException if the range is outside of the array or {@code fromIndex} is more than {@code toIndex}
+     */
+    default DynamicArray<T> slice(int fromIndex, int toIndex) {
+        Class<T> clazz = (Class<T>) takeN(0).getClass().getComponentType();
+        return new DynamicArrayView<>(this, clazz, fromIndex, toIndex, () -> 0);
+    }
+
+    /**
+     * @return A view over all elements of the array, same as {@code slice(0, size())}
+     */
+    default DynamicArray<T> view() {
+        return slice(0, size());
+    }
+
+    /**
+     * Start a lazy pipeline over the elements. Its {@code filter}, {@code map} and {@code limit} operations
+     * run together in one loop over the array when a terminal operation of the pipeline is called.
+     * The pipeline does not detect modifications of this array; implementations which count their structural
+     * modifications override this method with a pipeline which fails fast.
+     *
+     * @return A new pipeline without operations, producing the elements of this array
+     */
+    default DynamicArrayPipeline<T> lazy() {
+        Class<T> clazz = (Class<T>) takeN(0).getClass().getComponentType();
+        return new DynamicArrayPipeline<>(this, clazz, null, () -> 0);
+    }
+
     /**
      * @return An immutable list copy of the array
      */
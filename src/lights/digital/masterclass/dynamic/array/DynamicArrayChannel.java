@@ -0,0 +1,340 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded first-in first-out channel for handing elements between any number of producer and consumer threads.
+ * <p>
+ * The elements are kept in a {@link CircularDynamicArray} allocated once with the capacity of the channel.
+ * Every operation holds a {@link ReentrantLock}, and waiting threads park on its conditions rather than
+ * on an object monitor, so a waiting virtual thread does not pin its carrier thread.
+ * <p>
+ * {@link #drainTo} and {@link #takeBatch} move a whole batch to the target array under a single lock
+ * acquisition with at most two block copies, and {@link #offerAll} does the same for producers, so the
+ * cost of locking and signalling is shared by all elements of the batch.
+ *
+ * @param <T> The type of the elements in the channel
+ */
+public class DynamicArrayChannel<T> {
+
+    private final CircularDynamicArray<T> buffer;
+    private final int capacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * @param capacity The largest number of elements the channel holds
+     * @throws IllegalArgumentException if {@code capacity} is less than 1
+     */
+    public DynamicArrayChannel(Class<T> clazz, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The value of argument capacity " +
+                    "cannot be less than 1!");
+        }
+
+        this.buffer = new CircularDynamicArray<>(clazz, capacity);
+        this.capacity = capacity;
+    }
+
+    private static void checkElement(Object element, String methodName) {
+        if (element == null) {
+            throw new IllegalArgumentException("The value of argument element in method " +
+                    methodName + " cannot be null!");
+        }
+    }
+
+    private static void checkTarget(DynamicArray<?> target, int maxElements, String methodName) {
+        if (target == null) {
+            throw new IllegalArgumentException("The value of argument target in method " +
+                    methodName + " cannot be null!");
+        }
+
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("The value of argument maxElements in method " +
+                    methodName + " cannot be a negative number!");
+        }
+    }
+
+    /**
+     * Add {@code element} to the back of the channel. The lock must be held and the channel must not be full.
+     */
+    private void enqueue(T element) {
+        buffer.push(element);
+        notEmpty.signal();
+    }
+
+    /**
+     * Take the front element. The lock must be held and the channel must not be empty.
+     */
+    private T dequeue() {
+        T element = buffer.popFirst();
+        notFull.signal();
+        return element;
+    }
+
+    /**
+     * Move up to {@code maxElements} elements to {@code target}. The lock must be held. Waiting producers are
+     * signalled for every freed slot even if {@code target} fails, since a failing wrapped block leaves the
+     * block before it moved.
+     */
+    private int drain(DynamicArray<? super T> target, int maxElements) {
+        int sizeBefore = buffer.size();
+        try {
+            return buffer.drainFirstTo(target, maxElements);
+        } finally {
+            int freed = sizeBefore - buffer.size();
+            if (freed == 1) {
+                notFull.signal();
+            } else if (freed > 1) {
+                notFull.signalAll();
+            }
+        }
+    }
+
+    /**
+     * Add {@code element} if the channel has room for it, without waiting.
+     *
+     * @return Whether the element was added
+     * @throws IllegalArgumentException if {@code element} is null
+     */
+    public boolean offer(T element) {
+        checkElement(element, "offer");
+
+        lock.lock();
+        try {
+            if (buffer.size() == capacity) {
+                return false;
+            }
+
+            enqueue(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Add {@code element}, waiting up to {@code timeout} for room in the channel.
+     *
+     * @return Whether the element was added before the timeout elapsed
+     * @throws IllegalArgumentException if {@code element} or {@code unit} is null
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     */
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        checkElement(element, "offer");
+        if (unit == null) {
+            throw new IllegalArgumentException("The value of argument unit in method offer " +
+                    "cannot be null!");
+        }
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (buffer.size() == capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+
+            enqueue(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Add {@code element}, waiting for room in the channel as long as necessary.
+     *
+     * @throws IllegalArgumentException if {@code element} is null
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     */
+    public void put(T element) throws InterruptedException {
+        checkElement(element, "put");
+
+        lock.lockInterruptibly();
+        try {
+            while (buffer.size() == capacity) {
+                notFull.await();
+            }
+
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Add as many elements of {@code elements[fromIndex..toIndex)} as the channel has room for, in their order,
+     * without waiting.
+     *
+     * @return The number of added elements, which are always the first ones of the range
+     * @throws IllegalArgumentException  if {@code elements} is null or the added part of the range contains null
+     * @throws IndexOutOfBoundsException if the range is outside of {@code elements}
+     */
+    public int offerAll(T[] elements, int fromIndex, int toIndex) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in method offerAll " +
+                    "cannot be null!");
+        }
+
+        if (fromIndex < 0 || toIndex > elements.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method offerAll must be inside the array and fromIndex cannot be more than toIndex!");
+        }
+
+        lock.lock();
+        try {
+            int added = Math.min(toIndex - fromIndex, capacity - buffer.size());
+            if (added == 0) {
+                return 0;
+            }
+
+            buffer.addAll(elements, fromIndex, fromIndex + added);
+            if (added == 1) {
+                notEmpty.signal();
+            } else {
+                notEmpty.signalAll();
+            }
+            return added;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take the front element if there is one, without waiting.
+     *
+     * @return The front element or null if the channel is empty
+     */
+    public T poll() {
+        lock.lock();
+        try {
+            return buffer.isEmpty() ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take the front element, waiting up to {@code timeout} for one to arrive.
+     *
+     * @return The front element or null if the timeout elapsed first
+     * @throws IllegalArgumentException if {@code unit} is null
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (unit == null) {
+            throw new IllegalArgumentException("The value of argument unit in method poll " +
+                    "cannot be null!");
+        }
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (buffer.isEmpty()) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take the front element, waiting for one to arrive as long as necessary.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (buffer.isEmpty()) {
+                notEmpty.await();
+            }
+
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Move up to {@code maxElements} elements from the front of the channel to the end of {@code target},
+     * in their order, without waiting.
+     *
+     * @return The number of moved elements
+     * @throws IllegalArgumentException if {@code target} is null or {@code maxElements} is negative
+     */
+    public int drainTo(DynamicArray<? super T> target, int maxElements) {
+        checkTarget(target, maxElements, "drainTo");
+
+        lock.lock();
+        try {
+            return drain(target, maxElements);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until the channel has at least one element, then move up to {@code maxElements} elements
+     * from its front to the end of {@code target}, in their order.
+     *
+     * @return The number of moved elements, at least 1 unless {@code maxElements} is 0
+     * @throws IllegalArgumentException if {@code target} is null or {@code maxElements} is negative
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     */
+    public int takeBatch(DynamicArray<? super T> target, int maxElements) throws InterruptedException {
+        checkTarget(target, maxElements, "takeBatch");
+        if (maxElements == 0) {
+            return 0;
+        }
+
+        lock.lockInterruptibly();
+        try {
+            while (buffer.isEmpty()) {
+                notEmpty.await();
+            }
+
+            return drain(target, maxElements);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of elements waiting in the channel
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return buffer.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of elements which can be added without waiting
+     */
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    /**
+     * @return The largest number of elements the channel holds
+     */
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,36 @@
+package lights.digital.masterclass.dynamic.array;
+
+import jdk.jfr.*;
+
+/**
+ * Flight Recorder event for an operation which copied or moved at least
+ * {@link #THRESHOLD} elements of a dynamic array.
+ */
+@Name("lights.digital.masterclass.dynamic.array.LargeCopy")
+@Label("Dynamic Array Large Copy")
+@Category("Dynamic Array")
+@Description("A dynamic array operation copied or moved many elements")
+@StackTrace(true)
+final class DynamicArrayCopyEvent extends Event {
+
+    static final int THRESHOLD = 1 << 16;
+
+    @Label("Element Type")
+    Class<?> elementType;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Copied Elements")
+    int copiedElements;
+
+    static void emit(Class<?> elementType, String operation, int copiedElements) {
+        DynamicArrayCopyEvent event = new DynamicArrayCopyEvent();
+        if (event.shouldCommit()) {
+            event.elementType = elementType;
+            event.operation = operation;
+            event.copiedElements = copiedElements;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package lights.digital.masterclass.dynamic.array;
+
+import jdk.jfr.*;
+
+/**
+ * Flight Recorder event for a reallocation of the backing array of a dynamic array.
+ */
+@Name("lights.digital.masterclass.dynamic.array.Growth")
+@Label("Dynamic Array Growth")
+@Category("Dynamic Array")
+@Description("The backing array of a dynamic array was reallocated")
+@StackTrace(true)
+final class DynamicArrayGrowthEvent extends Event {
+
+    @Label("Element Type")
+    Class<?> elementType;
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+    @Label("Copied Elements")
+    int copiedElements;
+}
@@ -2,34 +2,149 @@ package lights.digital.masterclass.dynamic.array;
 
 import java.lang.reflect.Array;
 import java.util.*;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-public class DynamicArrayImplementation<T> implements DynamicArray<T> {
+public class DynamicArrayImplementation<T> implements DynamicArray<T>, AutoCloseable {
+
+    /**
+     * The multiplicative inverse of 31 in int arithmetic, {@code 31 * INVERSE_OF_31 == 1}, used to take
+     * the last element out of the hash.
+     */
+    static final int INVERSE_OF_31 = -1108378657;
 
     private final Class<T> clazz;
+    private final GrowthPolicy growthPolicy;
+    private final ShrinkPolicy shrinkPolicy;
+
+    /**
+     * The pool backing arrays are taken from and returned to, or null if they are allocated directly.
+     */
+    private final ArrayPool arrayPool;
 
     private T[] dynamicArray;
     private int capacity;
     private int size;
 
-    private static double DOUBLE_CAPACITY_COEFFICIENT = 2;
+    /**
+     * The number of structural modifications, used by spliterators to fail fast.
+     */
+    private int modCount;
+
+    /**
+     * The cached {@link #hashCode()}, valid while {@code hashModCount} equals {@code modCount}.
+     * It starts out invalid, so arrays whose hash is never asked for pay nothing for it. Once
+     * {@link #hashCode()} has computed it, {@link #push}, {@link #pop}, {@link #set} and {@link #clear}
+     * keep it up to date, every other structural modification invalidates it.
+     */
+    private int hash = 1;
+    private int hashModCount;
+
+    /**
+     * Optional index from element to positions, null unless {@link #enableElementIndex()} was called.
+     */
+    private ElementIndex elementIndex;
+
+    /**
+     * Optional counters, null unless {@link #enableMetrics()} was called.
+     */
+    private DynamicArrayMetrics metrics;
+
+    private void resize(int minCapacity) {
+        int newCapacity = growthPolicy.grow(this.capacity, minCapacity);
+        if (newCapacity < minCapacity) {
+            throw new IllegalStateException("The growth policy returned capacity " + newCapacity +
+                    ", which cannot hold " + minCapacity + " elements!");
+        }
+
+        reallocate(newCapacity, "resize");
+    }
+
+    /**
+     * Give capacity back after a removal, if the shrink policy asks for it.
+     */
+    private void shrinkIfNeeded() {
+        int newCapacity = shrinkPolicy.shrink(this.capacity, this.size);
+        if (newCapacity >= this.capacity) {
+            return;
+        }
+
+        if (newCapacity < this.size) {
+            throw new IllegalStateException("The shrink policy returned capacity " + newCapacity +
+                    ", which cannot hold " + this.size + " elements!");
+        }
 
-    private void resize() {
-        if (DOUBLE_CAPACITY_COEFFICIENT > 1.6 && this.size () > 1000) {
-            DOUBLE_CAPACITY_COEFFICIENT -= 0.1;
+        if (arrayPool != null && arrayPool.lengthFor(newCapacity) >= this.capacity) {
+            return;
         }
 
-        T[] newDynamicArrayWithDoubleCapacity =
-                (T[]) Array.newInstance(clazz, (int) (DOUBLE_CAPACITY_COEFFICIENT * capacity) + 1);
+        reallocate(newCapacity, "shrink");
+    }
+
+    /**
+     * Move the elements to a new backing array of length {@code newCapacity}, recording
+     * the reallocation in the metrics and as a Flight Recorder event.
+     */
+    private void reallocate(int newCapacity, String operation) {
+        long start = metrics == null ? 0 : System.nanoTime();
+        DynamicArrayGrowthEvent event = new DynamicArrayGrowthEvent();
+        event.begin();
+
+        T[] newDynamicArray = newBackingArray(newCapacity);
 
-        if (this.size >= 0) {
+        if (this.size > 0) {
             System.arraycopy(this.dynamicArray, 0,
-                    newDynamicArrayWithDoubleCapacity, 0, this.size);
+                    newDynamicArray, 0, this.size);
+        }
+
+        if (arrayPool != null) {
+            arrayPool.release(this.dynamicArray, this.size);
+        }
+
+        int oldCapacity = this.capacity;
+        newCapacity = newDynamicArray.length;
+        this.capacity = newCapacity;
+        this.dynamicArray = newDynamicArray;
+
+        if (metrics != null) {
+            metrics.recordResize(newCapacity, size, System.nanoTime() - start);
+        }
+
+        if (newCapacity > oldCapacity) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.elementType = clazz;
+                event.oldCapacity = oldCapacity;
+                event.newCapacity = newCapacity;
+                event.copiedElements = size;
+                event.commit();
+            }
+        } else if (size >= DynamicArrayCopyEvent.THRESHOLD) {
+            DynamicArrayCopyEvent.emit(clazz, operation, size);
         }
+    }
 
-        this.capacity *= DOUBLE_CAPACITY_COEFFICIENT;
-        this.dynamicArray = newDynamicArrayWithDoubleCapacity;
+    private T[] newBackingArray(int capacity) {
+        return arrayPool == null
+                ? (T[]) Array.newInstance(clazz, capacity)
+                : arrayPool.acquire(clazz, capacity);
+    }
+
+    /**
+     * Record an operation which copied or moved {@code copiedElements} elements without reallocating.
+     */
+    private void recordCopy(String operation, int copiedElements) {
+        if (metrics != null) {
+            metrics.recordCopy(copiedElements);
+        }
+
+        if (copiedElements >= DynamicArrayCopyEvent.THRESHOLD) {
+            DynamicArrayCopyEvent.emit(clazz, operation, copiedElements);
+        }
     }
 
     public DynamicArrayImplementation(Class<T> clazz) {
@@ -37,10 +152,77 @@ public class DynamicArrayImplementation<T> implements DynamicArray<T> {
     }
 
     public DynamicArrayImplementation(Class<T> clazz, int capacity) {
+        this(clazz, capacity, GrowthPolicy.defaultPolicy());
+    }
+
+    public DynamicArrayImplementation(Class<T> clazz, int capacity, GrowthPolicy growthPolicy) {
+        this(clazz, capacity, growthPolicy, ShrinkPolicy.never());
+    }
+
+    /**
+     * Create an array which runs {@code shrinkPolicy} after {@link #pop()}, {@link #delete(int)},
+     * {@link #remove()}, {@link #clear()} and the bulk removals.
+     *
+     * @throws IllegalArgumentException if {@code growthPolicy} or {@code shrinkPolicy} is null
+     */
+    public DynamicArrayImplementation(Class<T> clazz, int capacity, GrowthPolicy growthPolicy, ShrinkPolicy shrinkPolicy) {
+        if (growthPolicy == null || shrinkPolicy == null) {
+            throw new IllegalArgumentException("The values of arguments growthPolicy and shrinkPolicy " +
+                    "cannot be null!");
+        }
+
         this.clazz = clazz;
+        this.growthPolicy = growthPolicy;
+        this.shrinkPolicy = shrinkPolicy;
+        this.arrayPool = null;
         this.dynamicArray = (T[]) Array.newInstance(clazz, capacity);
         this.capacity = capacity;
         this.size = 0;
+        this.hashModCount = modCount - 1;
+    }
+
+    /**
+     * Create an array whose backing arrays are taken from {@code arrayPool} and given back to it when
+     * the array grows, shrinks or is {@link #release() released}. The capacity is then always the
+     * length of a pooled array, so it can be more than requested.
+     *
+     * @throws IllegalArgumentException if {@code growthPolicy} or {@code arrayPool} is null
+     */
+    public DynamicArrayImplementation(Class<T> clazz, int capacity, GrowthPolicy growthPolicy, ArrayPool arrayPool) {
+        this(clazz, capacity, growthPolicy, ShrinkPolicy.never(), arrayPool);
+    }
+
+    /**
+     * Create an array which takes over {@code elements} as its backing array, with the first {@code size} slots used.
+     */
+    DynamicArrayImplementation(Class<T> clazz, T[] elements, int size) {
+        this(clazz, 0, GrowthPolicy.defaultPolicy());
+        this.dynamicArray = elements;
+        this.capacity = elements.length;
+        this.size = size;
+    }
+
+    /**
+     * Create an array with both a shrink policy and a pool. Shrinking is skipped when the smaller
+     * capacity rounds up to the size class the array already has.
+     *
+     * @throws IllegalArgumentException if {@code growthPolicy}, {@code shrinkPolicy} or {@code arrayPool} is null
+     */
+    public DynamicArrayImplementation(Class<T> clazz, int capacity, GrowthPolicy growthPolicy,
+                                      ShrinkPolicy shrinkPolicy, ArrayPool arrayPool) {
+        if (growthPolicy == null || shrinkPolicy == null || arrayPool == null) {
+            throw new IllegalArgumentException("The values of arguments growthPolicy, shrinkPolicy and arrayPool " +
+                    "cannot be null!");
+        }
+
+        this.clazz = clazz;
+        this.growthPolicy = growthPolicy;
+        this.shrinkPolicy = shrinkPolicy;
+        this.arrayPool = arrayPool;
+        this.dynamicArray = newBackingArray(capacity);
+        this.capacity = this.dynamicArray.length;
+        this.size = 0;
+        this.hashModCount = modCount - 1;
     }
 
     @Override
@@ -51,10 +233,21 @@ public class DynamicArrayImplementation<T> implements DynamicArray<T> {
         }
 
         if (this.size >= this.capacity) {
-            resize();
+            resize(this.size + 1);
         }
 
+        boolean hashValid = hashModCount == modCount;
+        this.modCount++;
         this.dynamicArray[size++] = newElement;
+
+        if (hashValid) {
+            hash = 31 * hash + newElement.hashCode();
+            hashModCount = modCount;
+        }
+
+        if (elementIndex != null && !elementIndex.isStale()) {
+            elementIndex.append(newElement, size - 1);
+        }
     }
 
     @Override
@@ -67,7 +260,19 @@ public class DynamicArrayImplementation<T> implements DynamicArray<T> {
 
         this.dynamicArray[size - 1] = null;
         size--;
+        boolean hashValid = hashModCount == modCount;
+        modCount++;
+
+        if (hashValid) {
+            hash = (hash - lastElementInArray.hashCode()) * INVERSE_OF_31;
+            hashModCount = modCount;
+        }
+
+        if (elementIndex != null && !elementIndex.isStale()) {
+            elementIndex.removeLast(lastElementInArray);
+        }
 
+        shrinkIfNeeded();
         return lastElementInArray;
     }
 
@@ -99,12 +304,25 @@ public class DynamicArrayImplementation<T> implements DynamicArray<T> {
             this.dynamicArray[i] = null;
         }
         this.size = 0;
+        boolean hashValid = hashModCount == modCount;
+        this.modCount++;
+
+        if (hashValid) {
+            this.hash = 1;
+            this.hashModCount = modCount;
+        }
+
+        if (elementIndex != null) {
+            elementIndex.clear();
+        }
+
+        shrinkIfNeeded();
     }
 
 
     @Override
     public boolean contains(T element) {
-        return Arrays.asList(dynamicArray).contains(element);
+        return indexOf(element) >= 0;
     }
 
     @Override
@@ -121,6 +339,158 @@ public class DynamicArrayImplementation<T> implements DynamicArray<T> {
         return true;
     }
 
+    /**
+     * Uses the element index if it is enabled, otherwise scans the elements from the front.
+     */
+    @Override
+    public int indexOf(T element) {
+        if (element == null) {
+            return -1;
+        }
+
+        if (elementIndex != null) {
+            return elementIndex().firstPosition(element);
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (element.equals(dynamicArray[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Uses the element index if it is enabled, otherwise scans the elements from the back.
+     */
+    @Override
+    public int lastIndexOf(T element) {
+        if (element == null) {
+            return -1;
+        }
+
+        if (elementIndex != null) {
+            return elementIndex().lastPosition(element);
+        }
+
+        for (int i = size - 1; i >= 0; i--) {
+            if (element.equals(dynamicArray[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Start maintaining a hash index from every element to its positions, which makes {@link #contains(Object)},
+     * {@link #containsAll(Collection)}, {@link #indexOf(Object)} and {@link #lastIndexOf(Object)} O(1) on average.
+     * {@code push}, {@code pop}, {@code set} and {@code clear} keep the index up to date in O(1); operations which
+     * move elements to other positions, such as deleting from the middle, make the next lookup rebuild it in O(n).
+     * Calling this method when the index is already enabled has no effect.
+     */
+    public void enableElementIndex() {
+        if (elementIndex == null) {
+            elementIndex = new ElementIndex(size);
+            elementIndex.rebuild(dynamicArray, size);
+        }
+    }
+
+    /**
+     * Stop maintaining the element index and release its memory.
+     */
+    public void disableElementIndex() {
+        elementIndex = null;
+    }
+
+    public boolean isElementIndexEnabled() {
+        return elementIndex != null;
+    }
+
+    /**
+     * @return The approximate number of bytes used by the element index, or 0 if it is disabled
+     */
+    public long elementIndexMemoryFootprint() {
+        return elementIndex == null ? 0 : elementIndex().memoryFootprint();
+    }
+
+    private ElementIndex elementIndex() {
+        if (elementIndex.isStale()) {
+            elementIndex.rebuild(dynamicArray, size);
+        }
+        return elementIndex;
+    }
+
+    /**
+     * Called after elements were moved to other positions.
+     */
+    private void invalidateElementIndex() {
+        if (elementIndex != null) {
+            elementIndex.markStale();
+        }
+    }
+
+    /**
+     * Start counting reallocations, copied elements and the time spent growing.
+     * Calling this method when metrics are already enabled has no effect.
+     */
+    public void enableMetrics() {
+        if (metrics == null) {
+            metrics = new DynamicArrayMetrics(capacity);
+        }
+    }
+
+    /**
+     * Stop counting and drop the collected metrics.
+     */
+    public void disableMetrics() {
+        metrics = null;
+    }
+
+    /**
+     * @return The metrics collected since {@link #enableMetrics()} was called
+     * @throws IllegalStateException if metrics are not enabled
+     */
+    public DynamicArrayStats stats() {
+        if (metrics == null) {
+            throw new IllegalStateException("The metrics of the array are not enabled!");
+        }
+
+        return metrics.snapshot(capacity, size);
+    }
+
+    /**
+     * Remove all elements and give the backing array back to the pool, leaving an empty array
+     * with capacity 0. The array stays usable and takes a new backing array when it grows again.
+     * Without a pool the backing array is simply dropped.
+     */
+    public void release() {
+        T[] releasedArray = this.dynamicArray;
+        int releasedSize = this.size;
+
+        this.dynamicArray = (T[]) Array.newInstance(clazz, 0);
+        this.capacity = 0;
+        this.size = 0;
+        this.modCount++;
+
+        if (elementIndex != null) {
+            elementIndex.clear();
+        }
+
+        if (arrayPool != null) {
+            arrayPool.release(releasedArray, releasedSize);
+        }
+    }
+
+    /**
+     * Same as {@link #release()}, so that a pooled array can be used in a try-with-resources statement.
+     */
+    @Override
+    public void close() {
+        release();
+    }
+
     @Override
     public void remove() {
         delete(this.size - 1);
@@ -139,19 +509,18 @@ public class DynamicArrayImplementation<T> implements DynamicArray<T> {
         }
 
 
-        T[] localArrayCopyOfDynamicArray = (T[]) Array.newInstance(clazz, newSize);
-        if (this.size >= 0) {
-            System.arraycopy(this.dynamicArray, 0,
-                    localArrayCopyOfDynamicArray, 0, this.size);
-        }
-        this.dynamicArray = localArrayCopyOfDynamicArray;
-        this.capacity = newSize;
+        reallocate(newSize, "ensureCapacity");
+        this.modCount++;
     }
 
     @Override
     public void trimToSize() {
-        this.dynamicArray = takeN(size);
-        this.capacity = this.size;
+        if (arrayPool != null && arrayPool.lengthFor(this.size) >= this.capacity) {
+            return;
+        }
+
+        reallocate(this.size, "trimToSize");
+        this.modCount++;
     }
 
     @Override
@@ -174,6 +543,15 @@ public class DynamicArrayImplementation<T> implements DynamicArray<T> {
         T oldValueOnPositionIndex = dynamicArray[index];
         dynamicArray[index] = value;
 
+        if (hashModCount == modCount) {
+            hash += (value.hashCode() - oldValueOnPositionIndex.hashCode()) * powerOf31(size - 1 - index);
+        }
+
+        if (elementIndex != null && !elementIndex.isStale()) {
+            elementIndex.remove(oldValueOnPositionIndex, index);
+            elementIndex.insert(value, index);
+        }
+
         return oldValueOnPositionIndex;
     }
 
@@ -185,20 +563,107 @@ public class DynamicArrayImplementation<T> implements DynamicArray<T> {
                     " less than 0 and more than array length!");
         }
 
-        T result = null;
+        T result = dynamicArray[index];
 
-        for (int i = 0; i < size - 1; i++) {
-            if (i == index) {
-                result = dynamicArray[i];
-            } else if (i > index) {
-                dynamicArray[i] = dynamicArray[i + 1];
-            }
+        int numberOfMovedElements = size - index - 1;
+        if (numberOfMovedElements > 0) {
+            System.arraycopy(dynamicArray, index + 1,
+                    dynamicArray, index, numberOfMovedElements);
+            recordCopy("delete", numberOfMovedElements);
         }
-        dynamicArray[size--] = null;
+        dynamicArray[--size] = null;
+        modCount++;
 
+        if (numberOfMovedElements > 0) {
+            invalidateElementIndex();
+        } else if (elementIndex != null && !elementIndex.isStale()) {
+            elementIndex.removeLast(result);
+        }
+
+        shrinkIfNeeded();
         return result;
     }
 
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method removeRange must be inside the array and fromIndex cannot be more than toIndex!");
+        }
+
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        System.arraycopy(dynamicArray, toIndex,
+                dynamicArray, fromIndex, size - toIndex);
+        recordCopy("removeRange", size - toIndex);
+
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(dynamicArray, newSize, size, null);
+        size = newSize;
+        modCount++;
+        invalidateElementIndex();
+        shrinkIfNeeded();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("The value of argument filter in " +
+                    "method removeIf cannot be null!");
+        }
+
+        return batchRemove(filter);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method retainAll cannot be null!");
+        }
+
+        return batchRemove(element -> !tCollection.contains(element));
+    }
+
+    /**
+     * Remove every element matching {@code filter} in a single pass, compacting the kept elements
+     * towards the front. If {@code filter} throws, the elements which were not tested yet are kept.
+     */
+    private boolean batchRemove(Predicate<? super T> filter) {
+        int readIndex = 0;
+        while (readIndex < size && !filter.test(dynamicArray[readIndex])) {
+            readIndex++;
+        }
+
+        if (readIndex == size) {
+            return false;
+        }
+
+        int writeIndex = readIndex++;
+        try {
+            for (; readIndex < size; readIndex++) {
+                T element = dynamicArray[readIndex];
+                if (!filter.test(element)) {
+                    dynamicArray[writeIndex++] = element;
+                }
+            }
+        } finally {
+            System.arraycopy(dynamicArray, readIndex,
+                    dynamicArray, writeIndex, size - readIndex);
+            writeIndex += size - readIndex;
+
+            Arrays.fill(dynamicArray, writeIndex, size, null);
+            size = writeIndex;
+            modCount++;
+            invalidateElementIndex();
+        }
+
+        shrinkIfNeeded();
+        return true;
+    }
+
     @Override
     public T[] takeN(int n) {
         if (n < 0) {
@@ -207,7 +672,8 @@ public class DynamicArrayImplementation<T> implements DynamicArray<T> {
         }
 
         if (size == 0) {
-            return dynamicArray;
+            // A fresh array of the same length, so a pooled backing array never escapes.
+            return (T[]) Array.newInstance(clazz, capacity);
         }
 
         if (n > size) {
@@ -220,6 +686,7 @@ public class DynamicArrayImplementation<T> implements DynamicArray<T> {
             System.arraycopy(dynamicArray, 0,
                     localArrayCopyOfFirstNElementsFromDynamicArray, 0, n);
         }
+        recordCopy("takeN", n);
         return localArrayCopyOfFirstNElementsFromDynamicArray;
     }
 
@@ -240,6 +707,7 @@ public class DynamicArrayImplementation<T> implements DynamicArray<T> {
 
         System.arraycopy(dynamicArray, 0,
                 localArrayCopyOfFirstSizeDivNElementsFromDynamicArray, 0, size - n);
+        recordCopy("dropN", size - n);
 
         return localArrayCopyOfFirstSizeDivNElementsFromDynamicArray;
     }
@@ -252,14 +720,226 @@ public class DynamicArrayImplementation<T> implements DynamicArray<T> {
                     "method addAll cannot be null!");
         }
 
-        for (T element : elements) {
-            push(element);
+        insertArray(this.size, elements, 0, elements.length, "addAll");
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method addAll cannot be null!");
+        }
+
+        Object[] elements = tCollection.toArray();
+        insertArray(this.size, elements, 0, elements.length, "addAll");
+    }
+
+    @Override
+    public void addAll(DynamicArray<? extends T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("The value of argument other in " +
+                    "method addAll cannot be null!");
+        }
+
+        int otherSize = other.size();
+        if (otherSize == 0) {
+            return;
+        }
+
+        if (other instanceof DynamicArrayImplementation<?> implementation) {
+            ensureCapacityInternal(this.size + otherSize);
+            insertArray(this.size, implementation.dynamicArray, 0, otherSize, "addAll");
+        } else {
+            insertArray(this.size, other.takeN(otherSize), 0, otherSize, "addAll");
+        }
+    }
+
+    @Override
+    public void addAll(T[] elements, int fromIndex, int toIndex) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method addAll cannot be null!");
+        }
+
+        insertArray(this.size, elements, fromIndex, toIndex, "addAll");
+    }
+
+    @SafeVarargs
+    @Override
+    public final void insertAll(int index, T... elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method insertAll cannot be null!");
+        }
+
+        insertArray(index, elements, 0, elements.length, "insertAll");
+    }
+
+    @Override
+    public void insertAll(int index, Collection<? extends T> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method insertAll cannot be null!");
+        }
+
+        Object[] elements = tCollection.toArray();
+        insertArray(index, elements, 0, elements.length, "insertAll");
+    }
+
+    /**
+     * Grow the backing array at most once, so that it can hold {@code minCapacity} elements.
+     */
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity > this.capacity) {
+            resize(minCapacity);
+        }
+    }
+
+    /**
+     * Insert {@code elements[fromIndex..toIndex)} on position {@code index} with a single
+     * capacity reservation and at most two block moves.
+     */
+    private void insertArray(int index, Object[] elements, int fromIndex, int toIndex, String methodName) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The value of argument index in method " +
+                    methodName + " cannot be less than 0 or more than the array size!");
+        }
+
+        if (fromIndex < 0 || toIndex > elements.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method " + methodName + " is outside of the given elements!");
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (elements[i] == null) {
+                throw new IllegalArgumentException("The elements in method " + methodName +
+                        " cannot contain null!");
+            }
+        }
+
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+
+        ensureCapacityInternal(this.size + count);
+
+        if (index < this.size) {
+            System.arraycopy(this.dynamicArray, index,
+                    this.dynamicArray, index + count, this.size - index);
+        }
+        System.arraycopy(elements, fromIndex, this.dynamicArray, index, count);
+        recordCopy(methodName, this.size - index + count);
+
+        if (index < this.size) {
+            invalidateElementIndex();
+        } else if (elementIndex != null && !elementIndex.isStale()) {
+            for (int i = 0; i < count; i++) {
+                elementIndex.append(elements[fromIndex + i], index + i);
+            }
+        }
+
+        this.size += count;
+        this.modCount++;
+    }
+
+    /**
+     * The view fails fast on every structural modification of this array, counted like for its spliterators.
+     */
+    @Override
+    public DynamicArrayView<T> slice(int fromIndex, int toIndex) {
+        return new DynamicArrayView<>(this, clazz, fromIndex, toIndex, () -> modCount);
+    }
+
+    /**
+     * The pipeline loops over the backing array directly and fails fast on every structural modification.
+     */
+    @Override
+    public DynamicArrayPipeline<T> lazy() {
+        return new DynamicArrayPipeline<>(this, clazz, () -> dynamicArray, () -> modCount);
+    }
+
+    /**
+     * Sorts the live range of the backing array directly, without copying it out.
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("The value of argument comparator in " +
+                    "method sort cannot be null!");
+        }
+
+        Arrays.sort(dynamicArray, 0, size, comparator);
+        modCount++;
+        invalidateElementIndex();
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("The value of argument comparator in " +
+                    "method parallelSort cannot be null!");
+        }
+
+        BulkOperations.parallelSort(dynamicArray, size, comparator);
+        modCount++;
+        invalidateElementIndex();
+    }
+
+    @Override
+    public void parallelPrefix(BinaryOperator<T> operator) {
+        if (operator == null) {
+            throw new IllegalArgumentException("The value of argument operator in " +
+                    "method parallelPrefix cannot be null!");
+        }
+
+        try {
+            BulkOperations.parallelPrefix(dynamicArray, size, operator);
+        } finally {
+            modCount++;
+            invalidateElementIndex();
         }
     }
 
+    /**
+     * Maps straight from the backing array into the backing array of the result.
+     */
+    @Override
+    public <R> DynamicArrayImplementation<R> map(Function<? super T, ? extends R> mapper, Class<R> resultClass) {
+        if (mapper == null || resultClass == null) {
+            throw new IllegalArgumentException("The values of arguments mapper and resultClass in " +
+                    "method map cannot be null!");
+        }
+
+        int expectedModCount = modCount;
+        R[] mapped = BulkOperations.map(dynamicArray, size, mapper, resultClass);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        return new DynamicArrayImplementation<>(resultClass, mapped, mapped.length);
+    }
+
+    @Override
+    public DynamicArrayImplementation<T> filter(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("The value of argument filter in " +
+                    "method filter cannot be null!");
+        }
+
+        int expectedModCount = modCount;
+        T[] matching = BulkOperations.filter(dynamicArray, size, filter, clazz);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        return new DynamicArrayImplementation<>(clazz, matching, matching.length);
+    }
+
     @Override
     public List<T> copy() {
-        return Arrays.stream(takeN(size)).toList();
+        recordCopy("copy", size);
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(dynamicArray, size)));
     }
 
     @Override
@@ -267,28 +947,155 @@ public class DynamicArrayImplementation<T> implements DynamicArray<T> {
         return Arrays.toString(dynamicArray);
     }
 
+    /**
+     * Two arrays are equal if they hold equal elements in the same order,
+     * whatever their capacities, growth policies or element classes.
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         DynamicArrayImplementation<?> that = (DynamicArrayImplementation<?>) o;
-        return capacity == that.capacity && size == that.size && Objects.equals(clazz, that.clazz) && Arrays.equals(dynamicArray, that.dynamicArray);
+        if (size != that.size) return false;
+        return Arrays.equals(dynamicArray, 0, size, that.dynamicArray, 0, that.size);
     }
 
+    /**
+     * The hash is the one of {@link List#hashCode()} over the elements, so it equals {@code copy().hashCode()}.
+     * It is computed once and then kept up to date by {@code push}, {@code pop}, {@code set} and {@code clear}
+     * in O(1), so repeated calls on an array used as a map key do not scan it again. Other structural
+     * modifications make the next call recompute it. Mutating an element in place is not seen by the cache.
+     */
     @Override
     public int hashCode() {
-        int result = Objects.hash(clazz, capacity, size);
-        result = 31 * result + Arrays.hashCode(dynamicArray);
+        if (hashModCount != modCount) {
+            int result = 1;
+            for (int i = 0; i < size; i++) {
+                result = 31 * result + dynamicArray[i].hashCode();
+            }
+            hash = result;
+            hashModCount = modCount;
+        }
+
+        return hash;
+    }
+
+    private static int powerOf31(int exponent) {
+        int result = 1;
+        int base = 31;
+        while (exponent > 0) {
+            if ((exponent & 1) != 0) {
+                result *= base;
+            }
+            base *= base;
+            exponent >>= 1;
+        }
         return result;
     }
 
     @Override
     public Spliterator<T> spliterator() {
-        return Spliterators.spliterator(takeN(size), 0);
+        return new DynamicArraySpliterator(0, -1, 0);
     }
 
     @Override
     public Stream<T> stream() {
         return StreamSupport.stream(spliterator(), false);
     }
-}
\ No newline at end of file
+
+    /**
+     * Spliterator which traverses the backing array directly instead of a copy of it.
+     * It binds to the current size on first use and throws a {@link ConcurrentModificationException}
+     * if the array is structurally modified during the traversal.
+     */
+    private final class DynamicArraySpliterator implements Spliterator<T> {
+
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private DynamicArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+
+            if (lo >= mid) {
+                return null;
+            }
+
+            index = mid;
+            return new DynamicArraySpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int hi = getFence();
+            int i = index;
+            if (i >= hi) {
+                return false;
+            }
+
+            index = i + 1;
+            T element = dynamicArray[i];
+            action.accept(element);
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int hi = getFence();
+            T[] elements = dynamicArray;
+            int i = index;
+            index = hi;
+
+            if (hi > elements.length) {
+                throw new ConcurrentModificationException();
+            }
+
+            for (; i < hi; i++) {
+                action.accept(elements[i]);
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
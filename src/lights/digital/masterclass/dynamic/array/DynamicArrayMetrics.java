@@ -0,0 +1,38 @@
+package lights.digital.masterclass.dynamic.array;
+
+/**
+ * Counters behind {@link DynamicArrayStats}. An array only allocates them once metrics are enabled,
+ * so an array without metrics pays a single null check per instrumented operation.
+ */
+final class DynamicArrayMetrics {
+
+    /**
+     * Approximate size of a reference in an array on a 64-bit JVM with compressed references.
+     */
+    static final int REFERENCE_BYTES = 4;
+
+    private long resizes;
+    private long copiedElements;
+    private int peakCapacity;
+    private long growthNanos;
+
+    DynamicArrayMetrics(int capacity) {
+        this.peakCapacity = capacity;
+    }
+
+    void recordResize(int newCapacity, int copiedElements, long nanos) {
+        this.resizes++;
+        this.copiedElements += copiedElements;
+        this.peakCapacity = Math.max(peakCapacity, newCapacity);
+        this.growthNanos += nanos;
+    }
+
+    void recordCopy(int copiedElements) {
+        this.copiedElements += copiedElements;
+    }
+
+    DynamicArrayStats snapshot(int capacity, int size) {
+        return new DynamicArrayStats(resizes, copiedElements, copiedElements * REFERENCE_BYTES,
+                peakCapacity, capacity - size, growthNanos);
+    }
+}
@@ -0,0 +1,393 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Lazy chain of {@code filter}, {@code map} and {@code limit} operations over a dynamic array,
+ * returned by {@link DynamicArray#lazy()}.
+ * <p>
+ * The intermediate operations only record their functions in the pipeline and return the same pipeline,
+ * so they allocate nothing for the first {@value #INITIAL_STAGES} operations. A terminal operation then
+ * links the operations into a chain of sinks, one object per operation, and runs one indexed loop over
+ * the source: every element goes through the whole chain before the next one is read, and the loop stops
+ * as soon as a {@code limit} is reached. There is no spliterator and no stream pipeline to set up, and
+ * the result of {@link #toDynamicArray()} is allocated with its exact size when it is known. When the source
+ * can hand out its backing array, the loop reads it directly instead of calling {@link DynamicArray#get(int)}.
+ * <p>
+ * A pipeline runs at most one terminal operation. The source is read when the terminal operation runs, and
+ * a structural modification of the source during the loop throws {@link ConcurrentModificationException}
+ * if the source counts its structural modifications, like the views of {@link DynamicArray#slice}.
+ *
+ * @param <T> The type of the elements leaving the pipeline
+ */
+public final class DynamicArrayPipeline<T> {
+
+    private static final int INITIAL_STAGES = 4;
+
+    private static final byte FILTER = 0;
+    private static final byte MAP = 1;
+    private static final byte LIMIT = 2;
+
+    private final DynamicArray<?> source;
+
+    /**
+     * Hands out the backing array of the source, or null if the source has to be read through {@code get}.
+     */
+    private final Supplier<Object[]> backingArray;
+
+    /**
+     * Whether {@link #backingArray} hands out a snapshot holding exactly the elements of the source,
+     * rather than a backing array of which only the first {@code source.size()} slots are used.
+     */
+    private final boolean snapshot;
+
+    /**
+     * Reads the modification count of the source.
+     */
+    private final IntSupplier modCount;
+
+    private Class<?> elementClass;
+
+    private byte[] kinds = new byte[INITIAL_STAGES];
+    private Object[] functions = new Object[INITIAL_STAGES];
+    private int[] limits = new int[INITIAL_STAGES];
+    private int stageCount;
+
+    private boolean consumed;
+
+    /**
+     * The state of the source, read when the terminal operation starts.
+     */
+    private Object[] boundElements;
+    private int boundSize;
+    private int expectedModCount;
+
+    DynamicArrayPipeline(DynamicArray<T> source, Class<T> elementClass, Supplier<Object[]> backingArray,
+                         IntSupplier modCount) {
+        this(source, elementClass, backingArray, modCount, false);
+    }
+
+    /**
+     * @param snapshot Whether {@code backingArray} hands out a fresh array of exactly the elements of the source
+     */
+    DynamicArrayPipeline(DynamicArray<T> source, Class<T> elementClass, Supplier<Object[]> backingArray,
+                         IntSupplier modCount, boolean snapshot) {
+        this.source = source;
+        this.elementClass = elementClass;
+        this.backingArray = backingArray;
+        this.modCount = modCount;
+        this.snapshot = snapshot;
+    }
+
+    private void addStage(byte kind, Object function, int limit, String methodName) {
+        if (consumed) {
+            throw new IllegalStateException("The method " + methodName +
+                    " cannot be called after a terminal operation of the pipeline!");
+        }
+
+        if (stageCount == kinds.length) {
+            kinds = Arrays.copyOf(kinds, 2 * stageCount);
+            functions = Arrays.copyOf(functions, 2 * stageCount);
+            limits = Arrays.copyOf(limits, 2 * stageCount);
+        }
+
+        kinds[stageCount] = kind;
+        functions[stageCount] = function;
+        limits[stageCount] = limit;
+        stageCount++;
+    }
+
+    /**
+     * Keep only the elements which match {@code filter}.
+     *
+     * @return This pipeline
+     * @throws IllegalArgumentException if {@code filter} is null
+     */
+    public DynamicArrayPipeline<T> filter(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("The value of argument filter in " +
+                    "method filter cannot be null!");
+        }
+
+        addStage(FILTER, filter, 0, "filter");
+        return this;
+    }
+
+    /**
+     * Replace every element with the result of {@code mapper}.
+     *
+     * @param resultClass The type of the mapped elements
+     * @return This pipeline, now producing elements of {@code resultClass}
+     * @throws IllegalArgumentException if {@code mapper} or {@code resultClass} is null
+     */
+    public <R> DynamicArrayPipeline<R> map(Function<? super T, ? extends R> mapper, Class<R> resultClass) {
+        if (mapper == null || resultClass == null) {
+            throw new IllegalArgumentException("The values of arguments mapper and resultClass in " +
+                    "method map cannot be null!");
+        }
+
+        addStage(MAP, mapper, 0, "map");
+        this.elementClass = resultClass;
+        return (DynamicArrayPipeline<R>) this;
+    }
+
+    /**
+     * Let at most {@code maxSize} elements reach the following operations.
+     *
+     * @return This pipeline
+     * @throws IllegalArgumentException if {@code maxSize} is negative
+     */
+    public DynamicArrayPipeline<T> limit(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The value of argument maxSize in method " +
+                    "limit cannot be a negative number!");
+        }
+
+        addStage(LIMIT, null, maxSize, "limit");
+        return this;
+    }
+
+    /**
+     * @return The number of elements the pipeline produces if it has no filters, or -1 if it has
+     */
+    private int exactSize(int sourceSize) {
+        int exactSize = sourceSize;
+        for (int stage = 0; stage < stageCount; stage++) {
+            if (kinds[stage] == FILTER) {
+                return -1;
+            } else if (kinds[stage] == LIMIT) {
+                exactSize = Math.min(exactSize, limits[stage]);
+            }
+        }
+
+        return exactSize;
+    }
+
+    /**
+     * One operation of the chain built for a terminal operation, passing the elements it produces to the next one.
+     */
+    private abstract static class Sink {
+
+        Sink next;
+
+        /**
+         * @return Whether the chain accepts more elements
+         */
+        abstract boolean accept(Object element);
+    }
+
+    private static final class FilterSink extends Sink {
+
+        private final Predicate<Object> filter;
+
+        private FilterSink(Predicate<Object> filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        boolean accept(Object element) {
+            return !filter.test(element) || next.accept(element);
+        }
+    }
+
+    private static final class MapSink extends Sink {
+
+        private final Function<Object, Object> mapper;
+
+        private MapSink(Function<Object, Object> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        boolean accept(Object element) {
+            Object mapped = mapper.apply(element);
+            if (mapped == null) {
+                throw new IllegalArgumentException("The function passed to method map" +
+                        " cannot return null!");
+            }
+
+            return next.accept(mapped);
+        }
+    }
+
+    private static final class LimitSink extends Sink {
+
+        private int remaining;
+
+        private LimitSink(int maxSize) {
+            this.remaining = maxSize;
+        }
+
+        @Override
+        boolean accept(Object element) {
+            if (remaining == 0) {
+                return false;
+            }
+
+            remaining--;
+            return next.accept(element) && remaining > 0;
+        }
+    }
+
+    private static final class TerminalSink extends Sink {
+
+        private final Consumer<Object> action;
+
+        private TerminalSink(Consumer<Object> action) {
+            this.action = action;
+        }
+
+        @Override
+        boolean accept(Object element) {
+            action.accept(element);
+            return true;
+        }
+    }
+
+    /**
+     * Mark the pipeline as consumed and read the current elements and size of the source.
+     */
+    private void bind(String methodName) {
+        if (consumed) {
+            throw new IllegalStateException("The method " + methodName +
+                    " cannot be called after a terminal operation of the pipeline!");
+        }
+        consumed = true;
+
+        expectedModCount = modCount.getAsInt();
+        if (snapshot) {
+            boundElements = backingArray.get();
+            boundSize = boundElements.length;
+        } else {
+            boundSize = source.size();
+            boundElements = backingArray == null ? null : backingArray.get();
+        }
+    }
+
+    /**
+     * Push every bound element of the source through the stages and pass the ones which leave the last stage
+     * to {@code action}, in their order. The stages are linked into a chain of sinks first, so the loop
+     * makes one call per element and stops as soon as a limit is reached. The modification count is checked
+     * before every element, so no element is read after the source was modified.
+     */
+    private void run(Consumer<Object> action) {
+        Sink head = new TerminalSink(action);
+        for (int stage = stageCount - 1; stage >= 0; stage--) {
+            Sink sink;
+            if (kinds[stage] == FILTER) {
+                sink = new FilterSink((Predicate<Object>) functions[stage]);
+            } else if (kinds[stage] == MAP) {
+                sink = new MapSink((Function<Object, Object>) functions[stage]);
+            } else {
+                sink = new LimitSink(limits[stage]);
+            }
+            sink.next = head;
+            head = sink;
+        }
+
+        int sourceSize = boundSize;
+        Object[] elements = boundElements;
+        boundElements = null;
+        IntSupplier modCount = this.modCount;
+        int expectedModCount = this.expectedModCount;
+        if (elements != null) {
+            for (int i = 0; i < sourceSize; i++) {
+                if (modCount.getAsInt() != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+
+                if (!head.accept(elements[i])) {
+                    break;
+                }
+            }
+        } else {
+            for (int i = 0; i < sourceSize; i++) {
+                if (modCount.getAsInt() != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+
+                if (!head.accept(source.get(i))) {
+                    break;
+                }
+            }
+        }
+
+        if (modCount.getAsInt() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Run the pipeline and collect its elements. The result is allocated with its exact size
+     * when the pipeline has no filters.
+     *
+     * @return A new array of the produced elements, in their order
+     */
+    public DynamicArray<T> toDynamicArray() {
+        Class<T> clazz = (Class<T>) elementClass;
+        bind("toDynamicArray");
+        int exactSize = exactSize(boundSize);
+
+        if (exactSize >= 0) {
+            T[] result = (T[]) Array.newInstance(clazz, exactSize);
+            int[] count = {0};
+            run(element -> result[count[0]++] = (T) element);
+            return new DynamicArrayImplementation<>(clazz, result, count[0]);
+        }
+
+        DynamicArrayImplementation<T> result = new DynamicArrayImplementation<>(clazz);
+        run(element -> result.push((T) element));
+        return result;
+    }
+
+    /**
+     * Run the pipeline and call {@code action} for every produced element, in their order.
+     *
+     * @throws IllegalArgumentException if {@code action} is null
+     */
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("The value of argument action in " +
+                    "method forEach cannot be null!");
+        }
+
+        bind("forEach");
+        run((Consumer<Object>) action);
+    }
+
+    /**
+     * Run the pipeline and fold {@code accumulator} over the produced elements, in their order.
+     *
+     * @param identity The result for a pipeline which produces no elements
+     * @throws IllegalArgumentException if {@code accumulator} is null
+     */
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        if (accumulator == null) {
+            throw new IllegalArgumentException("The value of argument accumulator in " +
+                    "method reduce cannot be null!");
+        }
+
+        Object[] result = {identity};
+        bind("reduce");
+        run(element -> result[0] = accumulator.apply((T) result[0], (T) element));
+        return (T) result[0];
+    }
+
+    /**
+     * Run the pipeline and count the produced elements.
+     */
+    public int count() {
+        int[] count = {0};
+        bind("count");
+        run(element -> count[0]++);
+        return count[0];
+    }
+}
@@ -0,0 +1,284 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+
+/**
+ * Writes dynamic arrays in a compact binary format and reads them back.
+ * <p>
+ * The format is the one of {@link MappedDynamicArray}: a {@value MappedDynamicArray#HEADER_SIZE}-byte
+ * little-endian header with a magic number, the format version, the element width and the number of
+ * elements, followed by the elements encoded back to back with the {@link ElementCodec}. A written
+ * array can therefore also be opened directly with {@link MappedDynamicArray}.
+ * <p>
+ * Elements are encoded straight from the spliterator of the array into a reusable buffer, which is
+ * written to the channel whenever it fills up, so no intermediate copy of the array is made.
+ * A serializer is not thread-safe because of that buffer.
+ *
+ * @param <T> The type of the serialized elements
+ */
+public class DynamicArraySerializer<T> {
+
+    private static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+
+    private final ElementCodec<T> codec;
+    private final int width;
+    private final ByteBuffer chunk;
+
+    public DynamicArraySerializer(ElementCodec<T> codec) {
+        this(codec, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * @param chunkBytes The size of the buffer used to move data to and from channels
+     * @throws IllegalArgumentException if {@code codec} is null or {@code chunkBytes} cannot hold the header or one element
+     */
+    public DynamicArraySerializer(ElementCodec<T> codec, int chunkBytes) {
+        if (codec == null) {
+            throw new IllegalArgumentException("The value of argument codec " +
+                    "cannot be null!");
+        }
+
+        if (codec.width() <= 0) {
+            throw new IllegalArgumentException("The width of the codec must be more than 0!");
+        }
+
+        if (chunkBytes < Math.max(MappedDynamicArray.HEADER_SIZE, codec.width())) {
+            throw new IllegalArgumentException("The value of argument chunkBytes " +
+                    "cannot be less than the header or one element!");
+        }
+
+        this.codec = codec;
+        this.width = codec.width();
+        this.chunk = ByteBuffer.allocateDirect(chunkBytes - chunkBytes % width)
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * @return The number of bytes {@code array} occupies once written
+     */
+    public long serializedSize(DynamicArray<? extends T> array) {
+        return MappedDynamicArray.HEADER_SIZE + (long) array.size() * width;
+    }
+
+    private void putHeader(ByteBuffer buffer, int offset, int size) {
+        buffer.putInt(offset + MappedDynamicArray.MAGIC_OFFSET, MappedDynamicArray.MAGIC);
+        buffer.putInt(offset + MappedDynamicArray.VERSION_OFFSET, MappedDynamicArray.VERSION);
+        buffer.putInt(offset + MappedDynamicArray.WIDTH_OFFSET, width);
+        buffer.putInt(offset + MappedDynamicArray.WIDTH_OFFSET + Integer.BYTES, 0);
+        buffer.putLong(offset + MappedDynamicArray.SIZE_OFFSET, size);
+        buffer.putLong(offset + MappedDynamicArray.SIZE_OFFSET + Long.BYTES, 0);
+    }
+
+    /**
+     * @return The number of elements announced by the header
+     * @throws IllegalArgumentException if the header does not describe an array of this codec
+     */
+    private int getHeader(ByteBuffer buffer, int offset) {
+        if (buffer.getInt(offset + MappedDynamicArray.MAGIC_OFFSET) != MappedDynamicArray.MAGIC) {
+            throw new IllegalArgumentException("The data does not contain a serialized dynamic array!");
+        }
+
+        int version = buffer.getInt(offset + MappedDynamicArray.VERSION_OFFSET);
+        if (version != MappedDynamicArray.VERSION) {
+            throw new IllegalArgumentException("The serialized dynamic array has unsupported version " +
+                    version + "!");
+        }
+
+        int storedWidth = buffer.getInt(offset + MappedDynamicArray.WIDTH_OFFSET);
+        if (storedWidth != width) {
+            throw new IllegalArgumentException("The data stores elements of " + storedWidth +
+                    " bytes, but the codec reads " + width + " bytes!");
+        }
+
+        long size = buffer.getLong(offset + MappedDynamicArray.SIZE_OFFSET);
+        if (size < 0 || size > GrowthPolicy.MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException("The serialized dynamic array has invalid size " + size + "!");
+        }
+
+        return (int) size;
+    }
+
+    /**
+     * Write the header and all elements of {@code array} to {@code channel}.
+     *
+     * @throws IOException                     if writing to {@code channel} fails
+     * @throws ConcurrentModificationException if {@code array} is modified while it is written
+     */
+    public void write(DynamicArray<? extends T> array, WritableByteChannel channel) throws IOException {
+        if (array == null || channel == null) {
+            throw new IllegalArgumentException("The values of arguments array and channel " +
+                    "cannot be null!");
+        }
+
+        Spliterator<? extends T> elements = array.spliterator();
+        int size = (int) elements.getExactSizeIfKnown();
+        if (size < 0) {
+            size = array.size();
+        }
+
+        chunk.clear();
+        putHeader(chunk, 0, size);
+        chunk.position(MappedDynamicArray.HEADER_SIZE);
+
+        int[] written = new int[1];
+        try {
+            elements.forEachRemaining(element -> {
+                if (chunk.remaining() < width) {
+                    flushUnchecked(channel);
+                }
+
+                codec.encode(element, chunk, chunk.position());
+                chunk.position(chunk.position() + width);
+                written[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (written[0] != size) {
+            throw new ConcurrentModificationException();
+        }
+
+        flush(channel);
+    }
+
+    private void flushUnchecked(WritableByteChannel channel) {
+        try {
+            flush(channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush(WritableByteChannel channel) throws IOException {
+        chunk.flip();
+        while (chunk.hasRemaining()) {
+            channel.write(chunk);
+        }
+        chunk.clear();
+    }
+
+    /**
+     * Write the header and all elements of {@code array} to {@code buffer}, starting at its position.
+     * The position of {@code buffer} is advanced past the written bytes.
+     *
+     * @throws BufferOverflowException if {@code buffer} has less than {@link #serializedSize} bytes remaining,
+     *                                 in which case nothing is written
+     */
+    public void write(DynamicArray<? extends T> array, ByteBuffer buffer) {
+        if (array == null || buffer == null) {
+            throw new IllegalArgumentException("The values of arguments array and buffer " +
+                    "cannot be null!");
+        }
+
+        int size = array.size();
+        if (buffer.remaining() < serializedSize(array)) {
+            throw new BufferOverflowException();
+        }
+
+        ByteBuffer target = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int start = buffer.position();
+        putHeader(target, start, size);
+
+        int[] offset = {start + MappedDynamicArray.HEADER_SIZE};
+        array.spliterator().forEachRemaining(element -> {
+            codec.encode(element, target, offset[0]);
+            offset[0] += width;
+        });
+
+        buffer.position(offset[0]);
+    }
+
+    /**
+     * Read an array written by {@link #write(DynamicArray, WritableByteChannel)}.
+     * The returned array is created with exactly the capacity announced by the header.
+     *
+     * @throws IOException if reading fails, or the data is truncated or not a serialized array of this codec
+     */
+    public DynamicArrayImplementation<T> read(ReadableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("The value of argument channel " +
+                    "cannot be null!");
+        }
+
+        chunk.clear().limit(MappedDynamicArray.HEADER_SIZE);
+        fill(channel);
+
+        int size;
+        try {
+            size = getHeader(chunk, 0);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        DynamicArrayImplementation<T> array = new DynamicArrayImplementation<>(codec.type(), size);
+        long remaining = (long) size * width;
+        while (remaining > 0) {
+            chunk.clear().limit((int) Math.min(chunk.capacity(), remaining));
+            fill(channel);
+
+            for (int offset = 0; offset < chunk.limit(); offset += width) {
+                array.push(codec.decode(chunk, offset));
+            }
+            remaining -= chunk.limit();
+        }
+
+        return array;
+    }
+
+    /**
+     * Read from {@code channel} until the chunk is full up to its limit.
+     */
+    private void fill(ReadableByteChannel channel) throws IOException {
+        while (chunk.hasRemaining()) {
+            if (channel.read(chunk) < 0) {
+                throw new EOFException("The serialized dynamic array ended before all of its elements were read!");
+            }
+        }
+    }
+
+    /**
+     * Read an array written by {@link #write(DynamicArray, ByteBuffer)}, starting at the position of {@code buffer}.
+     * The position of {@code buffer} is advanced past the read bytes.
+     *
+     * @throws BufferUnderflowException if {@code buffer} ends before the array does
+     * @throws IllegalArgumentException if the data is not a serialized array of this codec
+     */
+    public DynamicArrayImplementation<T> read(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("The value of argument buffer " +
+                    "cannot be null!");
+        }
+
+        if (buffer.remaining() < MappedDynamicArray.HEADER_SIZE) {
+            throw new BufferUnderflowException();
+        }
+
+        ByteBuffer source = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int start = buffer.position();
+        int size = getHeader(source, start);
+
+        if (buffer.remaining() - MappedDynamicArray.HEADER_SIZE < (long) size * width) {
+            throw new BufferUnderflowException();
+        }
+
+        DynamicArrayImplementation<T> array = new DynamicArrayImplementation<>(codec.type(), size);
+        int offset = start + MappedDynamicArray.HEADER_SIZE;
+        for (int i = 0; i < size; i++, offset += width) {
+            array.push(codec.decode(source, offset));
+        }
+
+        buffer.position(offset);
+        return array;
+    }
+}
@@ -0,0 +1,15 @@
+package lights.digital.masterclass.dynamic.array;
+
+/**
+ * Snapshot of the metrics collected by a dynamic array since they were enabled.
+ *
+ * @param resizes        The number of times the backing array was reallocated
+ * @param copiedElements The number of elements copied by reallocations and by operations which move or copy out elements
+ * @param copiedBytes    The approximate number of bytes behind {@code copiedElements}
+ * @param peakCapacity   The largest capacity the array has had
+ * @param wastedSlots    The number of allocated but unused slots, {@code capacity - size}
+ * @param growthNanos    The time spent reallocating the backing array, in nanoseconds
+ */
+public record DynamicArrayStats(long resizes, long copiedElements, long copiedBytes,
+                                int peakCapacity, int wastedSlots, long growthNanos) {
+}
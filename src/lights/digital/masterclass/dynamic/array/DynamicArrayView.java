@@ -0,0 +1,356 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Window over the positions {@code [fromIndex, toIndex)} of another dynamic array, returned by
+ * {@link DynamicArray#slice(int, int)} and {@link DynamicArray#view()}.
+ * <p>
+ * A view holds no elements of its own: reads, {@link #stream()} and {@link #set(int, Object)} go straight
+ * to the parent array, so creating a view costs O(1) however large the window is. Operations which would
+ * change the size of the window throw {@link UnsupportedOperationException}.
+ * <p>
+ * Once the parent is modified structurally through anything but the view, every operation of the view
+ * throws {@link ConcurrentModificationException}, provided the parent counts its structural modifications:
+ * {@link DynamicArrayImplementation}, {@link CircularDynamicArray}, {@link ChunkedDynamicArray} and
+ * {@link MappedDynamicArray} do. Views of {@link ConcurrentDynamicArray} cover published slots, which never
+ * change, and views of other arrays do not detect modifications.
+ */
+public final class DynamicArrayView<T> implements DynamicArray<T> {
+
+    private final DynamicArray<T> parent;
+    private final Class<T> clazz;
+    private final int offset;
+    private final int size;
+
+    /**
+     * Reads the modification count of the parent.
+     */
+    private final IntSupplier modCount;
+    private final int expectedModCount;
+
+    /**
+     * @throws IndexOutOfBoundsException if the window is outside of {@code parent} or {@code fromIndex} is more than {@code toIndex}
+     */
+    DynamicArrayView(DynamicArray<T> parent, Class<T> clazz, int fromIndex, int toIndex, IntSupplier modCount) {
+        if (fromIndex < 0 || toIndex > parent.size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method slice must be inside the array and fromIndex cannot be more than toIndex!");
+        }
+
+        this.parent = parent;
+        this.clazz = clazz;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+        this.modCount = modCount;
+        this.expectedModCount = modCount.getAsInt();
+    }
+
+    private void checkForComodification() {
+        if (modCount.getAsInt() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private void checkIndex(int index, String methodName) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The value of argument index in method " + methodName +
+                    " cannot be less than 0 or more than the view size!");
+        }
+    }
+
+    private static UnsupportedOperationException fixedSize(String methodName) {
+        return new UnsupportedOperationException("The method " + methodName +
+                " is not supported by a view, because it would change its size!");
+    }
+
+    /**
+     * @return A view over {@code [fromIndex, toIndex)} of this view, backed by the same parent
+     */
+    @Override
+    public DynamicArrayView<T> slice(int fromIndex, int toIndex) {
+        checkForComodification();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method slice must be inside the view and fromIndex cannot be more than toIndex!");
+        }
+
+        return new DynamicArrayView<>(parent, clazz, offset + fromIndex, offset + toIndex, modCount);
+    }
+
+    @Override
+    public void push(T newElement) {
+        throw fixedSize("push");
+    }
+
+    @Override
+    public T pop() {
+        throw fixedSize("pop");
+    }
+
+    @Override
+    public T get(int index) {
+        checkForComodification();
+        checkIndex(index, "get");
+
+        return parent.get(offset + index);
+    }
+
+    @Override
+    public int size() {
+        checkForComodification();
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        throw fixedSize("clear");
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public boolean containsAll(Collection<T> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method containsAll cannot be null!");
+        }
+
+        for (T element : tCollection) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void remove() {
+        throw fixedSize("remove");
+    }
+
+    @Override
+    public void remove(int index) {
+        throw fixedSize("remove");
+    }
+
+    @Override
+    public void ensureCapacity(int newSize) {
+        throw fixedSize("ensureCapacity");
+    }
+
+    @Override
+    public void trimToSize() {
+        throw fixedSize("trimToSize");
+    }
+
+    /**
+     * @return The size of the view, which never has free slots
+     */
+    @Override
+    public int capacity() {
+        return size();
+    }
+
+    /**
+     * Replace an element of the view, and therefore of the parent. This is not a structural
+     * modification, so it does not invalidate other views of the parent.
+     */
+    @Override
+    public T set(int index, T value) {
+        checkForComodification();
+        checkIndex(index, "set");
+
+        return parent.set(offset + index, value);
+    }
+
+    @Override
+    public T delete(int index) {
+        throw fixedSize("delete");
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        throw fixedSize("removeRange");
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw fixedSize("removeIf");
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> tCollection) {
+        throw fixedSize("retainAll");
+    }
+
+    @Override
+    public T[] takeN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method" +
+                    " takeN cannot be a negative number!");
+        }
+
+        checkForComodification();
+
+        int length = Math.min(n, size);
+        T[] localArrayCopyOfFirstNElements = (T[]) Array.newInstance(clazz, length);
+        for (int i = 0; i < length; i++) {
+            localArrayCopyOfFirstNElements[i] = parent.get(offset + i);
+        }
+
+        return localArrayCopyOfFirstNElements;
+    }
+
+    @Override
+    public T[] dropN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method " +
+                    "dropN cannot be a negative number!");
+        }
+
+        return takeN(Math.max(size - n, 0));
+    }
+
+    @SafeVarargs
+    @Override
+    public final void addAll(T... elements) {
+        throw fixedSize("addAll");
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> tCollection) {
+        throw fixedSize("addAll");
+    }
+
+    @Override
+    public void addAll(DynamicArray<? extends T> other) {
+        throw fixedSize("addAll");
+    }
+
+    @Override
+    public void addAll(T[] elements, int fromIndex, int toIndex) {
+        throw fixedSize("addAll");
+    }
+
+    @SafeVarargs
+    @Override
+    public final void insertAll(int index, T... elements) {
+        throw fixedSize("insertAll");
+    }
+
+    @Override
+    public void insertAll(int index, Collection<? extends T> tCollection) {
+        throw fixedSize("insertAll");
+    }
+
+    @Override
+    public List<T> copy() {
+        return List.of(takeN(size));
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(takeN(size));
+    }
+
+    /**
+     * @return A spliterator which reads the elements from the parent and fails fast if the parent is
+     * modified structurally during the traversal
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        checkForComodification();
+        return new ViewSpliterator(0, size);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    private final class ViewSpliterator implements Spliterator<T> {
+
+        private int index;
+        private final int fence;
+
+        private ViewSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+
+            if (lo >= mid) {
+                return null;
+            }
+
+            index = mid;
+            return new ViewSpliterator(lo, mid);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            if (index >= fence) {
+                return false;
+            }
+
+            checkForComodification();
+            action.accept(parent.get(offset + index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int i = index;
+            index = fence;
+
+            for (; i < fence; i++) {
+                checkForComodification();
+                action.accept(parent.get(offset + i));
+            }
+
+            checkForComodification();
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package lights.digital.masterclass.dynamic.array;
+
+/**
+ * Dynamic array which also supports adding and removing elements at the front in O(1).
+ * Indexes passed to {@link #get(int)}, {@link #set(int, Object)} and the other positional
+ * methods are logical: index 0 is always the first element.
+ */
+public interface DynamicDeque<T> extends DynamicArray<T> {
+
+    /**
+     * Add an element to the front of the array.
+     *
+     * @param newElement The element we want to add to our array
+     * @throws IllegalArgumentException if {@code newElement} is null
+     */
+    void pushFirst(T newElement);
+
+    /**
+     * Delete the first element in the array and return it.
+     *
+     * @return The first element in the array or null if the array is empty
+     */
+    T popFirst();
+
+    /**
+     * @return The first element in the array or null if the array is empty
+     */
+    T peekFirst();
+
+    /**
+     * @return The last element in the array or null if the array is empty
+     */
+    T peekLast();
+}
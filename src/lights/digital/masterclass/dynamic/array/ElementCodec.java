@@ -0,0 +1,100 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to and from a fixed number of bytes, so that arrays which live outside
+ * of the heap can store them at {@code index * width()}.
+ *
+ * @param <T> The type of the encoded elements
+ */
+public interface ElementCodec<T> {
+
+    ElementCodec<Integer> INT = new ElementCodec<>() {
+        @Override
+        public Class<Integer> type() {
+            return Integer.class;
+        }
+
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(Integer element, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public Class<Long> type() {
+            return Long.class;
+        }
+
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long element, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public Class<Double> type() {
+            return Double.class;
+        }
+
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void encode(Double element, ByteBuffer buffer, int offset) {
+            buffer.putDouble(offset, element);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * @return The class of the elements, used to create arrays of them
+     */
+    Class<T> type();
+
+    /**
+     * @return The number of bytes every element occupies, always more than 0
+     */
+    int width();
+
+    /**
+     * Write {@code element} to the {@link #width()} bytes of {@code buffer} starting at {@code offset}.
+     * The position of the buffer is not changed.
+     */
+    void encode(T element, ByteBuffer buffer, int offset);
+
+    /**
+     * Read the element stored in the {@link #width()} bytes of {@code buffer} starting at {@code offset}.
+     * The position of the buffer is not changed.
+     */
+    T decode(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,296 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.util.Arrays;
+
+/**
+ * Secondary index of a dynamic array which maps every distinct element to the sorted
+ * positions it occupies.
+ * <p>
+ * The table uses open addressing with linear probing and is kept at most half full, so
+ * a lookup touches one or two slots on average. Removed keys are deleted by shifting the
+ * following entries of their probe run back, which keeps the table free of tombstones.
+ * <p>
+ * Appending and removing the last position of an element, which is what {@code push} and
+ * {@code pop} do, is O(1). Operations which move many elements to other positions only
+ * {@link #markStale() mark} the index, and the owner rebuilds it before the next lookup.
+ */
+final class ElementIndex {
+
+    private static final int MINIMUM_TABLE_LENGTH = 16;
+    private static final int MINIMUM_POSITIONS_LENGTH = 2;
+
+    /**
+     * Approximate sizes in bytes on a 64-bit JVM with compressed references.
+     */
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+
+    private Object[] keys;
+    private int[][] positions;
+    private int[] counts;
+    private int distinctElements;
+    private boolean stale;
+
+    ElementIndex(int expectedSize) {
+        allocate(tableLengthFor(expectedSize));
+    }
+
+    private static int tableLengthFor(int expectedSize) {
+        int length = MINIMUM_TABLE_LENGTH;
+        while (length < 2L * expectedSize && length < (1 << 30)) {
+            length <<= 1;
+        }
+        return length;
+    }
+
+    private void allocate(int tableLength) {
+        this.keys = new Object[tableLength];
+        this.positions = new int[tableLength][];
+        this.counts = new int[tableLength];
+        this.distinctElements = 0;
+    }
+
+    private int slotFor(Object element) {
+        int hash = element.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (keys.length - 1);
+    }
+
+    /**
+     * @return The slot of {@code element}, or the bitwise complement of the free slot where it would be inserted
+     */
+    private int find(Object element) {
+        int mask = keys.length - 1;
+        int slot = slotFor(element);
+
+        while (keys[slot] != null) {
+            if (keys[slot].equals(element)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return ~slot;
+    }
+
+    private int slotForInsert(Object element) {
+        int slot = find(element);
+        if (slot >= 0) {
+            return slot;
+        }
+
+        if (2 * (distinctElements + 1) > keys.length) {
+            grow();
+            slot = find(element);
+        }
+
+        slot = ~slot;
+        keys[slot] = element;
+        positions[slot] = new int[MINIMUM_POSITIONS_LENGTH];
+        distinctElements++;
+
+        return slot;
+    }
+
+    private void grow() {
+        Object[] oldKeys = keys;
+        int[][] oldPositions = positions;
+        int[] oldCounts = counts;
+        allocate(oldKeys.length << 1);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = ~find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                positions[slot] = oldPositions[i];
+                counts[slot] = oldCounts[i];
+                distinctElements++;
+            }
+        }
+    }
+
+    /**
+     * Delete the key in {@code slot} and move back the entries of its probe run which
+     * would no longer be reachable.
+     */
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (slot + 1) & mask;
+
+        while (keys[next] != null) {
+            int home = slotFor(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                positions[hole] = positions[next];
+                counts[hole] = counts[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        keys[hole] = null;
+        positions[hole] = null;
+        counts[hole] = 0;
+        distinctElements--;
+    }
+
+    /**
+     * Record that {@code element} is on {@code position}, which must be after all
+     * other recorded positions of the same element.
+     */
+    void append(Object element, int position) {
+        int slot = slotForInsert(element);
+        int count = counts[slot];
+
+        if (count == positions[slot].length) {
+            positions[slot] = Arrays.copyOf(positions[slot], count << 1);
+        }
+
+        positions[slot][count] = position;
+        counts[slot] = count + 1;
+    }
+
+    /**
+     * Forget the last recorded position of {@code element}.
+     */
+    void removeLast(Object element) {
+        int slot = find(element);
+        if (slot < 0) {
+            return;
+        }
+
+        if (--counts[slot] == 0) {
+            deleteSlot(slot);
+        }
+    }
+
+    /**
+     * Record that {@code element} is on {@code position}, keeping the positions sorted.
+     */
+    void insert(Object element, int position) {
+        int slot = slotForInsert(element);
+        int count = counts[slot];
+        int[] elementPositions = positions[slot];
+
+        int insertionPoint = Arrays.binarySearch(elementPositions, 0, count, position);
+        if (insertionPoint >= 0) {
+            return;
+        }
+        insertionPoint = ~insertionPoint;
+
+        if (count == elementPositions.length) {
+            elementPositions = Arrays.copyOf(elementPositions, count << 1);
+            positions[slot] = elementPositions;
+        }
+
+        System.arraycopy(elementPositions, insertionPoint,
+                elementPositions, insertionPoint + 1, count - insertionPoint);
+        elementPositions[insertionPoint] = position;
+        counts[slot] = count + 1;
+    }
+
+    /**
+     * Forget that {@code element} is on {@code position}.
+     */
+    void remove(Object element, int position) {
+        int slot = find(element);
+        if (slot < 0) {
+            return;
+        }
+
+        int count = counts[slot];
+        int[] elementPositions = positions[slot];
+        int removalPoint = Arrays.binarySearch(elementPositions, 0, count, position);
+        if (removalPoint < 0) {
+            return;
+        }
+
+        if (count == 1) {
+            deleteSlot(slot);
+            return;
+        }
+
+        System.arraycopy(elementPositions, removalPoint + 1,
+                elementPositions, removalPoint, count - removalPoint - 1);
+        counts[slot] = count - 1;
+    }
+
+    /**
+     * @return Whether {@code element} is recorded on at least one position
+     */
+    boolean contains(Object element) {
+        return find(element) >= 0;
+    }
+
+    /**
+     * @return The first recorded position of {@code element} or -1 if there is none
+     */
+    int firstPosition(Object element) {
+        int slot = find(element);
+        return slot < 0 ? -1 : positions[slot][0];
+    }
+
+    /**
+     * @return The last recorded position of {@code element} or -1 if there is none
+     */
+    int lastPosition(Object element) {
+        int slot = find(element);
+        return slot < 0 ? -1 : positions[slot][counts[slot] - 1];
+    }
+
+    void clear() {
+        if (distinctElements > 0) {
+            Arrays.fill(keys, null);
+            Arrays.fill(positions, null);
+            Arrays.fill(counts, 0);
+            distinctElements = 0;
+        }
+        stale = false;
+    }
+
+    /**
+     * Replace the content of the index with the first {@code size} elements of {@code elements}.
+     */
+    void rebuild(Object[] elements, int size) {
+        int tableLength = tableLengthFor(size);
+        if (tableLength > keys.length) {
+            allocate(tableLength);
+        } else {
+            clear();
+        }
+
+        for (int i = 0; i < size; i++) {
+            append(elements[i], i);
+        }
+        stale = false;
+    }
+
+    /**
+     * Note that positions have moved, so the index has to be rebuilt before its next use.
+     */
+    void markStale() {
+        stale = true;
+    }
+
+    boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * @return The approximate number of bytes held by the index, not counting the indexed elements themselves
+     */
+    long memoryFootprint() {
+        long bytes = 3L * ARRAY_HEADER_BYTES
+                + (long) keys.length * REFERENCE_BYTES
+                + (long) positions.length * REFERENCE_BYTES
+                + (long) counts.length * Integer.BYTES;
+
+        for (int[] elementPositions : positions) {
+            if (elementPositions != null) {
+                bytes += ARRAY_HEADER_BYTES + (long) elementPositions.length * Integer.BYTES;
+            }
+        }
+
+        return bytes;
+    }
+}
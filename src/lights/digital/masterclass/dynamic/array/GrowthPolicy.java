@@ -0,0 +1,97 @@
+package lights.digital.masterclass.dynamic.array;
+
+/**
+ * Decides how much a dynamic array grows once its backing array is full.
+ * Every array owns its policy, so tuning one array never changes the growth of another.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * The largest length the JVM reliably allows for an array.
+     */
+    int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * Compute the new capacity of a full array.
+     *
+     * @param currentCapacity The capacity of the array before growing
+     * @param minCapacity     The smallest capacity which can hold all pending elements
+     * @return The new capacity, never less than {@code minCapacity}
+     * @throws IllegalStateException if the policy cannot provide {@code minCapacity} slots
+     */
+    int grow(int currentCapacity, int minCapacity);
+
+    /**
+     * @return The policy used by arrays constructed without an explicit one
+     */
+    static GrowthPolicy defaultPolicy() {
+        return geometric(2);
+    }
+
+    /**
+     * @param factor The multiplier applied to the current capacity on every growth
+     * @return A policy which multiplies the capacity by {@code factor}
+     * @throws IllegalArgumentException if {@code factor} is not more than 1
+     */
+    static GrowthPolicy geometric(double factor) {
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("The value of argument factor in method " +
+                    "geometric must be more than 1!");
+        }
+
+        return (currentCapacity, minCapacity) -> {
+            checkMinCapacity(minCapacity, MAX_ARRAY_LENGTH);
+
+            long newCapacity = (long) (currentCapacity * factor);
+            return (int) Math.min(Math.max(newCapacity, minCapacity), MAX_ARRAY_LENGTH);
+        };
+    }
+
+    /**
+     * @param increment The number of slots added on every growth
+     * @return A policy which adds {@code increment} slots to the capacity
+     * @throws IllegalArgumentException if {@code increment} is less than 1
+     */
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment < 1) {
+            throw new IllegalArgumentException("The value of argument increment in method " +
+                    "fixedIncrement cannot be less than 1!");
+        }
+
+        return (currentCapacity, minCapacity) -> {
+            checkMinCapacity(minCapacity, MAX_ARRAY_LENGTH);
+
+            long newCapacity = (long) currentCapacity + increment;
+            return (int) Math.min(Math.max(newCapacity, minCapacity), MAX_ARRAY_LENGTH);
+        };
+    }
+
+    /**
+     * @param maxCapacity The capacity which the array should never exceed
+     * @return A policy which rounds the capacity up to the next power of two,
+     * but never above {@code maxCapacity}
+     * @throws IllegalArgumentException if {@code maxCapacity} is less than 1
+     */
+    static GrowthPolicy powerOfTwo(int maxCapacity) {
+        if (maxCapacity < 1 || maxCapacity > MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException("The value of argument maxCapacity in method " +
+                    "powerOfTwo must be between 1 and " + MAX_ARRAY_LENGTH + "!");
+        }
+
+        return (currentCapacity, minCapacity) -> {
+            checkMinCapacity(minCapacity, maxCapacity);
+
+            long wanted = Math.max((long) currentCapacity + 1, minCapacity);
+            long newCapacity = wanted <= 1 ? 1 : Long.highestOneBit(wanted - 1) << 1;
+            return (int) Math.min(newCapacity, maxCapacity);
+        };
+    }
+
+    private static void checkMinCapacity(int minCapacity, int maxCapacity) {
+        if (minCapacity < 0 || minCapacity > maxCapacity) {
+            throw new IllegalStateException("The array cannot grow to " +
+                    Integer.toUnsignedString(minCapacity) + " elements, the limit is " + maxCapacity + "!");
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+
+public interface LongDynamicArray {
+
+    /**
+     * Add an element to the end of the array.
+     *
+     * @param newElement The element we want to add to our array
+     */
+    void push(long newElement);
+
+    /**
+     * Delete the last added element in the array and return it.
+     *
+     * @return The last added element in the array
+     * @throws java.util.NoSuchElementException if the array is empty
+     */
+    long pop();
+
+    /**
+     * Find the element on position index and return it.
+     *
+     * @param index The position of the wanted element
+     * @return The element on position index
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or not less than the array size
+     */
+    long get(int index);
+
+    /**
+     * @return The current size of the array
+     */
+    int size();
+
+    /**
+     * @return If the current array contains no elements return true, else false
+     */
+    boolean isEmpty();
+
+    /**
+     * Erases all elements from the array.
+     */
+    void clear();
+
+    /**
+     * @param element The element we are searching for in the array
+     * @return Whether the element is in the array or not.
+     */
+    boolean contains(long element);
+
+    /**
+     * @param element The element we are searching for in the array
+     * @return The position of the first occurrence of {@code element} or -1 if it is not in the array
+     */
+    int indexOf(long element);
+
+    /**
+     * @return The sum of the elements, which overflows like {@link LongStream#sum()}
+     */
+    long sum();
+
+    /**
+     * @return The smallest element in the array
+     * @throws java.util.NoSuchElementException if the array is empty
+     */
+    long min();
+
+    /**
+     * @return The largest element in the array
+     * @throws java.util.NoSuchElementException if the array is empty
+     */
+    long max();
+
+    /**
+     * @param threshold The value the counted elements must be more than
+     * @return The number of elements which are more than {@code threshold}
+     */
+    int countGreaterThan(long threshold);
+
+    /**
+     * @param threshold The value the selected elements must be more than
+     * @return The ascending positions of the elements which are more than {@code threshold}
+     */
+    int[] indexesGreaterThan(long threshold);
+
+    /**
+     * Remove an element on the last position in the array.
+     */
+    void remove();
+
+    /**
+     * Remove the element on position index in the array.
+     *
+     * @param index The position of the element we are removing
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or not less than the array size
+     */
+    void remove(int index);
+
+    /**
+     * Enlarge the capacity of the array to {@code newSize}
+     *
+     * @param newSize The new capacity which should be ensured
+     * @throws IllegalArgumentException if {@code newSize} is less than the current array capacity
+     */
+    void ensureCapacity(int newSize);
+
+    /**
+     * Decrease the capacity of the current array to the number of elements in it.
+     */
+    void trimToSize();
+
+    /**
+     * @return The capacity of the current array
+     */
+    int capacity();
+
+    /**
+     * Set the value on position {@code index} to {@code value}.
+     *
+     * @param index The position which should be upgraded
+     * @param value The new value for position index
+     * @return The old value on position index
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or not less than the array size
+     */
+    long set(int index, long value);
+
+    /**
+     * Deletes an element on a certain index and returns it.
+     *
+     * @param index The position of the element we are trying to delete
+     * @return The element we have deleted
+     * @throws IndexOutOfBoundsException if {@code index} is less than 0 or not less than the array size
+     */
+    long delete(int index);
+
+    /**
+     * @param n The number of elements that should be returned.
+     * @return A mutable array of the first n elements
+     */
+    long[] takeN(int n);
+
+    /**
+     * @param n The number of element that should be removed
+     * @return A mutable array of the first (size() - n ) elements
+     */
+    long[] dropN(int n);
+
+    /**
+     * @param elements The elements which should be added to the current array
+     */
+    void addAll(long... elements);
+
+    /**
+     * @return A spliterator over the elements of the array
+     */
+    Spliterator.OfLong spliterator();
+
+    /**
+     * @return A LongStream of the elements in the current array.
+     */
+    LongStream stream();
+}
@@ -0,0 +1,811 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Dynamic array whose elements live in a memory-mapped file instead of on the heap.
+ * <p>
+ * Every element is stored in {@link ElementCodec#width()} bytes. The file starts with a
+ * {@value #HEADER_SIZE}-byte little-endian header which holds a magic number, the format version,
+ * the element width and the size of the array, followed by {@code capacity * width} bytes of elements.
+ * The elements are mapped in regions of at most 1 GiB, each holding a whole number of elements,
+ * so an array may be much larger than the heap and than a single {@link MappedByteBuffer}.
+ * <p>
+ * Growing extends the file and maps the new part; the regions which already exist stay mapped.
+ * Opening an existing file only maps it, so the elements are never deserialized up front.
+ * Writes reach the file when the operating system decides to flush them, or when
+ * {@link #force()} or {@link #close()} is called.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class MappedDynamicArray<T> implements DynamicArray<T>, Closeable {
+
+    static final int HEADER_SIZE = 32;
+    static final int MAGIC = 0x44594E41;
+    static final int VERSION = 1;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int WIDTH_OFFSET = 8;
+    static final int SIZE_OFFSET = 16;
+
+    private static final int DEFAULT_REGION_BYTES = 1 << 30;
+    private static final int MOVE_BUFFER_BYTES = 1 << 16;
+
+    private final ElementCodec<T> codec;
+    private final GrowthPolicy growthPolicy;
+    private final int width;
+
+    /**
+     * Every region holds {@code 1 << regionShift} elements, except possibly the last one.
+     */
+    private final int regionShift;
+    private final int regionMask;
+    private final long regionBytes;
+
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer[] regions;
+    private int capacity;
+    private int size;
+
+    /**
+     * The number of structural modifications, used by spliterators to fail fast.
+     */
+    private int modCount;
+
+    /**
+     * Open the array stored in {@code file}, or create a new one if the file does not exist or is empty.
+     */
+    public MappedDynamicArray(Path file, ElementCodec<T> codec) throws IOException {
+        this(file, codec, 1);
+    }
+
+    public MappedDynamicArray(Path file, ElementCodec<T> codec, int capacity) throws IOException {
+        this(file, codec, capacity, GrowthPolicy.defaultPolicy());
+    }
+
+    /**
+     * @param capacity The capacity of a newly created array; an existing file keeps its own capacity
+     * @throws IOException              if the file cannot be opened or mapped, or is not a dynamic array file
+     * @throws IllegalArgumentException if the file stores elements of a different width than {@code codec}
+     */
+    public MappedDynamicArray(Path file, ElementCodec<T> codec, int capacity, GrowthPolicy growthPolicy) throws IOException {
+        this(file, codec, capacity, growthPolicy, DEFAULT_REGION_BYTES);
+    }
+
+    MappedDynamicArray(Path file, ElementCodec<T> codec, int capacity, GrowthPolicy growthPolicy, int maxRegionBytes) throws IOException {
+        if (file == null || codec == null) {
+            throw new IllegalArgumentException("The values of arguments file and codec " +
+                    "cannot be null!");
+        }
+
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("The value of argument growthPolicy " +
+                    "cannot be null!");
+        }
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The value of argument capacity " +
+                    "cannot be a negative number!");
+        }
+
+        if (codec.width() <= 0 || codec.width() > maxRegionBytes) {
+            throw new IllegalArgumentException("The width of the codec must be more than 0 " +
+                    "and not more than " + maxRegionBytes + " bytes!");
+        }
+
+        this.codec = codec;
+        this.growthPolicy = growthPolicy;
+        this.width = codec.width();
+        this.regionShift = 31 - Integer.numberOfLeadingZeros(maxRegionBytes / width);
+        this.regionMask = (1 << regionShift) - 1;
+        this.regionBytes = (long) width << regionShift;
+        this.regions = new MappedByteBuffer[0];
+
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                create(capacity);
+            } else {
+                open();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void create(int capacity) throws IOException {
+        this.header = map(0, HEADER_SIZE);
+        header.putInt(MAGIC_OFFSET, MAGIC);
+        header.putInt(VERSION_OFFSET, VERSION);
+        header.putInt(WIDTH_OFFSET, width);
+        header.putLong(SIZE_OFFSET, 0);
+
+        remap(capacity);
+    }
+
+    private void open() throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            throw new IOException("The file is too short to contain a dynamic array header!");
+        }
+
+        this.header = map(0, HEADER_SIZE);
+        if (header.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("The file does not contain a dynamic array!");
+        }
+
+        if (header.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("The dynamic array file has unsupported version " +
+                    header.getInt(VERSION_OFFSET) + "!");
+        }
+
+        if (header.getInt(WIDTH_OFFSET) != width) {
+            throw new IllegalArgumentException("The file stores elements of " + header.getInt(WIDTH_OFFSET) +
+                    " bytes, but the codec writes " + width + " bytes!");
+        }
+
+        long storedCapacity = (channel.size() - HEADER_SIZE) / width;
+        long storedSize = header.getLong(SIZE_OFFSET);
+        if (storedSize < 0 || storedSize > storedCapacity || storedCapacity > GrowthPolicy.MAX_ARRAY_LENGTH) {
+            throw new IOException("The dynamic array file is corrupted: size " + storedSize +
+                    " does not fit in " + storedCapacity + " elements!");
+        }
+
+        remap((int) storedCapacity);
+        this.size = (int) storedSize;
+    }
+
+    private MappedByteBuffer map(long position, long length) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, length);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    /**
+     * Map exactly {@code newCapacity} elements, extending or truncating the file.
+     * Regions which keep their length are reused.
+     */
+    private void remap(int newCapacity) throws IOException {
+        int regionCount = (int) (((long) newCapacity + regionMask) >>> regionShift);
+        MappedByteBuffer[] newRegions = Arrays.copyOf(regions, regionCount);
+
+        for (int region = 0; region < regionCount; region++) {
+            long elements = Math.min(1L << regionShift, newCapacity - ((long) region << regionShift));
+            long bytes = elements * width;
+            if (newRegions[region] == null || newRegions[region].capacity() != bytes) {
+                newRegions[region] = map(HEADER_SIZE + region * regionBytes, bytes);
+            }
+        }
+
+        this.regions = newRegions;
+        this.capacity = newCapacity;
+
+        long fileLength = HEADER_SIZE + (long) newCapacity * width;
+        if (channel.size() > fileLength) {
+            channel.truncate(fileLength);
+        }
+    }
+
+    private void resize(int newCapacity) {
+        try {
+            remap(newCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        modCount++;
+    }
+
+    private void ensureCapacityInternal(int minCapacity) {
+        if (minCapacity > capacity) {
+            int newCapacity = growthPolicy.grow(capacity, minCapacity);
+            if (newCapacity < minCapacity) {
+                throw new IllegalStateException("The growth policy returned capacity " + newCapacity +
+                        ", which cannot hold " + minCapacity + " elements!");
+            }
+
+            resize(newCapacity);
+        }
+    }
+
+    private void setSize(int newSize) {
+        this.size = newSize;
+        header.putLong(SIZE_OFFSET, newSize);
+    }
+
+    private void checkOpen() {
+        if (channel == null) {
+            throw new IllegalStateException("The mapped dynamic array is closed!");
+        }
+    }
+
+    private void checkIndex(int index, String methodName) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The value of argument index in method " + methodName +
+                    " cannot be less than 0 or more than the array size!");
+        }
+    }
+
+    private T read(int index) {
+        return codec.decode(regions[index >>> regionShift], (index & regionMask) * width);
+    }
+
+    private void write(int index, T element) {
+        codec.encode(element, regions[index >>> regionShift], (index & regionMask) * width);
+    }
+
+    /**
+     * Copy {@code length} elements from position {@code from} to position {@code to} as raw bytes.
+     * The ranges may overlap.
+     */
+    private void moveElements(int from, int to, int length) {
+        if (length == 0 || from == to) {
+            return;
+        }
+
+        long source = (long) from * width;
+        long destination = (long) to * width;
+        long remaining = (long) length * width;
+        byte[] buffer = new byte[(int) Math.min(remaining, MOVE_BUFFER_BYTES)];
+
+        if (destination < source) {
+            for (long done = 0; done < remaining; done += buffer.length) {
+                int chunk = (int) Math.min(buffer.length, remaining - done);
+                readBytes(source + done, buffer, chunk);
+                writeBytes(destination + done, buffer, chunk);
+            }
+        } else {
+            for (long done = remaining; done > 0; done -= buffer.length) {
+                int chunk = (int) Math.min(buffer.length, done);
+                readBytes(source + done - chunk, buffer, chunk);
+                writeBytes(destination + done - chunk, buffer, chunk);
+            }
+        }
+    }
+
+    private void readBytes(long position, byte[] buffer, int length) {
+        for (int done = 0; done < length; ) {
+            MappedByteBuffer region = regions[(int) (position / regionBytes)];
+            int offset = (int) (position % regionBytes);
+            int chunk = Math.min(length - done, region.capacity() - offset);
+
+            region.get(offset, buffer, done, chunk);
+            done += chunk;
+            position += chunk;
+        }
+    }
+
+    private void writeBytes(long position, byte[] buffer, int length) {
+        for (int done = 0; done < length; ) {
+            MappedByteBuffer region = regions[(int) (position / regionBytes)];
+            int offset = (int) (position % regionBytes);
+            int chunk = Math.min(length - done, region.capacity() - offset);
+
+            region.put(offset, buffer, done, chunk);
+            done += chunk;
+            position += chunk;
+        }
+    }
+
+    /**
+     * Write every change of the elements and of the size to the storage device.
+     */
+    public void force() {
+        checkOpen();
+
+        for (MappedByteBuffer region : regions) {
+            region.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Force the changes to the storage device and close the file. Closing a closed array has no effect.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+
+        force();
+        channel.close();
+
+        channel = null;
+        header = null;
+        regions = null;
+    }
+
+    @Override
+    public void push(T newElement) {
+        if (newElement == null) {
+            throw new IllegalArgumentException("The value of argument newElement, " +
+                    "in method push, cannot be null");
+        }
+
+        checkOpen();
+        ensureCapacityInternal(size + 1);
+
+        write(size, newElement);
+        setSize(size + 1);
+        modCount++;
+    }
+
+    @Override
+    public T pop() {
+        checkOpen();
+
+        if (size == 0) {
+            return null;
+        }
+
+        T lastElementInArray = read(size - 1);
+        setSize(size - 1);
+        modCount++;
+
+        return lastElementInArray;
+    }
+
+    @Override
+    public T get(int index) {
+        checkOpen();
+        checkIndex(index, "get");
+
+        return read(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Only the size is reset; the file keeps its capacity.
+     */
+    @Override
+    public void clear() {
+        checkOpen();
+
+        setSize(0);
+        modCount++;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public boolean containsAll(Collection<T> tCollection) {
+        for (T element : tCollection) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int indexOf(T element) {
+        checkOpen();
+
+        if (element == null) {
+            return -1;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (element.equals(read(i))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public void remove() {
+        delete(size - 1);
+    }
+
+    @Override
+    public void remove(int index) {
+        delete(index);
+    }
+
+    @Override
+    public void ensureCapacity(int newSize) {
+        checkOpen();
+
+        if (newSize < capacity) {
+            throw new IllegalArgumentException("The value of argument newSize " +
+                    "cannot be less than the current capacity of the array!");
+        }
+
+        resize(newSize);
+    }
+
+    /**
+     * Truncate the file to exactly the current elements.
+     */
+    @Override
+    public void trimToSize() {
+        checkOpen();
+
+        resize(size);
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public T set(int index, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("The value of argument value " +
+                    "in method set cannot be null!");
+        }
+
+        checkOpen();
+        checkIndex(index, "set");
+
+        T oldValueOnPositionIndex = read(index);
+        write(index, value);
+
+        return oldValueOnPositionIndex;
+    }
+
+    @Override
+    public T delete(int index) {
+        checkOpen();
+        checkIndex(index, "delete");
+
+        T result = read(index);
+        removeRange(index, index + 1);
+
+        return result;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkOpen();
+
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method removeRange must be inside the array and fromIndex cannot be more than toIndex!");
+        }
+
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        moveElements(toIndex, fromIndex, size - toIndex);
+        setSize(size - (toIndex - fromIndex));
+        modCount++;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("The value of argument filter in " +
+                    "method removeIf cannot be null!");
+        }
+
+        checkOpen();
+
+        int readIndex = 0;
+        while (readIndex < size && !filter.test(read(readIndex))) {
+            readIndex++;
+        }
+
+        if (readIndex == size) {
+            return false;
+        }
+
+        int writeIndex = readIndex++;
+        try {
+            for (; readIndex < size; readIndex++) {
+                T element = read(readIndex);
+                if (!filter.test(element)) {
+                    write(writeIndex++, element);
+                }
+            }
+        } finally {
+            moveElements(readIndex, writeIndex, size - readIndex);
+            setSize(writeIndex + size - readIndex);
+            modCount++;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method retainAll cannot be null!");
+        }
+
+        return removeIf(element -> !tCollection.contains(element));
+    }
+
+    @Override
+    public T[] takeN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method" +
+                    " takeN cannot be a negative number!");
+        }
+
+        checkOpen();
+
+        int length = Math.min(n, size);
+        T[] localArrayCopyOfFirstNElements = (T[]) Array.newInstance(codec.type(), length);
+        for (int i = 0; i < length; i++) {
+            localArrayCopyOfFirstNElements[i] = read(i);
+        }
+
+        return localArrayCopyOfFirstNElements;
+    }
+
+    @Override
+    public T[] dropN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method " +
+                    "dropN cannot be a negative number!");
+        }
+
+        return takeN(Math.max(size - n, 0));
+    }
+
+    @SafeVarargs
+    @Override
+    public final void addAll(T... elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method addAll cannot be null!");
+        }
+
+        insertArray(size, elements, 0, elements.length, "addAll");
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method addAll cannot be null!");
+        }
+
+        Object[] elements = tCollection.toArray();
+        insertArray(size, elements, 0, elements.length, "addAll");
+    }
+
+    @Override
+    public void addAll(DynamicArray<? extends T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("The value of argument other in " +
+                    "method addAll cannot be null!");
+        }
+
+        int otherSize = other.size();
+        if (otherSize > 0) {
+            insertArray(size, other.takeN(otherSize), 0, otherSize, "addAll");
+        }
+    }
+
+    @Override
+    public void addAll(T[] elements, int fromIndex, int toIndex) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method addAll cannot be null!");
+        }
+
+        insertArray(size, elements, fromIndex, toIndex, "addAll");
+    }
+
+    @SafeVarargs
+    @Override
+    public final void insertAll(int index, T... elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method insertAll cannot be null!");
+        }
+
+        insertArray(index, elements, 0, elements.length, "insertAll");
+    }
+
+    @Override
+    public void insertAll(int index, Collection<? extends T> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method insertAll cannot be null!");
+        }
+
+        Object[] elements = tCollection.toArray();
+        insertArray(index, elements, 0, elements.length, "insertAll");
+    }
+
+    private void insertArray(int index, Object[] elements, int fromIndex, int toIndex, String methodName) {
+        checkOpen();
+
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The value of argument index in method " +
+                    methodName + " cannot be less than 0 or more than the array size!");
+        }
+
+        if (fromIndex < 0 || toIndex > elements.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method " + methodName + " is outside of the given elements!");
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (elements[i] == null) {
+                throw new IllegalArgumentException("The elements in method " + methodName +
+                        " cannot contain null!");
+            }
+        }
+
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+
+        ensureCapacityInternal(size + count);
+
+        moveElements(index, index + count, size - index);
+        for (int i = 0; i < count; i++) {
+            write(index + i, (T) elements[fromIndex + i]);
+        }
+
+        setSize(size + count);
+        modCount++;
+    }
+
+    @Override
+    public List<T> copy() {
+        return Collections.unmodifiableList(Arrays.asList(takeN(size)));
+    }
+
+    @Override
+    public String toString() {
+        return channel == null ? "[closed]" : Arrays.toString(takeN(size));
+    }
+
+    /**
+     * The view fails fast on every structural modification of this array, counted like for its spliterators.
+     */
+    @Override
+    public DynamicArrayView<T> slice(int fromIndex, int toIndex) {
+        checkOpen();
+
+        return new DynamicArrayView<>(this, codec.type(), fromIndex, toIndex, () -> modCount);
+    }
+
+    /**
+     * The pipeline fails fast on every structural modification of this array during its terminal operation.
+     */
+    @Override
+    public DynamicArrayPipeline<T> lazy() {
+        checkOpen();
+
+        return new DynamicArrayPipeline<>(this, codec.type(), null, () -> modCount);
+    }
+
+    /**
+     * @return A spliterator which decodes the elements straight from the mapped file
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        checkOpen();
+
+        return new MappedSpliterator(0, -1, 0);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    private final class MappedSpliterator implements Spliterator<T> {
+
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private MappedSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+
+            if (lo >= mid) {
+                return null;
+            }
+
+            index = mid;
+            return new MappedSpliterator(lo, mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int hi = getFence();
+            if (index >= hi) {
+                return false;
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            action.accept(read(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int hi = getFence();
+            for (; index < hi; index++) {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                action.accept(read(index));
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
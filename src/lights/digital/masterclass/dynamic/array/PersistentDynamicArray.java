@@ -0,0 +1,728 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Dynamic array stored as a 32-way trie with a separate tail leaf, so that {@link #copy()},
+ * {@link #snapshot()} and {@link #stream()} share the current structure in O(1) instead of copying it.
+ * <p>
+ * Every node remembers which edit session created it. Nodes of the current session are changed in place,
+ * so a run of {@code push}/{@code set} calls without snapshots costs about as much as on a flat array.
+ * Taking a snapshot starts a new session: the following {@code push}/{@code set} calls copy only the
+ * nodes on the path to the changed element (at most {@code log32(size)} arrays of 32 references),
+ * while the snapshot keeps seeing the old nodes.
+ * <p>
+ * Operations which shift elements ({@code delete}, {@code insertAll}, {@code removeRange}, ...) rebuild the trie in O(n).
+ */
+public class PersistentDynamicArray<T> implements DynamicArray<T> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private final Class<T> clazz;
+
+    private Object edit;
+    private Node root;
+    private Node tail;
+    private int shift;
+    private int size;
+
+    private static final class Node {
+        private final Object edit;
+        private final Object[] array;
+
+        private Node(Object edit) {
+            this(edit, new Object[WIDTH]);
+        }
+
+        private Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    public PersistentDynamicArray(Class<T> clazz) {
+        this.clazz = clazz;
+        this.edit = new Object();
+        reset();
+    }
+
+    private PersistentDynamicArray(Class<T> clazz, Node root, Node tail, int shift, int size) {
+        this.clazz = clazz;
+        this.edit = new Object();
+        this.root = root;
+        this.tail = tail;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    private void reset() {
+        this.root = new Node(edit);
+        this.tail = new Node(edit);
+        this.shift = BITS;
+        this.size = 0;
+    }
+
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private static Object[] leafFor(Node root, Node tail, int shift, int size, int index) {
+        if (index >= tailOffset(size)) {
+            return tail.array;
+        }
+
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private Object[] leafFor(int index) {
+        return leafFor(root, tail, shift, size, index);
+    }
+
+    private Node editable(Node node) {
+        return node.edit == edit ? node : new Node(edit, node.array.clone());
+    }
+
+    /**
+     * Hand the current nodes over to a snapshot. From now on they are never changed in place.
+     */
+    private void share() {
+        this.edit = new Object();
+    }
+
+    private void checkIndex(int index, String methodName) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The value of argument index in method " + methodName +
+                    " cannot be less than 0 or more than the array size!");
+        }
+    }
+
+    private void append(T element) {
+        int tailCount = size - tailOffset(size);
+        if (tailCount < WIDTH) {
+            tail = editable(tail);
+            tail.array[tailCount] = element;
+            size++;
+            return;
+        }
+
+        Node fullTail = tail;
+        if ((size >>> BITS) > (1 << shift)) {
+            Node newRoot = new Node(edit);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(shift, fullTail);
+            root = newRoot;
+            shift += BITS;
+        } else {
+            root = pushTail(shift, root, fullTail);
+        }
+
+        tail = new Node(edit);
+        tail.array[0] = element;
+        size++;
+    }
+
+    private Node pushTail(int level, Node parent, Node tailNode) {
+        Node result = editable(parent);
+        int subIndex = ((size - 1) >>> level) & MASK;
+
+        Node nodeToInsert;
+        if (level == BITS) {
+            nodeToInsert = tailNode;
+        } else {
+            Node child = (Node) parent.array[subIndex];
+            nodeToInsert = child != null
+                    ? pushTail(level - BITS, child, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+
+        result.array[subIndex] = nodeToInsert;
+        return result;
+    }
+
+    private Node newPath(int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+
+        Node result = new Node(edit);
+        result.array[0] = newPath(level - BITS, node);
+        return result;
+    }
+
+    private Node doSet(int level, Node node, int index, T value) {
+        Node result = editable(node);
+        if (level == 0) {
+            result.array[index & MASK] = value;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = doSet(level - BITS, (Node) node.array[subIndex], index, value);
+        }
+        return result;
+    }
+
+    private Node popTail(int level, Node node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node newChild = popTail(level - BITS, (Node) node.array[subIndex]);
+            if (newChild == null && subIndex == 0) {
+                return null;
+            }
+
+            Node result = editable(node);
+            result.array[subIndex] = newChild;
+            return result;
+        } else if (subIndex == 0) {
+            return null;
+        }
+
+        Node result = editable(node);
+        result.array[subIndex] = null;
+        return result;
+    }
+
+    /**
+     * Replace the whole content with {@code elements[0..length)}.
+     */
+    private void rebuild(Object[] elements, int length) {
+        reset();
+        for (int i = 0; i < length; i++) {
+            append((T) elements[i]);
+        }
+    }
+
+    private Object[] toObjectArray() {
+        Object[] elements = new Object[size];
+        copyInto(elements, 0, size);
+        return elements;
+    }
+
+    private void copyInto(Object[] destination, int fromIndex, int toIndex) {
+        int index = fromIndex;
+        while (index < toIndex) {
+            Object[] leaf = leafFor(index);
+            int leafStart = index & MASK;
+            int count = Math.min(WIDTH - leafStart, toIndex - index);
+            System.arraycopy(leaf, leafStart, destination, index - fromIndex, count);
+            index += count;
+        }
+    }
+
+    private static void checkNoNulls(Object[] elements, int fromIndex, int toIndex, String methodName) {
+        if (fromIndex < 0 || toIndex > elements.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method " + methodName + " is outside of the given elements!");
+        }
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (elements[i] == null) {
+                throw new IllegalArgumentException("The elements in method " + methodName +
+                        " cannot contain null!");
+            }
+        }
+    }
+
+    /**
+     * @return A new array which shares all nodes with this one; both can be modified independently
+     */
+    public PersistentDynamicArray<T> snapshot() {
+        share();
+        return new PersistentDynamicArray<>(clazz, root, tail, shift, size);
+    }
+
+    @Override
+    public void push(T newElement) {
+        if (newElement == null) {
+            throw new IllegalArgumentException("The value of argument newElement, " +
+                    "in method push, cannot be null");
+        }
+
+        append(newElement);
+    }
+
+    @Override
+    public T pop() {
+        if (size == 0) {
+            return null;
+        }
+
+        int tailCount = size - tailOffset(size);
+        if (size == 1 || tailCount > 1) {
+            tail = editable(tail);
+            T lastElement = (T) tail.array[tailCount - 1];
+            tail.array[tailCount - 1] = null;
+            size--;
+            return lastElement;
+        }
+
+        T lastElement = (T) tail.array[0];
+        Node newTail = new Node(edit, leafFor(size - 2).clone());
+
+        Node newRoot = popTail(shift, root);
+        if (newRoot == null) {
+            newRoot = new Node(edit);
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            shift -= BITS;
+        }
+
+        root = newRoot;
+        tail = newTail;
+        size--;
+        return lastElement;
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, "get");
+
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        reset();
+    }
+
+    @Override
+    public boolean contains(T element) {
+        if (element == null) {
+            return false;
+        }
+
+        for (int index = 0; index < size; index += WIDTH) {
+            Object[] leaf = leafFor(index);
+            int count = Math.min(WIDTH, size - index);
+            for (int i = 0; i < count; i++) {
+                if (element.equals(leaf[i])) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean containsAll(Collection<T> tCollection) {
+        for (T element : tCollection) {
+            if (!contains(element)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public void remove() {
+        delete(size - 1);
+    }
+
+    @Override
+    public void remove(int index) {
+        delete(index);
+    }
+
+    /**
+     * The trie allocates leaves on demand, so there is nothing to reserve; only the argument is validated.
+     */
+    @Override
+    public void ensureCapacity(int newSize) {
+        if (newSize < capacity()) {
+            throw new IllegalArgumentException("The value of argument newSize " +
+                    "cannot be less than the current capacity of the array!");
+        }
+    }
+
+    /**
+     * Leaves are never larger than needed, so there is nothing to trim.
+     */
+    @Override
+    public void trimToSize() {
+    }
+
+    /**
+     * @return The number of slots in the allocated leaves, including the tail
+     */
+    @Override
+    public int capacity() {
+        return tailOffset(size) + WIDTH;
+    }
+
+    @Override
+    public T set(int index, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("The value of argument value " +
+                    "in method set cannot be null!");
+        }
+
+        checkIndex(index, "set");
+
+        T oldValueOnPositionIndex = get(index);
+        if (index >= tailOffset(size)) {
+            tail = editable(tail);
+            tail.array[index & MASK] = value;
+        } else {
+            root = doSet(shift, root, index, value);
+        }
+
+        return oldValueOnPositionIndex;
+    }
+
+    @Override
+    public T delete(int index) {
+        checkIndex(index, "delete");
+
+        if (index == size - 1) {
+            return pop();
+        }
+
+        T result = get(index);
+        Object[] elements = toObjectArray();
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        rebuild(elements, size - 1);
+
+        return result;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("The range [" + fromIndex + ", " + toIndex +
+                    ") in method removeRange must be inside the array and fromIndex cannot be more than toIndex!");
+        }
+
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        Object[] elements = toObjectArray();
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        rebuild(elements, size - (toIndex - fromIndex));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("The value of argument filter in " +
+                    "method removeIf cannot be null!");
+        }
+
+        Object[] elements = toObjectArray();
+        int kept = 0;
+        for (Object element : elements) {
+            if (!filter.test((T) element)) {
+                elements[kept++] = element;
+            }
+        }
+
+        if (kept == elements.length) {
+            return false;
+        }
+
+        rebuild(elements, kept);
+        return true;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method retainAll cannot be null!");
+        }
+
+        return removeIf(element -> !tCollection.contains(element));
+    }
+
+    @Override
+    public T[] takeN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method" +
+                    " takeN cannot be a negative number!");
+        }
+
+        int length = Math.min(n, size);
+        T[] localArrayCopyOfFirstNElements = (T[]) Array.newInstance(clazz, length);
+        copyInto(localArrayCopyOfFirstNElements, 0, length);
+
+        return localArrayCopyOfFirstNElements;
+    }
+
+    @Override
+    public T[] dropN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The value of argument n in method " +
+                    "dropN cannot be a negative number!");
+        }
+
+        return takeN(Math.max(size - n, 0));
+    }
+
+    @SafeVarargs
+    @Override
+    public final void addAll(T... elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method addAll cannot be null!");
+        }
+
+        addAll(elements, 0, elements.length);
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method addAll cannot be null!");
+        }
+
+        Object[] elements = tCollection.toArray();
+        checkNoNulls(elements, 0, elements.length, "addAll");
+        for (Object element : elements) {
+            append((T) element);
+        }
+    }
+
+    @Override
+    public void addAll(DynamicArray<? extends T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("The value of argument other in " +
+                    "method addAll cannot be null!");
+        }
+
+        int otherSize = other.size();
+        if (otherSize > 0) {
+            addAll(other.takeN(otherSize), 0, otherSize);
+        }
+    }
+
+    @Override
+    public void addAll(T[] elements, int fromIndex, int toIndex) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method addAll cannot be null!");
+        }
+
+        checkNoNulls(elements, fromIndex, toIndex, "addAll");
+        for (int i = fromIndex; i < toIndex; i++) {
+            append(elements[i]);
+        }
+    }
+
+    @SafeVarargs
+    @Override
+    public final void insertAll(int index, T... elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The value of argument elements in " +
+                    "method insertAll cannot be null!");
+        }
+
+        insertArray(index, elements);
+    }
+
+    @Override
+    public void insertAll(int index, Collection<? extends T> tCollection) {
+        if (tCollection == null) {
+            throw new IllegalArgumentException("The value of argument tCollection in " +
+                    "method insertAll cannot be null!");
+        }
+
+        insertArray(index, tCollection.toArray());
+    }
+
+    private void insertArray(int index, Object[] inserted) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("The value of argument index in method " +
+                    "insertAll cannot be less than 0 or more than the array size!");
+        }
+
+        checkNoNulls(inserted, 0, inserted.length, "insertAll");
+
+        if (index == size) {
+            for (Object element : inserted) {
+                append((T) element);
+            }
+            return;
+        }
+
+        Object[] elements = new Object[size + inserted.length];
+        copyInto(elements, 0, index);
+        System.arraycopy(inserted, 0, elements, index, inserted.length);
+        Object[] rest = new Object[size - index];
+        copyInto(rest, index, size);
+        System.arraycopy(rest, 0, elements, index + inserted.length, rest.length);
+
+        rebuild(elements, elements.length);
+    }
+
+    /**
+     * @return An immutable list which shares the current nodes, created in O(1)
+     */
+    @Override
+    public List<T> copy() {
+        share();
+        return new PersistentList<>(root, tail, shift, size);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toObjectArray());
+    }
+
+    /**
+     * @return A spliterator over the state of the array at the time of the call;
+     * later changes of the array are not seen by it
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        share();
+        return new LeafSpliterator<>(root, tail, shift, size, 0, size);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Immutable list view over nodes which are no longer changed in place.
+     */
+    private static final class PersistentList<T> extends AbstractList<T> implements RandomAccess {
+
+        private final Node root;
+        private final Node tail;
+        private final int shift;
+        private final int size;
+
+        private PersistentList(Node root, Node tail, int shift, int size) {
+            this.root = root;
+            this.tail = tail;
+            this.shift = shift;
+            this.size = size;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+
+            return (T) leafFor(root, tail, shift, size, index)[index & MASK];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Spliterator<T> spliterator() {
+            return new LeafSpliterator<>(root, tail, shift, size, 0, size);
+        }
+    }
+
+    /**
+     * Spliterator which walks the shared nodes one leaf at a time.
+     */
+    private static final class LeafSpliterator<T> implements Spliterator<T> {
+
+        private final Node root;
+        private final Node tail;
+        private final int shift;
+        private final int size;
+
+        private int index;
+        private final int fence;
+
+        private LeafSpliterator(Node root, Node tail, int shift, int size, int origin, int fence) {
+            this.root = root;
+            this.tail = tail;
+            this.shift = shift;
+            this.size = size;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int lo = index;
+            int mid = ((lo + fence) >>> 1) & ~MASK;
+
+            if (mid <= lo) {
+                return null;
+            }
+
+            index = mid;
+            return new LeafSpliterator<>(root, tail, shift, size, lo, mid);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            if (index >= fence) {
+                return false;
+            }
+
+            action.accept((T) leafFor(root, tail, shift, size, index)[index & MASK]);
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            while (index < fence) {
+                Object[] leaf = leafFor(root, tail, shift, size, index);
+                int end = Math.min(fence - index, WIDTH - (index & MASK)) + (index & MASK);
+                for (int i = index & MASK; i < end; i++) {
+                    action.accept((T) leaf[i]);
+                }
+                index += end - (index & MASK);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                    | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        }
+    }
+}
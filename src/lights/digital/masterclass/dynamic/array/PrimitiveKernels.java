@@ -0,0 +1,94 @@
+package lights.digital.masterclass.dynamic.array;
+
+/**
+ * Search and aggregation loops shared by the primitive dynamic arrays.
+ * Every method looks only at the first {@code size} slots of the given array.
+ * <p>
+ * {@link #INSTANCE} uses the Vector API when the {@code jdk.incubator.vector} module is present,
+ * for example when the JVM was started with {@code --add-modules jdk.incubator.vector},
+ * and plain scalar loops otherwise.
+ */
+interface PrimitiveKernels {
+
+    PrimitiveKernels INSTANCE = select();
+
+    private static PrimitiveKernels select() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return new VectorPrimitiveKernels();
+            } catch (LinkageError ignored) {
+                // The module is present but cannot be used, e.g. on a platform without vector support.
+            }
+        }
+
+        return new ScalarPrimitiveKernels();
+    }
+
+    /**
+     * @return The position of the first element equal to {@code element} or -1
+     */
+    int indexOf(int[] array, int size, int element);
+
+    int indexOf(long[] array, int size, long element);
+
+    /**
+     * Elements are compared like {@link Double#compare(double, double)}, so {@code NaN} matches {@code NaN}
+     * and {@code -0.0} does not match {@code 0.0}.
+     */
+    int indexOf(double[] array, int size, double element);
+
+    /**
+     * @return The sum of the elements, overflowing like {@link java.util.stream.IntStream#sum()}
+     */
+    int sum(int[] array, int size);
+
+    long sum(long[] array, int size);
+
+    /**
+     * The additions may happen in a different order than a sequential loop,
+     * so the result can differ from it in the last bits.
+     */
+    double sum(double[] array, int size);
+
+    /**
+     * @return The smallest element, or {@link Integer#MAX_VALUE} if {@code size} is 0
+     */
+    int min(int[] array, int size);
+
+    long min(long[] array, int size);
+
+    /**
+     * Follows {@link Math#min(double, double)}, so the result is {@code NaN} if any element is {@code NaN}.
+     */
+    double min(double[] array, int size);
+
+    /**
+     * @return The largest element, or {@link Integer#MIN_VALUE} if {@code size} is 0
+     */
+    int max(int[] array, int size);
+
+    long max(long[] array, int size);
+
+    /**
+     * Follows {@link Math#max(double, double)}, so the result is {@code NaN} if any element is {@code NaN}.
+     */
+    double max(double[] array, int size);
+
+    /**
+     * @return The number of elements which are more than {@code threshold}
+     */
+    int countGreaterThan(int[] array, int size, int threshold);
+
+    int countGreaterThan(long[] array, int size, long threshold);
+
+    int countGreaterThan(double[] array, int size, double threshold);
+
+    /**
+     * @return The ascending positions of the elements which are more than {@code threshold}
+     */
+    int[] indexesGreaterThan(int[] array, int size, int threshold);
+
+    int[] indexesGreaterThan(long[] array, int size, long threshold);
+
+    int[] indexesGreaterThan(double[] array, int size, double threshold);
+}
@@ -0,0 +1,202 @@
+package lights.digital.masterclass.dynamic.array;
+
+/**
+ * {@link PrimitiveKernels} written as plain loops, used when the Vector API is not available.
+ */
+final class ScalarPrimitiveKernels implements PrimitiveKernels {
+
+    @Override
+    public int indexOf(int[] array, int size, int element) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == element) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int indexOf(long[] array, int size, long element) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == element) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int indexOf(double[] array, int size, double element) {
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(array[i], element) == 0) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int sum(int[] array, int size) {
+        int sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += array[i];
+        }
+
+        return sum;
+    }
+
+    @Override
+    public long sum(long[] array, int size) {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += array[i];
+        }
+
+        return sum;
+    }
+
+    @Override
+    public double sum(double[] array, int size) {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += array[i];
+        }
+
+        return sum;
+    }
+
+    @Override
+    public int min(int[] array, int size) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, array[i]);
+        }
+
+        return min;
+    }
+
+    @Override
+    public long min(long[] array, int size) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, array[i]);
+        }
+
+        return min;
+    }
+
+    @Override
+    public double min(double[] array, int size) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, array[i]);
+        }
+
+        return min;
+    }
+
+    @Override
+    public int max(int[] array, int size) {
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, array[i]);
+        }
+
+        return max;
+    }
+
+    @Override
+    public long max(long[] array, int size) {
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, array[i]);
+        }
+
+        return max;
+    }
+
+    @Override
+    public double max(double[] array, int size) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, array[i]);
+        }
+
+        return max;
+    }
+
+    @Override
+    public int countGreaterThan(int[] array, int size, int threshold) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (array[i] > threshold) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public int countGreaterThan(long[] array, int size, long threshold) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (array[i] > threshold) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public int countGreaterThan(double[] array, int size, double threshold) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (array[i] > threshold) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public int[] indexesGreaterThan(int[] array, int size, int threshold) {
+        int[] indexes = new int[countGreaterThan(array, size, threshold)];
+        for (int i = 0, n = 0; n < indexes.length; i++) {
+            if (array[i] > threshold) {
+                indexes[n++] = i;
+            }
+        }
+
+        return indexes;
+    }
+
+    @Override
+    public int[] indexesGreaterThan(long[] array, int size, long threshold) {
+        int[] indexes = new int[countGreaterThan(array, size, threshold)];
+        for (int i = 0, n = 0; n < indexes.length; i++) {
+            if (array[i] > threshold) {
+                indexes[n++] = i;
+            }
+        }
+
+        return indexes;
+    }
+
+    @Override
+    public int[] indexesGreaterThan(double[] array, int size, double threshold) {
+        int[] indexes = new int[countGreaterThan(array, size, threshold)];
+        for (int i = 0, n = 0; n < indexes.length; i++) {
+            if (array[i] > threshold) {
+                indexes[n++] = i;
+            }
+        }
+
+        return indexes;
+    }
+}
@@ -0,0 +1,58 @@
+package lights.digital.masterclass.dynamic.array;
+
+/**
+ * Decides whether a dynamic array gives capacity back after elements were removed.
+ * Every array owns its policy, like its {@link GrowthPolicy}.
+ */
+@FunctionalInterface
+public interface ShrinkPolicy {
+
+    /**
+     * Compute the capacity of an array after a removal.
+     *
+     * @param currentCapacity The capacity of the array
+     * @param size            The number of elements left in the array
+     * @return The new capacity, never less than {@code size}, or {@code currentCapacity} to keep the array as it is
+     */
+    int shrink(int currentCapacity, int size);
+
+    /**
+     * @return A policy which never shrinks, used by arrays constructed without an explicit one
+     */
+    static ShrinkPolicy never() {
+        return (currentCapacity, size) -> currentCapacity;
+    }
+
+    /**
+     * A policy which halves the capacity while fewer than {@code threshold} of the slots are occupied.
+     * <p>
+     * A halved array is less than {@code 2 * threshold} full, so it has room left before it has to grow again,
+     * and an array which just grew is about half full, well above the threshold. This gap is the hysteresis
+     * which keeps push and pop cycles around either boundary from reallocating on every call. A threshold
+     * of 0.5 would leave no gap, so it has to be less than that.
+     *
+     * @param threshold   The occupancy below which the capacity is halved, for example 0.25
+     * @param minCapacity The capacity which the policy never shrinks below
+     * @throws IllegalArgumentException if {@code threshold} is not more than 0 and less than 0.5,
+     *                                  or {@code minCapacity} is negative
+     */
+    static ShrinkPolicy halving(double threshold, int minCapacity) {
+        if (!(threshold > 0 && threshold < 0.5)) {
+            throw new IllegalArgumentException("The value of argument threshold in method " +
+                    "halving must be more than 0 and less than 0.5!");
+        }
+
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("The value of argument minCapacity in method " +
+                    "halving cannot be a negative number!");
+        }
+
+        return (currentCapacity, size) -> {
+            int newCapacity = currentCapacity;
+            while (newCapacity > minCapacity && size < newCapacity * threshold) {
+                newCapacity = Math.max(newCapacity / 2, minCapacity);
+            }
+            return newCapacity;
+        };
+    }
+}
@@ -0,0 +1,363 @@
+package lights.digital.masterclass.dynamic.array;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Thread-safe dynamic array for read-mostly data.
+ * <p>
+ * Reads run under an optimistic {@link StampedLock} stamp and are validated afterwards, so a
+ * {@link #get(int)} which does not race with a writer performs no atomic read-modify-write at all.
+ * A read which overlaps a mutation is retried under the read lock. Every mutation, including
+ * growing the backing array, takes the write lock.
+ */
+public class StampedDynamicArray<T> implements DynamicArray<T> {
+
+    private final Class<T> clazz;
+    private final DynamicArrayImplementation<T> delegate;
+    private final StampedLock lock = new StampedLock();
+
+    public StampedDynamicArray(Class<T> clazz) {
+        this(clazz, 1);
+    }
+
+    public StampedDynamicArray(Class<T> clazz, int capacity) {
+        this(clazz, capacity, GrowthPolicy.defaultPolicy());
+    }
+
+    public StampedDynamicArray(Class<T> clazz, int capacity, GrowthPolicy growthPolicy) {
+        this.clazz = clazz;
+        this.delegate = new DynamicArrayImplementation<>(clazz, capacity, growthPolicy);
+    }
+
+    /**
+     * Run {@code reader} without locking and fall back to the read lock if a writer interfered.
+     * A reader which sees a half-finished mutation may throw; such an exception is discarded
+     * and the read is repeated under the lock.
+     */
+    private <R> R read(Supplier<R> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                R result = reader.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException ignored) {
+                if (lock.validate(stamp)) {
+                    throw ignored;
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private <R> R write(Supplier<R> writer) {
+        long stamp = lock.writeLock();
+        try {
+            return writer.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void write(Runnable writer) {
+        long stamp = lock.writeLock();
+        try {
+            writer.run();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return A copy of exactly {@code size()} elements taken from one consistent state
+     */
+    private T[] snapshot() {
+        return read(() -> {
+            int size = delegate.size();
+            return size == 0 ? (T[]) Array.newInstance(clazz, 0) : delegate.takeN(size);
+        });
+    }
+
+    @Override
+    public void push(T newElement) {
+        write(() -> delegate.push(newElement));
+    }
+
+    @Override
+    public T pop() {
+        return write(delegate::pop);
+    }
+
+    @Override
+    public T get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                T element = delegate.get(index);
+                if (lock.validate(stamp)) {
+                    return element;
+                }
+            } catch (IndexOutOfBoundsException ignored) {
+                if (lock.validate(stamp)) {
+                    throw ignored;
+                }
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return delegate.get(index);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = delegate.size();
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                size = delegate.size();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        write(delegate::clear);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return read(() -> delegate.contains(element));
+    }
+
+    @Override
+    public boolean containsAll(Collection<T> tCollection) {
+        return read(() -> delegate.containsAll(tCollection));
+    }
+
+    @Override
+    public int indexOf(T element) {
+        return read(() -> delegate.indexOf(element));
+    }
+
+    @Override
+    public int lastIndexOf(T element) {
+        return read(() -> delegate.lastIndexOf(element));
+    }
+
+    @Override
+    public void remove() {
+        write(() -> delegate.remove());
+    }
+
+    @Override
+    public void remove(int index) {
+        write(() -> delegate.remove(index));
+    }
+
+    @Override
+    public void ensureCapacity(int newSize) {
+        write(() -> delegate.ensureCapacity(newSize));
+    }
+
+    @Override
+    public void trimToSize() {
+        write(delegate::trimToSize);
+    }
+
+    @Override
+    public int capacity() {
+        return read(delegate::capacity);
+    }
+
+    @Override
+    public T set(int index, T value) {
+        return write(() -> delegate.set(index, value));
+    }
+
+    @Override
+    public T delete(int index) {
+        return write(() -> delegate.delete(index));
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        write(() -> delegate.removeRange(fromIndex, toIndex));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return write(() -> delegate.removeIf(filter));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> tCollection) {
+        return write(() -> delegate.retainAll(tCollection));
+    }
+
+    @Override
+    public T[] takeN(int n) {
+        return read(() -> delegate.takeN(n));
+    }
+
+    @Override
+    public T[] dropN(int n) {
+        return read(() -> delegate.dropN(n));
+    }
+
+    @SafeVarargs
+    @Override
+    public final void addAll(T... elements) {
+        write(() -> delegate.addAll(elements));
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> tCollection) {
+        write(() -> delegate.addAll(tCollection));
+    }
+
+    /**
+     * The elements of {@code other} are copied before the write lock is taken,
+     * so adding an array to itself or to another locked array cannot deadlock.
+     */
+    @Override
+    public void addAll(DynamicArray<? extends T> other) {
+        if (other == null) {
+            throw new IllegalArgumentException("The value of argument other in " +
+                    "method addAll cannot be null!");
+        }
+
+        int otherSize = other.size();
+        if (otherSize == 0) {
+            return;
+        }
+
+        T[] elements = other.takeN(otherSize);
+        write(() -> delegate.addAll(elements, 0, elements.length));
+    }
+
+    @Override
+    public void addAll(T[] elements, int fromIndex, int toIndex) {
+        write(() -> delegate.addAll(elements, fromIndex, toIndex));
+    }
+
+    @SafeVarargs
+    @Override
+    public final void insertAll(int index, T... elements) {
+        write(() -> delegate.insertAll(index, elements));
+    }
+
+    @Override
+    public void insertAll(int index, Collection<? extends T> tCollection) {
+        write(() -> delegate.insertAll(index, tCollection));
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        write(() -> delegate.sort(comparator));
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super T> comparator) {
+        write(() -> delegate.parallelSort(comparator));
+    }
+
+    @Override
+    public void parallelPrefix(BinaryOperator<T> operator) {
+        write(() -> delegate.parallelPrefix(operator));
+    }
+
+    /**
+     * Maps a snapshot of the array, so {@code mapper} never runs under the lock.
+     */
+    @Override
+    public <R> DynamicArray<R> map(Function<? super T, ? extends R> mapper, Class<R> resultClass) {
+        if (mapper == null || resultClass == null) {
+            throw new IllegalArgumentException("The values of arguments mapper and resultClass in " +
+                    "method map cannot be null!");
+        }
+
+        T[] elements = snapshot();
+        R[] mapped = BulkOperations.map(elements, elements.length, mapper, resultClass);
+        return new DynamicArrayImplementation<>(resultClass, mapped, mapped.length);
+    }
+
+    /**
+     * Filters a snapshot of the array, so {@code filter} never runs under the lock.
+     */
+    @Override
+    public DynamicArray<T> filter(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("The value of argument filter in " +
+                    "method filter cannot be null!");
+        }
+
+        T[] elements = snapshot();
+        T[] matching = BulkOperations.filter(elements, elements.length, filter, clazz);
+        return new DynamicArrayImplementation<>(clazz, matching, matching.length);
+    }
+
+    /**
+     * Runs the pipeline over a snapshot taken when its terminal operation starts, so its functions
+     * never run under the lock.
+     */
+    @Override
+    public DynamicArrayPipeline<T> lazy() {
+        return new DynamicArrayPipeline<>(this, clazz, this::snapshot, () -> 0, true);
+    }
+
+    @Override
+    public List<T> copy() {
+        return List.of(snapshot());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(snapshot());
+    }
+
+    /**
+     * @return A spliterator over a snapshot of the array, so the traversal never holds the lock
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Arrays.spliterator(snapshot());
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
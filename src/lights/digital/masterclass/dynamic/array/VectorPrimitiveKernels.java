@@ -0,0 +1,362 @@
+package lights.digital.masterclass.dynamic.array;
+
+import jdk.incubator.vector.*;
+
+/**
+ * {@link PrimitiveKernels} which process as many elements per instruction as the preferred
+ * vector shape of the CPU allows. The elements after the last full vector are handled by
+ * the scalar loops.
+ * <p>
+ * This class links against {@code jdk.incubator.vector}, so it must only be loaded
+ * when that module is present.
+ */
+final class VectorPrimitiveKernels implements PrimitiveKernels {
+
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public int indexOf(int[] array, int size, int element) {
+        int i = 0;
+        for (int bound = INT_SPECIES.loopBound(size); i < bound; i += INT_SPECIES.length()) {
+            VectorMask<Integer> matches = IntVector.fromArray(INT_SPECIES, array, i).eq(element);
+            if (matches.anyTrue()) {
+                return i + matches.firstTrue();
+            }
+        }
+
+        for (; i < size; i++) {
+            if (array[i] == element) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int indexOf(long[] array, int size, long element) {
+        int i = 0;
+        for (int bound = LONG_SPECIES.loopBound(size); i < bound; i += LONG_SPECIES.length()) {
+            VectorMask<Long> matches = LongVector.fromArray(LONG_SPECIES, array, i).eq(element);
+            if (matches.anyTrue()) {
+                return i + matches.firstTrue();
+            }
+        }
+
+        for (; i < size; i++) {
+            if (array[i] == element) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * A value other than {@code NaN} is equal to an element exactly when their bits are equal,
+     * which also keeps {@code -0.0} apart from {@code 0.0}.
+     */
+    @Override
+    public int indexOf(double[] array, int size, double element) {
+        boolean searchingForNaN = Double.isNaN(element);
+        long elementBits = Double.doubleToRawLongBits(element);
+
+        int i = 0;
+        for (int bound = DOUBLE_SPECIES.loopBound(size); i < bound; i += DOUBLE_SPECIES.length()) {
+            DoubleVector vector = DoubleVector.fromArray(DOUBLE_SPECIES, array, i);
+            int found = searchingForNaN
+                    ? vector.test(VectorOperators.IS_NAN).firstTrue()
+                    : vector.reinterpretAsLongs().eq(elementBits).firstTrue();
+            if (found < DOUBLE_SPECIES.length()) {
+                return i + found;
+            }
+        }
+
+        for (; i < size; i++) {
+            if (Double.compare(array[i], element) == 0) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int sum(int[] array, int size) {
+        IntVector sums = IntVector.zero(INT_SPECIES);
+        int i = 0;
+        for (int bound = INT_SPECIES.loopBound(size); i < bound; i += INT_SPECIES.length()) {
+            sums = sums.add(IntVector.fromArray(INT_SPECIES, array, i));
+        }
+
+        int sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            sum += array[i];
+        }
+
+        return sum;
+    }
+
+    @Override
+    public long sum(long[] array, int size) {
+        LongVector sums = LongVector.zero(LONG_SPECIES);
+        int i = 0;
+        for (int bound = LONG_SPECIES.loopBound(size); i < bound; i += LONG_SPECIES.length()) {
+            sums = sums.add(LongVector.fromArray(LONG_SPECIES, array, i));
+        }
+
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            sum += array[i];
+        }
+
+        return sum;
+    }
+
+    @Override
+    public double sum(double[] array, int size) {
+        DoubleVector sums = DoubleVector.zero(DOUBLE_SPECIES);
+        int i = 0;
+        for (int bound = DOUBLE_SPECIES.loopBound(size); i < bound; i += DOUBLE_SPECIES.length()) {
+            sums = sums.add(DoubleVector.fromArray(DOUBLE_SPECIES, array, i));
+        }
+
+        double sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            sum += array[i];
+        }
+
+        return sum;
+    }
+
+    @Override
+    public int min(int[] array, int size) {
+        IntVector mins = IntVector.broadcast(INT_SPECIES, Integer.MAX_VALUE);
+        int i = 0;
+        for (int bound = INT_SPECIES.loopBound(size); i < bound; i += INT_SPECIES.length()) {
+            mins = mins.min(IntVector.fromArray(INT_SPECIES, array, i));
+        }
+
+        int min = mins.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++) {
+            min = Math.min(min, array[i]);
+        }
+
+        return min;
+    }
+
+    @Override
+    public long min(long[] array, int size) {
+        LongVector mins = LongVector.broadcast(LONG_SPECIES, Long.MAX_VALUE);
+        int i = 0;
+        for (int bound = LONG_SPECIES.loopBound(size); i < bound; i += LONG_SPECIES.length()) {
+            mins = mins.min(LongVector.fromArray(LONG_SPECIES, array, i));
+        }
+
+        long min = mins.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++) {
+            min = Math.min(min, array[i]);
+        }
+
+        return min;
+    }
+
+    @Override
+    public double min(double[] array, int size) {
+        DoubleVector mins = DoubleVector.broadcast(DOUBLE_SPECIES, Double.POSITIVE_INFINITY);
+        int i = 0;
+        for (int bound = DOUBLE_SPECIES.loopBound(size); i < bound; i += DOUBLE_SPECIES.length()) {
+            mins = mins.min(DoubleVector.fromArray(DOUBLE_SPECIES, array, i));
+        }
+
+        double min = mins.reduceLanes(VectorOperators.MIN);
+        for (; i < size; i++) {
+            min = Math.min(min, array[i]);
+        }
+
+        return min;
+    }
+
+    @Override
+    public int max(int[] array, int size) {
+        IntVector maxes = IntVector.broadcast(INT_SPECIES, Integer.MIN_VALUE);
+        int i = 0;
+        for (int bound = INT_SPECIES.loopBound(size); i < bound; i += INT_SPECIES.length()) {
+            maxes = maxes.max(IntVector.fromArray(INT_SPECIES, array, i));
+        }
+
+        int max = maxes.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++) {
+            max = Math.max(max, array[i]);
+        }
+
+        return max;
+    }
+
+    @Override
+    public long max(long[] array, int size) {
+        LongVector maxes = LongVector.broadcast(LONG_SPECIES, Long.MIN_VALUE);
+        int i = 0;
+        for (int bound = LONG_SPECIES.loopBound(size); i < bound; i += LONG_SPECIES.length()) {
+            maxes = maxes.max(LongVector.fromArray(LONG_SPECIES, array, i));
+        }
+
+        long max = maxes.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++) {
+            max = Math.max(max, array[i]);
+        }
+
+        return max;
+    }
+
+    @Override
+    public double max(double[] array, int size) {
+        DoubleVector maxes = DoubleVector.broadcast(DOUBLE_SPECIES, Double.NEGATIVE_INFINITY);
+        int i = 0;
+        for (int bound = DOUBLE_SPECIES.loopBound(size); i < bound; i += DOUBLE_SPECIES.length()) {
+            maxes = maxes.max(DoubleVector.fromArray(DOUBLE_SPECIES, array, i));
+        }
+
+        double max = maxes.reduceLanes(VectorOperators.MAX);
+        for (; i < size; i++) {
+            max = Math.max(max, array[i]);
+        }
+
+        return max;
+    }
+
+    @Override
+    public int countGreaterThan(int[] array, int size, int threshold) {
+        int count = 0;
+        int i = 0;
+        for (int bound = INT_SPECIES.loopBound(size); i < bound; i += INT_SPECIES.length()) {
+            count += IntVector.fromArray(INT_SPECIES, array, i)
+                    .compare(VectorOperators.GT, threshold).trueCount();
+        }
+
+        for (; i < size; i++) {
+            if (array[i] > threshold) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public int countGreaterThan(long[] array, int size, long threshold) {
+        int count = 0;
+        int i = 0;
+        for (int bound = LONG_SPECIES.loopBound(size); i < bound; i += LONG_SPECIES.length()) {
+            count += LongVector.fromArray(LONG_SPECIES, array, i)
+                    .compare(VectorOperators.GT, threshold).trueCount();
+        }
+
+        for (; i < size; i++) {
+            if (array[i] > threshold) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public int countGreaterThan(double[] array, int size, double threshold) {
+        int count = 0;
+        int i = 0;
+        for (int bound = DOUBLE_SPECIES.loopBound(size); i < bound; i += DOUBLE_SPECIES.length()) {
+            count += DoubleVector.fromArray(DOUBLE_SPECIES, array, i)
+                    .compare(VectorOperators.GT, threshold).trueCount();
+        }
+
+        for (; i < size; i++) {
+            if (array[i] > threshold) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Writes the position of every set lane of {@code matches}, whose first lane is on position {@code from}.
+     *
+     * @return The number of used slots in {@code indexes}
+     */
+    private static int appendSetLanes(VectorMask<?> matches, int from, int[] indexes, int n) {
+        for (long lanes = matches.toLong(); lanes != 0; lanes &= lanes - 1) {
+            indexes[n++] = from + Long.numberOfTrailingZeros(lanes);
+        }
+
+        return n;
+    }
+
+    @Override
+    public int[] indexesGreaterThan(int[] array, int size, int threshold) {
+        int[] indexes = new int[countGreaterThan(array, size, threshold)];
+        int n = 0;
+        int i = 0;
+        for (int bound = INT_SPECIES.loopBound(size); i < bound; i += INT_SPECIES.length()) {
+            VectorMask<Integer> matches = IntVector.fromArray(INT_SPECIES, array, i)
+                    .compare(VectorOperators.GT, threshold);
+            if (matches.anyTrue()) {
+                n = appendSetLanes(matches, i, indexes, n);
+            }
+        }
+
+        for (; n < indexes.length; i++) {
+            if (array[i] > threshold) {
+                indexes[n++] = i;
+            }
+        }
+
+        return indexes;
+    }
+
+    @Override
+    public int[] indexesGreaterThan(long[] array, int size, long threshold) {
+        int[] indexes = new int[countGreaterThan(array, size, threshold)];
+        int n = 0;
+        int i = 0;
+        for (int bound = LONG_SPECIES.loopBound(size); i < bound; i += LONG_SPECIES.length()) {
+            VectorMask<Long> matches = LongVector.fromArray(LONG_SPECIES, array, i)
+                    .compare(VectorOperators.GT, threshold);
+            if (matches.anyTrue()) {
+                n = appendSetLanes(matches, i, indexes, n);
+            }
+        }
+
+        for (; n < indexes.length; i++) {
+            if (array[i] > threshold) {
+                indexes[n++] = i;
+            }
+        }
+
+        return indexes;
+    }
+
+    @Override
+    public int[] indexesGreaterThan(double[] array, int size, double threshold) {
+        int[] indexes = new int[countGreaterThan(array, size, threshold)];
+        int n = 0;
+        int i = 0;
+        for (int bound = DOUBLE_SPECIES.loopBound(size); i < bound; i += DOUBLE_SPECIES.length()) {
+            VectorMask<Double> matches = DoubleVector.fromArray(DOUBLE_SPECIES, array, i)
+                    .compare(VectorOperators.GT, threshold);
+            if (matches.anyTrue()) {
+                n = appendSetLanes(matches, i, indexes, n);
+            }
+        }
+
+        for (; n < indexes.length; i++) {
+            if (array[i] > threshold) {
+                indexes[n++] = i;
+            }
+        }
+
+        return indexes;
+    }
+}
@@ -0,0 +1,154 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrayPoolTest {
+
+    private final ArrayPool arrayPool = new ArrayPool(1024, 2);
+
+    @Nested
+    @DisplayName("Tests for methods acquire() and release()")
+    public class AcquireReleaseTest {
+
+        @Test
+        void testLengthIsRoundedUpToSizeClass() {
+            assertEquals(16, arrayPool.acquire(Integer.class, 0).length);
+            assertEquals(16, arrayPool.acquire(Integer.class, 16).length);
+            assertEquals(32, arrayPool.acquire(Integer.class, 17).length);
+            assertEquals(2000, arrayPool.acquire(Integer.class, 2000).length);
+        }
+
+        @Test
+        void testReleasedArrayIsReusedAndCleared() {
+            Integer[] array = arrayPool.acquire(Integer.class, 20);
+            array[0] = 1;
+            array[1] = 2;
+            arrayPool.release(array, 2);
+
+            Integer[] reused = arrayPool.acquire(Integer.class, 30);
+            assertSame(array, reused);
+            assertNull(reused[0]);
+            assertNull(reused[1]);
+        }
+
+        @Test
+        void testArraysOfOtherTypesAreNotReused() {
+            arrayPool.release(arrayPool.acquire(String.class, 16), 0);
+
+            assertEquals(Integer[].class, arrayPool.acquire(Integer.class, 16).getClass());
+        }
+
+        @Test
+        void testFullCacheDropsArrays() {
+            Integer[] first = arrayPool.acquire(Integer.class, 16);
+            Integer[] second = arrayPool.acquire(Integer.class, 16);
+            Integer[] third = arrayPool.acquire(Integer.class, 16);
+            arrayPool.release(first, 0);
+            arrayPool.release(second, 0);
+            arrayPool.release(third, 0);
+
+            assertSame(second, arrayPool.acquire(Integer.class, 16));
+            assertSame(first, arrayPool.acquire(Integer.class, 16));
+            assertNotSame(third, arrayPool.acquire(Integer.class, 16));
+        }
+
+        @Test
+        void testCachesArePerThread() throws Exception {
+            Integer[] array = arrayPool.acquire(Integer.class, 16);
+            arrayPool.release(array, 0);
+
+            Integer[] acquiredOnOtherThread = CompletableFuture
+                    .supplyAsync(() -> arrayPool.acquire(Integer.class, 16)).get();
+            assertNotSame(array, acquiredOnOtherThread);
+            assertSame(array, arrayPool.acquire(Integer.class, 16));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for pooled dynamic arrays")
+    public class PooledDynamicArrayTest {
+
+        @Test
+        void testGrowthReturnsOldArraysToThePool() {
+            DynamicArrayImplementation<Integer> dynamicArray =
+                    new DynamicArrayImplementation<>(Integer.class, 1, GrowthPolicy.defaultPolicy(), arrayPool);
+            assertEquals(16, dynamicArray.capacity());
+
+            for (int i = 0; i < 20; i++) {
+                dynamicArray.push(i);
+            }
+            assertEquals(32, dynamicArray.capacity());
+
+            Integer[] reused = arrayPool.acquire(Integer.class, 16);
+            assertEquals(16, reused.length);
+            assertNull(reused[0]);
+        }
+
+        @Test
+        void testReleaseWithTryWithResources() {
+            try (DynamicArrayImplementation<Integer> dynamicArray =
+                         new DynamicArrayImplementation<>(Integer.class, 1, GrowthPolicy.defaultPolicy(), arrayPool)) {
+                dynamicArray.addAll(1, 2, 3);
+                assertEquals(List.of(1, 2, 3), dynamicArray.copy());
+            }
+
+            try (DynamicArrayImplementation<Integer> dynamicArray =
+                         new DynamicArrayImplementation<>(Integer.class, 1, GrowthPolicy.defaultPolicy(), arrayPool)) {
+                assertTrue(dynamicArray.isEmpty());
+                assertNull(dynamicArray.takeN(16)[0]);
+            }
+        }
+
+        @Test
+        void testArrayIsUsableAfterRelease() {
+            DynamicArrayImplementation<Integer> dynamicArray =
+                    new DynamicArrayImplementation<>(Integer.class, 1, GrowthPolicy.defaultPolicy(), arrayPool);
+            dynamicArray.addAll(1, 2, 3);
+            dynamicArray.release();
+
+            assertEquals(0, dynamicArray.capacity());
+            assertEquals(0, dynamicArray.size());
+
+            dynamicArray.push(4);
+            assertEquals(List.of(4), dynamicArray.copy());
+            assertEquals(16, dynamicArray.capacity());
+        }
+
+        @Test
+        void testTrimToSizeUsesSizeClass() {
+            DynamicArrayImplementation<Integer> dynamicArray =
+                    new DynamicArrayImplementation<>(Integer.class, 100, GrowthPolicy.defaultPolicy(), arrayPool);
+            dynamicArray.addAll(1, 2, 3);
+            dynamicArray.trimToSize();
+
+            assertEquals(16, dynamicArray.capacity());
+            assertEquals(List.of(1, 2, 3), dynamicArray.copy());
+        }
+
+        @Test
+        void testTrimToSizeKeepsArrayOfTheSameSizeClass() {
+            DynamicArrayImplementation<Integer> dynamicArray =
+                    new DynamicArrayImplementation<>(Integer.class, 100, GrowthPolicy.defaultPolicy(), arrayPool);
+            dynamicArray.addAll(1, 2, 3);
+            dynamicArray.trimToSize();
+
+            dynamicArray.enableMetrics();
+            dynamicArray.trimToSize();
+            dynamicArray.trimToSize();
+
+            assertEquals(0, dynamicArray.stats().resizes());
+            assertEquals(16, dynamicArray.capacity());
+        }
+
+        @Test
+        void testConstructorWithNullPool() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new DynamicArrayImplementation<>(Integer.class, 1, GrowthPolicy.defaultPolicy(), (ArrayPool) null));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkedDynamicArrayTest {
+
+    private final DynamicArray<Integer> dynamicArray = new ChunkedDynamicArray<>(Integer.class, 2);
+
+    @BeforeEach
+    void setUp() {
+        dynamicArray.addAll(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Nested
+    @DisplayName("Tests for methods push(), get() and pop()")
+    public class PushPopTest {
+
+        @Test
+        void testPushGrowsByWholeChunks() {
+            assertEquals(12, dynamicArray.capacity());
+
+            dynamicArray.push(11);
+            dynamicArray.push(12);
+            dynamicArray.push(13);
+
+            assertEquals(16, dynamicArray.capacity());
+            assertEquals(13, dynamicArray.get(12));
+        }
+
+        @Test
+        void testPopAcrossChunkBoundary() {
+            for (int i = 10; i >= 1; i--) {
+                assertEquals(i, dynamicArray.pop());
+            }
+
+            assertNull(dynamicArray.pop());
+        }
+
+        @Test
+        void testGetWithIndexEqualToSize() {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.get(10));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for methods which shift elements")
+    public class ShiftTest {
+
+        @Test
+        void testDeleteAcrossChunks() {
+            assertEquals(2, dynamicArray.delete(1));
+
+            assertEquals(List.of(1, 3, 4, 5, 6, 7, 8, 9, 10), dynamicArray.copy());
+        }
+
+        @Test
+        void testRemoveRangeAcrossChunks() {
+            dynamicArray.removeRange(2, 7);
+
+            assertEquals(List.of(1, 2, 8, 9, 10), dynamicArray.copy());
+        }
+
+        @Test
+        void testInsertAllAcrossChunks() {
+            dynamicArray.insertAll(3, 20, 21, 22, 23, 24);
+
+            assertEquals(List.of(1, 2, 3, 20, 21, 22, 23, 24, 4, 5, 6, 7, 8, 9, 10), dynamicArray.copy());
+        }
+
+        @Test
+        void testRemoveIfWithEvenNumbers() {
+            assertTrue(dynamicArray.removeIf(el -> el % 2 == 0));
+
+            assertEquals(List.of(1, 3, 5, 7, 9), dynamicArray.copy());
+        }
+
+        @Test
+        void testRandomOperationsAgainstArrayList() {
+            Random random = new Random(3);
+            List<Integer> model = new ArrayList<>(dynamicArray.copy());
+
+            for (int step = 0; step < 5000; step++) {
+                int operation = random.nextInt(5);
+                int value = random.nextInt(100);
+                if (operation == 0 || model.isEmpty()) {
+                    dynamicArray.push(value);
+                    model.add(value);
+                } else if (operation == 1) {
+                    int index = random.nextInt(model.size());
+                    assertEquals(model.remove(index), dynamicArray.delete(index));
+                } else if (operation == 2) {
+                    int index = random.nextInt(model.size() + 1);
+                    dynamicArray.insertAll(index, value, value + 1);
+                    model.addAll(index, List.of(value, value + 1));
+                } else if (operation == 3) {
+                    int from = random.nextInt(model.size());
+                    int to = from + random.nextInt(Math.min(3, model.size() - from) + 1);
+                    dynamicArray.removeRange(from, to);
+                    model.subList(from, to).clear();
+                } else {
+                    int index = random.nextInt(model.size());
+                    assertEquals(model.set(index, value), dynamicArray.set(index, value));
+                }
+            }
+
+            assertEquals(model, dynamicArray.copy());
+            assertEquals(model, dynamicArray.stream().toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method trimToSize()")
+    public class TrimTest {
+
+        @Test
+        void testTrimReleasesEmptyChunks() {
+            dynamicArray.ensureCapacity(40);
+            assertEquals(40, dynamicArray.capacity());
+
+            dynamicArray.trimToSize();
+            assertEquals(12, dynamicArray.capacity());
+            assertEquals(10, dynamicArray.get(9));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method stream()")
+    public class StreamTest {
+
+        @Test
+        void testParallelStream() {
+            assertEquals(55, dynamicArray.stream().parallel().mapToInt(Integer::intValue).sum());
+        }
+
+        @Test
+        void testStreamWithModificationDuringTraversal() {
+            assertThrows(ConcurrentModificationException.class,
+                    () -> dynamicArray.stream().forEach(dynamicArray::push));
+        }
+    }
+}
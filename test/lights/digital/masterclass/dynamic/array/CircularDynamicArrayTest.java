@@ -0,0 +1,260 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircularDynamicArrayTest {
+
+    private final DynamicDeque<Integer> dynamicArray = new CircularDynamicArray<>(Integer.class, 4);
+
+    @BeforeEach
+    void setUp() {
+        dynamicArray.addAll(1, 2, 3);
+    }
+
+    @Nested
+    @DisplayName("Tests for methods pushFirst(), popFirst(), peekFirst() and peekLast()")
+    public class FrontTest {
+
+        @Test
+        void testPushFirstAndPeek() {
+            dynamicArray.pushFirst(0);
+
+            assertEquals(0, dynamicArray.peekFirst());
+            assertEquals(3, dynamicArray.peekLast());
+            assertEquals(List.of(0, 1, 2, 3), dynamicArray.copy());
+            assertEquals(4, dynamicArray.capacity());
+        }
+
+        @Test
+        void testPushFirstWithNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> dynamicArray.pushFirst(null));
+        }
+
+        @Test
+        void testPopFirstIsFifoOrder() {
+            assertEquals(1, dynamicArray.popFirst());
+            assertEquals(2, dynamicArray.popFirst());
+            assertEquals(3, dynamicArray.popFirst());
+            assertNull(dynamicArray.popFirst());
+            assertNull(dynamicArray.peekFirst());
+            assertNull(dynamicArray.peekLast());
+        }
+
+        @Test
+        void testWrapAroundWithoutGrowing() {
+            for (int i = 4; i < 100; i++) {
+                dynamicArray.push(i);
+                assertEquals(i - 3, dynamicArray.popFirst());
+            }
+
+            assertEquals(4, dynamicArray.capacity());
+            assertEquals(List.of(97, 98, 99), dynamicArray.copy());
+        }
+
+        @Test
+        void testGrowUnwrapsTheRing() {
+            dynamicArray.popFirst();
+            dynamicArray.push(4);
+            dynamicArray.push(5);
+            dynamicArray.push(6);
+
+            assertEquals(8, dynamicArray.capacity());
+            assertEquals(List.of(2, 3, 4, 5, 6), dynamicArray.copy());
+            assertEquals(2, dynamicArray.get(0));
+            assertEquals(6, dynamicArray.get(4));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for methods which shift elements")
+    public class ShiftTest {
+
+        @BeforeEach
+        void wrap() {
+            dynamicArray.popFirst();
+            dynamicArray.popFirst();
+            dynamicArray.addAll(4, 5);
+        }
+
+        @Test
+        void testDeleteNearTheFront() {
+            assertEquals(4, dynamicArray.delete(1));
+
+            assertEquals(List.of(3, 5), dynamicArray.copy());
+        }
+
+        @Test
+        void testDeleteNearTheBack() {
+            assertEquals(5, dynamicArray.delete(2));
+
+            assertEquals(List.of(3, 4), dynamicArray.copy());
+        }
+
+        @Test
+        void testInsertAllAcrossTheWrap() {
+            dynamicArray.insertAll(1, 10, 11);
+
+            assertEquals(List.of(3, 10, 11, 4, 5), dynamicArray.copy());
+        }
+
+        @Test
+        void testGetWithIndexEqualToSize() {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.get(3));
+        }
+
+        @Test
+        void testRandomOperationsAgainstArrayList() {
+            Random random = new Random(11);
+            List<Integer> model = new ArrayList<>(dynamicArray.copy());
+
+            for (int step = 0; step < 5000; step++) {
+                int operation = random.nextInt(8);
+                int value = random.nextInt(100);
+                if (operation == 0 || model.isEmpty()) {
+                    dynamicArray.push(value);
+                    model.add(value);
+                } else if (operation == 1) {
+                    dynamicArray.pushFirst(value);
+                    model.add(0, value);
+                } else if (operation == 2) {
+                    assertEquals(model.remove(0), dynamicArray.popFirst());
+                } else if (operation == 3) {
+                    int index = random.nextInt(model.size());
+                    assertEquals(model.remove(index), dynamicArray.delete(index));
+                } else if (operation == 4) {
+                    int index = random.nextInt(model.size() + 1);
+                    dynamicArray.insertAll(index, value, value + 1);
+                    model.addAll(index, List.of(value, value + 1));
+                } else if (operation == 5) {
+                    int from = random.nextInt(model.size());
+                    int to = from + random.nextInt(Math.min(3, model.size() - from) + 1);
+                    dynamicArray.removeRange(from, to);
+                    model.subList(from, to).clear();
+                } else if (operation == 6) {
+                    dynamicArray.removeIf(el -> el == value);
+                    model.removeIf(el -> el == value);
+                } else {
+                    int index = random.nextInt(model.size());
+                    assertEquals(model.set(index, value), dynamicArray.set(index, value));
+                }
+            }
+
+            assertEquals(model, dynamicArray.copy());
+            assertEquals(model, dynamicArray.stream().toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method drainFirstTo()")
+    public class DrainFirstToTest {
+
+        @Test
+        void testDrainWrappedRing() {
+            CircularDynamicArray<Integer> ring = (CircularDynamicArray<Integer>) dynamicArray;
+            ring.pushFirst(0);
+            ring.popFirst();
+            ring.popFirst();
+            ring.push(4);
+            ring.push(5);
+
+            DynamicArray<Integer> target = new DynamicArrayImplementation<>(Integer.class);
+            assertEquals(3, ring.drainFirstTo(target, 3));
+
+            assertEquals(List.of(2, 3, 4), target.copy());
+            assertEquals(List.of(5), ring.copy());
+            assertEquals(1, ring.drainFirstTo(target, 10));
+            assertTrue(ring.isEmpty());
+        }
+
+        @Test
+        void testFailedWrappedBlockKeepsTheFirstBlockMoved() {
+            CircularDynamicArray<Integer> ring = (CircularDynamicArray<Integer>) dynamicArray;
+            ring.pushFirst(0);
+            ring.popFirst();
+            ring.popFirst();
+            ring.push(4);
+            ring.push(5);
+
+            DynamicArray<Integer> target = new DynamicArrayImplementation<>(Integer.class) {
+                @Override
+                public void addAll(Integer[] elements, int fromIndex, int toIndex) {
+                    if (!isEmpty()) {
+                        throw new IllegalStateException();
+                    }
+                    super.addAll(elements, fromIndex, toIndex);
+                }
+            };
+
+            assertThrows(IllegalStateException.class,
+                    () -> ring.drainFirstTo(target, 4));
+            assertEquals(List.of(2, 3, 4), target.copy());
+            assertEquals(List.of(5), ring.copy());
+        }
+
+        @Test
+        void testDrainToItself() {
+            CircularDynamicArray<Integer> ring = (CircularDynamicArray<Integer>) dynamicArray;
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> ring.drainFirstTo(ring, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method trimToSize()")
+    public class TrimTest {
+
+        @Test
+        void testTrimUnwrapsToExactSize() {
+            dynamicArray.popFirst();
+            dynamicArray.addAll(4, 5);
+            dynamicArray.trimToSize();
+
+            assertEquals(4, dynamicArray.capacity());
+            assertEquals(List.of(2, 3, 4, 5), dynamicArray.copy());
+
+            dynamicArray.pushFirst(1);
+            assertEquals(List.of(1, 2, 3, 4, 5), dynamicArray.copy());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method stream()")
+    public class StreamTest {
+
+        @Test
+        void testParallelStreamAcrossTheWrap() {
+            dynamicArray.popFirst();
+            dynamicArray.push(4);
+
+            assertEquals(9, dynamicArray.stream().parallel().mapToInt(Integer::intValue).sum());
+        }
+
+        @Test
+        void testStreamWithModificationDuringTraversal() {
+            assertThrows(ConcurrentModificationException.class,
+                    () -> dynamicArray.stream().forEach(dynamicArray::pushFirst));
+        }
+
+        @Test
+        void testForEachRemainingReadsTheRingItStarted() {
+            List<Integer> seen = new ArrayList<>();
+
+            assertThrows(ConcurrentModificationException.class,
+                    () -> dynamicArray.spliterator().forEachRemaining(element -> {
+                        seen.add(element);
+                        dynamicArray.push(dynamicArray.popFirst());
+                    }));
+            assertEquals(List.of(1, 2, 3), seen);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarDynamicArrayTest {
+
+    record Trade(int id, long timestamp, double price, String symbol, boolean buy) {
+    }
+
+    private final ColumnarDynamicArray<Trade> trades = new ColumnarDynamicArray<>(Trade.class);
+
+    private int id;
+    private int timestamp;
+    private int price;
+    private int symbol;
+    private int buy;
+
+    @BeforeEach
+    void setUp() {
+        trades.push(new Trade(1, 100L, 10.5, "ABC", true));
+        trades.push(new Trade(2, 200L, 20.0, "XYZ", false));
+        trades.push(new Trade(3, 300L, 30.25, null, true));
+
+        id = trades.columnIndex("id");
+        timestamp = trades.columnIndex("timestamp");
+        price = trades.columnIndex("price");
+        symbol = trades.columnIndex("symbol");
+        buy = trades.columnIndex("buy");
+    }
+
+    @Nested
+    @DisplayName("Tests for the constructors")
+    public class ConstructorTest {
+
+        @Test
+        void testConstructorWithClassWhichIsNotRecord() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new ColumnarDynamicArray(String.class));
+        }
+
+        @Test
+        void testConstructorWithNegativeCapacity() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new ColumnarDynamicArray<>(Trade.class, -1));
+        }
+
+        @Test
+        void testConstructorWithNullGrowthPolicy() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new ColumnarDynamicArray<>(Trade.class, 4, null));
+        }
+
+        @Test
+        void testColumnNames() {
+            assertEquals(List.of("id", "timestamp", "price", "symbol", "buy"), trades.columnNames());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for the row methods")
+    public class RowMethodsTest {
+
+        @Test
+        void testPushWithMoreThanCapacity() {
+            ColumnarDynamicArray<Trade> local = new ColumnarDynamicArray<>(Trade.class);
+            for (int i = 0; i < 100; i++) {
+                local.push(new Trade(i, i * 10L, i / 2.0, "S" + i, i % 2 == 0));
+            }
+
+            assertEquals(100, local.size());
+            assertTrue(local.capacity() >= 100);
+            assertEquals(new Trade(99, 990L, 49.5, "S99", false), local.get(99));
+        }
+
+        @Test
+        void testPushWithNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> trades.push(null));
+        }
+
+        @Test
+        void testGetWithInvalidIndex() {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> trades.get(3));
+        }
+
+        @Test
+        void testPop() {
+            assertEquals(new Trade(3, 300L, 30.25, null, true), trades.pop());
+            assertEquals(2, trades.size());
+        }
+
+        @Test
+        void testPopWithEmptyArray() {
+            assertNull(new ColumnarDynamicArray<>(Trade.class).pop());
+        }
+
+        @Test
+        void testSet() {
+            Trade old = trades.set(1, new Trade(7, 700L, 70.0, "NEW", true));
+
+            assertEquals(new Trade(2, 200L, 20.0, "XYZ", false), old);
+            assertEquals(new Trade(7, 700L, 70.0, "NEW", true), trades.get(1));
+        }
+
+        @Test
+        void testDelete() {
+            assertEquals(new Trade(1, 100L, 10.5, "ABC", true), trades.delete(0));
+
+            assertEquals(2, trades.size());
+            assertEquals(List.of(2, 3), trades.intColumn(id).boxed().collect(Collectors.toList()));
+            assertEquals(new Trade(3, 300L, 30.25, null, true), trades.get(1));
+        }
+
+        @Test
+        void testClear() {
+            trades.clear();
+
+            assertTrue(trades.isEmpty());
+            assertEquals(0, trades.longColumn(timestamp).count());
+        }
+
+        @Test
+        void testTrimToSizeAndEnsureCapacity() {
+            trades.trimToSize();
+            assertEquals(3, trades.capacity());
+
+            trades.ensureCapacity(10);
+            assertEquals(10, trades.capacity());
+            assertEquals(3, trades.size());
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> trades.ensureCapacity(5));
+        }
+
+        @Test
+        void testStreamAndCopy() {
+            List<Trade> expected = List.of(
+                    new Trade(1, 100L, 10.5, "ABC", true),
+                    new Trade(2, 200L, 20.0, "XYZ", false),
+                    new Trade(3, 300L, 30.25, null, true));
+
+            assertEquals(expected, trades.stream().collect(Collectors.toList()));
+            assertEquals(expected, trades.copy());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for the column methods")
+    public class ColumnMethodsTest {
+
+        @Test
+        void testPrimitiveColumns() {
+            assertEquals(6, trades.intColumn(id).sum());
+            assertEquals(600L, trades.longColumn(timestamp).sum());
+            assertEquals(60.75, trades.doubleColumn(price).sum());
+        }
+
+        @Test
+        void testObjectColumns() {
+            assertEquals(List.of("ABC", "XYZ"), trades.objectColumn(symbol, String.class)
+                    .filter(s -> s != null)
+                    .collect(Collectors.toList()));
+            assertEquals(2, trades.objectColumn(buy, Boolean.class).filter(b -> b).count());
+        }
+
+        @Test
+        void testColumnOfOtherType() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> trades.intColumn(timestamp));
+            assertThrows(IllegalArgumentException.class,
+                    () -> trades.objectColumn(symbol, Integer.class));
+        }
+
+        @Test
+        void testUnknownColumn() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> trades.columnIndex("volume"));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> trades.doubleColumn(5));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for the row flyweight")
+    public class RowTest {
+
+        @Test
+        void testForEachRowReusesFlyweight() {
+            List<ColumnarDynamicArray<Trade>.Row> seen = new ArrayList<>();
+            List<Long> timestamps = new ArrayList<>();
+
+            trades.forEachRow(row -> {
+                seen.add(row);
+                timestamps.add(row.getLong(timestamp));
+            });
+
+            assertEquals(List.of(100L, 200L, 300L), timestamps);
+            assertSame(seen.get(0), seen.get(2));
+        }
+
+        @Test
+        void testReadAndWriteInPlace() {
+            ColumnarDynamicArray<Trade>.Row row = trades.row().moveTo(1);
+
+            row.setDouble(price, 25.0);
+            row.setInt(id, 20);
+
+            assertEquals(1, row.index());
+            assertEquals("XYZ", row.get(symbol));
+            assertEquals(new Trade(20, 200L, 25.0, "XYZ", false), row.toRecord());
+            assertEquals(new Trade(20, 200L, 25.0, "XYZ", false), trades.get(1));
+        }
+
+        @Test
+        void testRowAfterRemoval() {
+            ColumnarDynamicArray<Trade>.Row row = trades.row().moveTo(2);
+            trades.pop();
+
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> row.getInt(id));
+        }
+
+        @Test
+        void testUnpositionedRow() {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> trades.row().getInt(id));
+        }
+
+        @Test
+        void testForEachRowWithNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> trades.forEachRow(null));
+        }
+    }
+}
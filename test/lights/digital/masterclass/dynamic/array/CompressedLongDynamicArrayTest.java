@@ -0,0 +1,240 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedLongDynamicArrayTest {
+
+    private static final int BLOCK_SIZE = CompressedLongDynamicArray.BLOCK_SIZE;
+
+    private final CompressedLongDynamicArray dynamicArray = new CompressedLongDynamicArray();
+
+    /**
+     * Monotonic timestamps with a jittered step, which are encoded with deltas.
+     */
+    private static long[] timestamps(int size) {
+        Random random = new Random(7);
+        long[] values = new long[size];
+        long timestamp = 1_700_000_000_000L;
+        for (int i = 0; i < size; i++) {
+            timestamp += 1_000 + random.nextInt(50);
+            values[i] = timestamp;
+        }
+        return values;
+    }
+
+    private static void assertContent(long[] expected, CompressedLongDynamicArray actual) {
+        assertEquals(expected.length, actual.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual.get(i), "Value on position " + i);
+        }
+        assertArrayEquals(expected, actual.stream().toArray());
+    }
+
+    @Nested
+    @DisplayName("Tests for methods push() and get()")
+    public class PushGetTest {
+
+        @Test
+        void testMonotonicValues() {
+            long[] values = timestamps(1000);
+            dynamicArray.addAll(values);
+
+            assertContent(values, dynamicArray);
+        }
+
+        @Test
+        void testSmallRangeValues() {
+            Random random = new Random(11);
+            long[] values = new long[1000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = 5_000_000 + random.nextInt(300);
+            }
+            dynamicArray.addAll(values);
+
+            assertContent(values, dynamicArray);
+        }
+
+        @Test
+        void testConstantAndArithmeticBlocks() {
+            long[] values = new long[2 * BLOCK_SIZE];
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                values[i] = 42L;
+                values[BLOCK_SIZE + i] = -3L * i;
+            }
+            dynamicArray.addAll(values);
+
+            assertContent(values, dynamicArray);
+        }
+
+        @Test
+        void testFullRangeValues() {
+            Random random = new Random(13);
+            long[] values = new long[3 * BLOCK_SIZE + 5];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextLong();
+            }
+            values[0] = Long.MIN_VALUE;
+            values[1] = Long.MAX_VALUE;
+            dynamicArray.addAll(values);
+
+            assertContent(values, dynamicArray);
+        }
+
+        @Test
+        void testEveryWidth() {
+            Random random = new Random(17);
+            long[] values = new long[65 * BLOCK_SIZE];
+            for (int width = 0; width <= 64; width++) {
+                for (int i = 0; i < BLOCK_SIZE; i++) {
+                    long value = random.nextLong();
+                    values[width * BLOCK_SIZE + i] = width == 64 ? value : value & ((1L << width) - 1);
+                }
+            }
+            dynamicArray.addAll(values);
+
+            assertContent(values, dynamicArray);
+        }
+
+        @Test
+        void testGetWithInvalidIndex() {
+            dynamicArray.addAll(1L, 2L, 3L);
+
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.get(3));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.get(-1));
+        }
+
+        @Test
+        void testAddAllWithNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> dynamicArray.addAll((long[]) null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for methods pop() and clear()")
+    public class PopClearTest {
+
+        @Test
+        void testPopAcrossBlocks() {
+            long[] values = timestamps(2 * BLOCK_SIZE + 3);
+            dynamicArray.addAll(values);
+
+            for (int i = values.length - 1; i >= 0; i--) {
+                assertEquals(values[i], dynamicArray.pop());
+            }
+            assertTrue(dynamicArray.isEmpty());
+        }
+
+        @Test
+        void testPushAfterPopOfBlock() {
+            long[] values = timestamps(BLOCK_SIZE);
+            dynamicArray.addAll(values);
+            dynamicArray.pop();
+            dynamicArray.push(-1L);
+
+            values[BLOCK_SIZE - 1] = -1L;
+            assertContent(values, dynamicArray);
+        }
+
+        @Test
+        void testPopWithEmptyArray() {
+            assertThrows(NoSuchElementException.class,
+                    dynamicArray::pop);
+        }
+
+        @Test
+        void testClear() {
+            dynamicArray.addAll(timestamps(500));
+            dynamicArray.clear();
+
+            assertTrue(dynamicArray.isEmpty());
+
+            long[] values = timestamps(300);
+            dynamicArray.addAll(values);
+            assertContent(values, dynamicArray);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for the aggregation and streaming methods")
+    public class AggregationTest {
+
+        @Test
+        void testSumMinMax() {
+            long[] values = timestamps(1000);
+            dynamicArray.addAll(values);
+
+            assertEquals(LongStream.of(values).sum(), dynamicArray.sum());
+            assertEquals(values[0], dynamicArray.min());
+            assertEquals(values[999], dynamicArray.max());
+        }
+
+        @Test
+        void testMinWithEmptyArray() {
+            assertThrows(NoSuchElementException.class,
+                    dynamicArray::min);
+        }
+
+        @Test
+        void testTakeN() {
+            long[] values = timestamps(300);
+            dynamicArray.addAll(values);
+
+            assertArrayEquals(LongStream.of(values).limit(200).toArray(), dynamicArray.takeN(200));
+            assertEquals(300, dynamicArray.takeN(500).length);
+        }
+
+        @Test
+        void testParallelStream() {
+            long[] values = timestamps(10_000);
+            dynamicArray.addAll(values);
+
+            assertEquals(LongStream.of(values).sum(),
+                    StreamSupport.longStream(dynamicArray.spliterator(), true).sum());
+        }
+
+        @Test
+        void testSplitsAtBlockBoundaries() {
+            dynamicArray.addAll(timestamps(10 * BLOCK_SIZE + 7));
+
+            Spliterator.OfLong prefix = dynamicArray.spliterator().trySplit();
+            assertEquals(0, prefix.estimateSize() % BLOCK_SIZE);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for the memory footprint")
+    public class FootprintTest {
+
+        @Test
+        void testMonotonicValuesTakeLessThanTwoBytes() {
+            dynamicArray.addAll(timestamps(100_000));
+            dynamicArray.trimToSize();
+
+            assertTrue(dynamicArray.sizeInBytes() < 2L * dynamicArray.size(),
+                    "Footprint " + dynamicArray.sizeInBytes());
+        }
+
+        @Test
+        void testRandomValuesAreNotExpanded() {
+            Random random = new Random(19);
+            for (int i = 0; i < 10_000; i++) {
+                dynamicArray.push(random.nextLong());
+            }
+            dynamicArray.trimToSize();
+
+            assertTrue(dynamicArray.sizeInBytes() < 9L * dynamicArray.size() + 2048,
+                    "Footprint " + dynamicArray.sizeInBytes());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentDynamicArrayTest {
+
+    private final DynamicArray<Integer> dynamicArray = new ConcurrentDynamicArray<>(Integer.class);
+
+    @BeforeEach
+    void setUp() {
+        dynamicArray.push(1);
+        dynamicArray.push(2);
+        dynamicArray.push(3);
+    }
+
+    @Nested
+    @DisplayName("Tests for method push()")
+    public class PushTest {
+
+        @Test
+        void testPushWithNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> dynamicArray.push(null),
+                    "The method push should throw an IllegalArgumentException " +
+                            "if the value of newElement is null!");
+        }
+
+        @Test
+        void testPushWithMoreThanFirstChunk() {
+            for (int i = 4; i <= 100; i++) {
+                dynamicArray.push(i);
+            }
+
+            assertEquals(100, dynamicArray.size());
+            assertEquals(17, dynamicArray.get(16));
+            assertEquals(100, dynamicArray.get(99));
+            assertEquals(16 + 32 + 64, dynamicArray.capacity());
+        }
+
+        @Test
+        void testPushFromManyThreads() throws Exception {
+            int threads = 8;
+            int elementsPerThread = 20000;
+            DynamicArray<Integer> localDynamicArrayTest = new ConcurrentDynamicArray<>(Integer.class);
+
+            ExecutorService executorService = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                Future<?>[] futures = new Future<?>[threads];
+                for (int t = 0; t < threads; t++) {
+                    int first = t * elementsPerThread;
+                    futures[t] = executorService.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < elementsPerThread; i++) {
+                            localDynamicArrayTest.push(first + i);
+                        }
+                        return null;
+                    });
+                }
+
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executorService.shutdownNow();
+            }
+
+            assertEquals(threads * elementsPerThread, localDynamicArrayTest.size());
+
+            Set<Integer> distinctElements = new HashSet<>(localDynamicArrayTest.copy());
+            assertEquals(threads * elementsPerThread, distinctElements.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method get()")
+    public class GetTest {
+
+        @Test
+        void testGetWithIndexEqualToSize() {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.get(3));
+        }
+
+        @Test
+        void testGetWithValidIndexValue() {
+            assertEquals(1, dynamicArray.get(0));
+            assertEquals(3, dynamicArray.get(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method addAll()")
+    public class AddAllTest {
+
+        @Test
+        void testAddAllAcrossChunks() {
+            Integer[] elements = new Integer[50];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = i + 4;
+            }
+
+            dynamicArray.addAll(elements);
+
+            assertEquals(53, dynamicArray.size());
+            assertEquals(53, dynamicArray.get(52));
+        }
+
+        @Test
+        void testAddAllWithCollectionContainingNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> dynamicArray.addAll(Arrays.asList(4, null)));
+            assertEquals(3, dynamicArray.size());
+        }
+
+        @Test
+        void testAddAllWithWronglyTypedElementClaimsNothing() {
+            List raw = Arrays.asList(4, "five");
+
+            assertThrows(ClassCastException.class,
+                    () -> dynamicArray.addAll((List<Integer>) raw));
+            dynamicArray.push(4);
+
+            assertEquals(4, dynamicArray.size());
+            assertEquals(4, dynamicArray.get(3));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for append-only restrictions")
+    public class AppendOnlyTest {
+
+        @Test
+        void testPopIsNotSupported() {
+            assertThrows(UnsupportedOperationException.class, dynamicArray::pop);
+        }
+
+        @Test
+        void testDeleteIsNotSupported() {
+            assertThrows(UnsupportedOperationException.class, () -> dynamicArray.delete(0));
+        }
+
+        @Test
+        void testSetReplacesPublishedElement() {
+            assertEquals(2, dynamicArray.set(1, 7));
+            assertEquals(7, dynamicArray.get(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method stream()")
+    public class StreamTest {
+
+        @Test
+        void testStreamAcrossChunks() {
+            for (int i = 4; i <= 1000; i++) {
+                dynamicArray.push(i);
+            }
+
+            assertEquals(500500, dynamicArray.stream().mapToInt(Integer::intValue).sum());
+            assertEquals(500500, dynamicArray.stream().parallel().mapToInt(Integer::intValue).sum());
+            assertEquals(List.of(1, 2, 3), List.of(dynamicArray.takeN(3)));
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleDynamicArrayTest {
+
+    private final DoubleDynamicArray dynamicArray = new DoubleDynamicArrayImplementation();
+
+    @BeforeEach
+    void setUp() {
+        dynamicArray.push(1);
+        dynamicArray.push(2);
+        dynamicArray.push(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dynamicArray.clear();
+    }
+
+    @Nested
+    @DisplayName("Tests for method push()")
+    public class PushTest {
+
+        @Test
+        void testPushWithMoreThanCapacity() {
+            DoubleDynamicArray localDynamicArrayTest = new DoubleDynamicArrayImplementation();
+
+            for (int i = 0; i < 100; i++) {
+                localDynamicArrayTest.push(i);
+            }
+
+            assertEquals(100, localDynamicArrayTest.size());
+            assertEquals(99, localDynamicArrayTest.get(99));
+            assertTrue(localDynamicArrayTest.capacity() >= 100);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method pop()")
+    public class PopTest {
+
+        @Test
+        void testPopWithEmptyArray() {
+            DoubleDynamicArray localDynamicArrayTest = new DoubleDynamicArrayImplementation();
+
+            assertThrows(NoSuchElementException.class,
+                    localDynamicArrayTest::pop,
+                    "The method pop should throw a NoSuchElementException for an empty array!");
+        }
+
+        @Test
+        void testPopWithNonEmptyArray() {
+            assertEquals(3, dynamicArray.pop());
+            assertEquals(2, dynamicArray.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method get()")
+    public class GetTest {
+
+        @Test
+        void testGetWithIndexEqualToSize() {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.get(3),
+                    "The method get should throw an IndexOutOfBoundsException for " +
+                            "index equal to the array size!");
+        }
+
+        @Test
+        void testGetWithValidIndexValue() {
+            assertEquals(1, dynamicArray.get(0));
+            assertEquals(3, dynamicArray.get(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method delete()")
+    public class DeleteTest {
+
+        @Test
+        void testDeleteWithNonEmptyArray() {
+            assertEquals(2, dynamicArray.delete(1));
+
+            assertArrayEquals(new double[]{1, 3}, dynamicArray.takeN(dynamicArray.size()));
+        }
+
+        @Test
+        void testDeleteWithLastIndex() {
+            assertEquals(3, dynamicArray.delete(2));
+            assertEquals(2, dynamicArray.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method set()")
+    public class SetTest {
+
+        @Test
+        void testSetWithIndexMoreThanArraySize() {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.set(3, 12));
+        }
+
+        @Test
+        void testSetWithIndexZeroAndNewValueFive() {
+            assertEquals(1, dynamicArray.set(0, 5));
+            assertEquals(5, dynamicArray.get(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for methods takeN() and dropN()")
+    public class TakeNDropNTest {
+
+        @Test
+        void testTakeNWithMoreThanArrayLength() {
+            assertArrayEquals(new double[]{1, 2, 3}, dynamicArray.takeN(5));
+        }
+
+        @Test
+        void testDropNWithLessThanArrayLength() {
+            assertArrayEquals(new double[]{1}, dynamicArray.dropN(2));
+        }
+
+        @Test
+        void testDropNWithMoreThanArrayLength() {
+            assertEquals(0, dynamicArray.dropN(10).length);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method addAll()")
+    public class AddAllTest {
+
+        @Test
+        void testAddAllWithMoreThanCapacity() {
+            dynamicArray.addAll(4, 5, 6, 7);
+
+            assertArrayEquals(new double[]{1, 2, 3, 4, 5, 6, 7}, dynamicArray.takeN(dynamicArray.size()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method trimToSize()")
+    public class TrimTest {
+
+        @Test
+        void testTrimWithNonEmptyArray() {
+            assertEquals(4, dynamicArray.capacity());
+
+            dynamicArray.trimToSize();
+            assertEquals(3, dynamicArray.capacity());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method stream()")
+    public class StreamTest {
+
+        @Test
+        void testStream() {
+            assertEquals(12, dynamicArray.stream().map(el -> el * 2).sum());
+            assertEquals(3, dynamicArray.stream().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for methods indexOf(), sum(), min(), max(), countGreaterThan() and indexesGreaterThan()")
+    public class AggregationTest {
+
+        @BeforeEach
+        void setUp() {
+            for (int i = 4; i <= 100; i++) {
+                dynamicArray.push(i % 2 == 0 ? i : -i);
+            }
+        }
+
+        @Test
+        void testIndexOf() {
+            assertEquals(0, dynamicArray.indexOf(1.0));
+            assertEquals(98, dynamicArray.indexOf(-99.0));
+            assertEquals(-1, dynamicArray.indexOf(99.0));
+            assertTrue(dynamicArray.contains(100.0));
+        }
+
+        @Test
+        void testIndexOfComparesLikeDoubleCompare() {
+            dynamicArray.push(Double.NaN);
+            dynamicArray.push(-0.0);
+
+            assertEquals(100, dynamicArray.indexOf(Double.NaN));
+            assertEquals(101, dynamicArray.indexOf(-0.0));
+            assertEquals(-1, dynamicArray.indexOf(0.0));
+        }
+
+        @Test
+        void testSumMinMax() {
+            assertEquals(dynamicArray.stream().sum(), dynamicArray.sum());
+            assertEquals(-99.0, dynamicArray.min());
+            assertEquals(100.0, dynamicArray.max());
+        }
+
+        @Test
+        void testMinAndMaxOfEmptyArray() {
+            dynamicArray.clear();
+
+            assertThrows(NoSuchElementException.class, () -> dynamicArray.min());
+            assertThrows(NoSuchElementException.class, () -> dynamicArray.max());
+        }
+
+        @Test
+        void testCountAndIndexesGreaterThan() {
+            assertEquals(48, dynamicArray.countGreaterThan(4.0));
+
+            int[] indexes = dynamicArray.indexesGreaterThan(94.0);
+            assertArrayEquals(new int[]{95, 97, 99}, indexes);
+            assertEquals(0, dynamicArray.indexesGreaterThan(100.0).length);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicArrayChannelTest {
+
+    private final DynamicArrayChannel<Integer> channel = new DynamicArrayChannel<>(Integer.class, 4);
+
+    @Nested
+    @DisplayName("Tests for methods offer() and poll()")
+    public class OfferPollTest {
+
+        @Test
+        void testFirstInFirstOut() {
+            assertTrue(channel.offer(1));
+            assertTrue(channel.offer(2));
+            assertTrue(channel.offer(3));
+
+            assertEquals(1, channel.poll());
+            assertEquals(2, channel.poll());
+            assertTrue(channel.offer(4));
+            assertEquals(3, channel.poll());
+            assertEquals(4, channel.poll());
+            assertNull(channel.poll());
+        }
+
+        @Test
+        void testOfferToFullChannel() {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(channel.offer(i));
+            }
+
+            assertFalse(channel.offer(4));
+            assertEquals(0, channel.remainingCapacity());
+            assertEquals(4, channel.capacity());
+        }
+
+        @Test
+        void testOfferWithNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> channel.offer(null));
+        }
+
+        @Test
+        void testConstructorWithZeroCapacity() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new DynamicArrayChannel<>(Integer.class, 0));
+        }
+
+        @Test
+        void testTimeouts() throws InterruptedException {
+            assertNull(channel.poll(10, TimeUnit.MILLISECONDS));
+
+            channel.offerAll(new Integer[]{1, 2, 3, 4}, 0, 4);
+            assertFalse(channel.offer(5, 10, TimeUnit.MILLISECONDS));
+        }
+
+        @Test
+        void testOfferAllAddsWhatFits() {
+            channel.offer(0);
+
+            assertEquals(3, channel.offerAll(new Integer[]{1, 2, 3, 4, 5}, 0, 5));
+            assertEquals(0, channel.offerAll(new Integer[]{6}, 0, 1));
+            assertEquals(4, channel.size());
+            assertThrows(IllegalArgumentException.class,
+                    () -> new DynamicArrayChannel<>(Integer.class, 4).offerAll(new Integer[]{1, null}, 0, 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for methods drainTo() and takeBatch()")
+    public class DrainTest {
+
+        @Test
+        void testDrainToAcrossTheEndOfTheRing() {
+            channel.offerAll(new Integer[]{1, 2, 3}, 0, 3);
+            channel.poll();
+            channel.poll();
+            channel.offerAll(new Integer[]{4, 5, 6}, 0, 3);
+
+            DynamicArray<Integer> target = new DynamicArrayImplementation<>(Integer.class);
+            target.push(0);
+
+            assertEquals(3, channel.drainTo(target, 3));
+            assertEquals(List.of(0, 3, 4, 5), target.copy());
+            assertEquals(6, channel.poll());
+            assertEquals(0, channel.drainTo(target, 10));
+        }
+
+        @Test
+        void testDrainToWithInvalidArguments() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> channel.drainTo(null, 1));
+            assertThrows(IllegalArgumentException.class,
+                    () -> channel.drainTo(new DynamicArrayImplementation<>(Integer.class), -1));
+        }
+
+        @Test
+        void testTakeBatchWaitsForFirstElement() throws Exception {
+            DynamicArray<Integer> target = new DynamicArrayImplementation<>(Integer.class);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<Integer> taken = executor.submit(() -> channel.takeBatch(target, 10));
+
+                Thread.sleep(20);
+                assertFalse(taken.isDone());
+
+                channel.offerAll(new Integer[]{1, 2}, 0, 2);
+                assertTrue(taken.get(5, TimeUnit.SECONDS) >= 1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void testDrainWakesBlockedProducers() throws Exception {
+            channel.offerAll(new Integer[]{1, 2, 3, 4}, 0, 4);
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<?> first = executor.submit(() -> {
+                    channel.put(5);
+                    return null;
+                });
+                Future<?> second = executor.submit(() -> {
+                    channel.put(6);
+                    return null;
+                });
+
+                Thread.sleep(20);
+                assertFalse(first.isDone() || second.isDone());
+
+                channel.drainTo(new DynamicArrayImplementation<>(Integer.class), 4);
+                first.get(5, TimeUnit.SECONDS);
+                second.get(5, TimeUnit.SECONDS);
+                assertEquals(2, channel.size());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void testFailingTargetStillWakesBlockedProducers() throws Exception {
+            channel.offerAll(new Integer[]{1, 2, 3}, 0, 3);
+            channel.poll();
+            channel.poll();
+            channel.offerAll(new Integer[]{4, 5, 6}, 0, 3);
+
+            DynamicArray<Integer> target = new DynamicArrayImplementation<>(Integer.class) {
+                @Override
+                public void addAll(Integer[] elements, int fromIndex, int toIndex) {
+                    if (!isEmpty()) {
+                        throw new IllegalStateException();
+                    }
+                    super.addAll(elements, fromIndex, toIndex);
+                }
+            };
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> producer = executor.submit(() -> {
+                    channel.put(7);
+                    return null;
+                });
+
+                Thread.sleep(20);
+                assertFalse(producer.isDone());
+
+                assertThrows(IllegalStateException.class,
+                        () -> channel.drainTo(target, 4));
+                producer.get(5, TimeUnit.SECONDS);
+                assertEquals(List.of(3, 4), target.copy());
+                assertEquals(3, channel.size());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for blocking and concurrent access")
+    public class ConcurrencyTest {
+
+        @Test
+        void testTakeIsInterruptible() throws InterruptedException {
+            CountDownLatch started = new CountDownLatch(1);
+            Thread consumer = new Thread(() -> {
+                started.countDown();
+                assertThrows(InterruptedException.class, channel::take);
+            });
+            consumer.start();
+
+            started.await();
+            consumer.interrupt();
+            consumer.join(5000);
+            assertFalse(consumer.isAlive());
+        }
+
+        @Test
+        void testManyProducersAndBatchConsumers() throws Exception {
+            int producers = 8;
+            int consumers = 3;
+            int perProducer = 20_000;
+            DynamicArrayChannel<Integer> sharedChannel = new DynamicArrayChannel<>(Integer.class, 256);
+            AtomicLong consumedSum = new AtomicLong();
+            AtomicLong consumedCount = new AtomicLong();
+
+            ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int p = 0; p < producers; p++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 1; i <= perProducer; i++) {
+                            sharedChannel.put(i);
+                        }
+                        return null;
+                    }));
+                }
+
+                long total = (long) producers * perProducer;
+                for (int c = 0; c < consumers; c++) {
+                    executor.submit(() -> {
+                        DynamicArrayImplementation<Integer> batch = new DynamicArrayImplementation<>(Integer.class, 64);
+                        while (!Thread.currentThread().isInterrupted()) {
+                            sharedChannel.takeBatch(batch, 64);
+                            long sum = 0;
+                            for (int i = 0; i < batch.size(); i++) {
+                                sum += batch.get(i);
+                            }
+                            consumedSum.addAndGet(sum);
+                            consumedCount.addAndGet(batch.size());
+                            batch.clear();
+                        }
+                        return null;
+                    });
+                }
+
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+                while (consumedCount.get() < total && System.nanoTime() < deadline) {
+                    Thread.sleep(1);
+                }
+
+                assertEquals(total, consumedCount.get());
+                assertEquals((long) producers * perProducer * (perProducer + 1) / 2, consumedSum.get());
+                assertEquals(0, sharedChannel.size());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
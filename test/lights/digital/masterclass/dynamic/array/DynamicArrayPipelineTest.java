@@ -0,0 +1,240 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicArrayPipelineTest {
+
+    private final DynamicArrayImplementation<Integer> dynamicArray = new DynamicArrayImplementation<>(Integer.class);
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 10; i++) {
+            dynamicArray.push(i);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for the intermediate operations")
+    public class IntermediateTest {
+
+        @Test
+        void testFilterMapLimit() {
+            DynamicArray<String> result = dynamicArray.lazy()
+                    .filter(i -> i % 2 == 1)
+                    .map(i -> "#" + i, String.class)
+                    .limit(3)
+                    .toDynamicArray();
+
+            assertEquals(List.of("#1", "#3", "#5"), result.copy());
+        }
+
+        @Test
+        void testOperationsReturnTheSamePipeline() {
+            DynamicArrayPipeline<Integer> pipeline = dynamicArray.lazy();
+
+            assertSame(pipeline, pipeline.filter(i -> true));
+            assertSame(pipeline, pipeline.limit(5));
+            assertSame(pipeline, pipeline.map(i -> i, Integer.class));
+        }
+
+        @Test
+        void testOrderOfLimitAndFilter() {
+            assertEquals(2, dynamicArray.lazy().limit(5).filter(i -> i >= 3).count());
+            assertEquals(5, dynamicArray.lazy().filter(i -> i >= 3).limit(5).count());
+        }
+
+        @Test
+        void testLimitStopsTheLoop() {
+            List<Integer> seen = new ArrayList<>();
+
+            dynamicArray.lazy()
+                    .filter(i -> seen.add(i))
+                    .limit(2)
+                    .forEach(i -> {
+                    });
+
+            assertEquals(List.of(0, 1), seen);
+        }
+
+        @Test
+        void testLimitOfZero() {
+            assertTrue(dynamicArray.lazy().limit(0).toDynamicArray().isEmpty());
+        }
+
+        @Test
+        void testManyStages() {
+            DynamicArrayPipeline<Integer> pipeline = dynamicArray.lazy();
+            for (int i = 0; i < 10; i++) {
+                pipeline.map(x -> x + 1, Integer.class);
+            }
+
+            assertEquals(List.of(10, 11, 12), pipeline.limit(3).toDynamicArray().copy());
+        }
+
+        @Test
+        void testInvalidArguments() {
+            DynamicArrayPipeline<Integer> pipeline = dynamicArray.lazy();
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> pipeline.filter(null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> pipeline.map(i -> i, null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> pipeline.limit(-1));
+        }
+
+        @Test
+        void testMapReturningNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> dynamicArray.lazy().map(i -> (String) null, String.class).count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for the terminal operations")
+    public class TerminalTest {
+
+        @Test
+        void testToDynamicArrayIsPresizedWithoutFilters() {
+            DynamicArray<Integer> result = dynamicArray.lazy().map(i -> i * i, Integer.class).limit(4).toDynamicArray();
+
+            assertEquals(List.of(0, 1, 4, 9), result.copy());
+            assertEquals(4, result.capacity());
+        }
+
+        @Test
+        void testToDynamicArrayWithFilter() {
+            DynamicArray<Integer> result = dynamicArray.lazy().filter(i -> i > 6).toDynamicArray();
+
+            assertEquals(List.of(7, 8, 9), result.copy());
+        }
+
+        @Test
+        void testForEach() {
+            List<Integer> seen = new ArrayList<>();
+            dynamicArray.lazy().filter(i -> i < 3).forEach(seen::add);
+
+            assertEquals(List.of(0, 1, 2), seen);
+        }
+
+        @Test
+        void testReduce() {
+            assertEquals(45, dynamicArray.lazy().reduce(0, Integer::sum));
+            assertEquals(-1, dynamicArray.lazy().filter(i -> i > 100).reduce(-1, Integer::sum));
+        }
+
+        @Test
+        void testCount() {
+            assertEquals(10, dynamicArray.lazy().count());
+            assertEquals(0, new DynamicArrayImplementation<>(Integer.class).lazy().count());
+        }
+
+        @Test
+        void testPipelineRunsOnce() {
+            DynamicArrayPipeline<Integer> pipeline = dynamicArray.lazy();
+            pipeline.count();
+
+            assertThrows(IllegalStateException.class,
+                    pipeline::count);
+            assertThrows(IllegalStateException.class,
+                    () -> pipeline.limit(1));
+        }
+
+        @Test
+        void testPipelineReadsTheSourceWhenRun() {
+            DynamicArrayPipeline<Integer> pipeline = dynamicArray.lazy().filter(i -> i >= 10);
+            dynamicArray.push(10);
+            dynamicArray.push(11);
+
+            assertEquals(List.of(10, 11), pipeline.toDynamicArray().copy());
+        }
+
+        @Test
+        void testNoElementIsPassedOnAfterModification() {
+            List<Integer> seen = new ArrayList<>();
+
+            assertThrows(ConcurrentModificationException.class,
+                    () -> dynamicArray.lazy().forEach(i -> {
+                        seen.add(i);
+                        if (dynamicArray.size() > 4) {
+                            dynamicArray.pop();
+                        }
+                    }));
+            assertEquals(List.of(0), seen);
+        }
+
+        @Test
+        void testModificationDuringRun() {
+            assertThrows(ConcurrentModificationException.class,
+                    () -> dynamicArray.lazy().limit(1).forEach(dynamicArray::push));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for the pipelines of other arrays")
+    public class OtherArraysTest {
+
+        @Test
+        void testPipelineOverGet() {
+            CircularDynamicArray<Integer> circular = new CircularDynamicArray<>(Integer.class, 4);
+            circular.addAll(dynamicArray);
+
+            assertEquals(List.of(1, 3, 5, 7, 9), circular.lazy().filter(i -> i % 2 == 1).toDynamicArray().copy());
+        }
+
+        @Test
+        void testPipelineOverSnapshot() {
+            StampedDynamicArray<Integer> stamped = new StampedDynamicArray<>(Integer.class);
+            stamped.addAll(dynamicArray);
+
+            assertEquals(15, stamped.lazy().limit(3).map(i -> i + 4, Integer.class).reduce(0, Integer::sum));
+        }
+
+        @Test
+        void testSnapshotPipelineReadsTheSourceWhenRun() {
+            StampedDynamicArray<Integer> stamped = new StampedDynamicArray<>(Integer.class);
+            stamped.addAll(dynamicArray);
+
+            DynamicArrayPipeline<Integer> pipeline = stamped.lazy().filter(i -> i >= 10);
+            stamped.push(10);
+            stamped.push(11);
+
+            assertEquals(List.of(10, 11), pipeline.toDynamicArray().copy());
+        }
+
+        @Test
+        void testCircularArrayDetectsModificationWithoutSizeChange() {
+            CircularDynamicArray<Integer> circular = new CircularDynamicArray<>(Integer.class, 4);
+            circular.addAll(dynamicArray);
+
+            assertThrows(ConcurrentModificationException.class,
+                    () -> circular.lazy().limit(1).forEach(i -> circular.push(circular.popFirst())));
+        }
+
+        @Test
+        void testConcurrentArrayPipelineSurvivesAppends() {
+            ConcurrentDynamicArray<Integer> concurrent = new ConcurrentDynamicArray<>(Integer.class);
+            concurrent.addAll(dynamicArray);
+
+            List<Integer> seen = new ArrayList<>();
+            concurrent.lazy().forEach(i -> {
+                seen.add(i);
+                concurrent.push(i);
+            });
+
+            assertEquals(dynamicArray.copy(), seen);
+            assertEquals(20, concurrent.size());
+        }
+
+        @Test
+        void testPipelineOverView() {
+            assertEquals(List.of(6, 8), dynamicArray.slice(5, 9).lazy().filter(i -> i % 2 == 0).toDynamicArray().copy());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicArraySerializerTest {
+
+    /**
+     * A small chunk, so that writing and reading go through many chunks.
+     */
+    private final DynamicArraySerializer<Long> serializer = new DynamicArraySerializer<>(ElementCodec.LONG, 36);
+
+    private final DynamicArray<Long> dynamicArray = new DynamicArrayImplementation<>(Long.class);
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        for (long i = 0; i < 100; i++) {
+            dynamicArray.push(i * i);
+        }
+    }
+
+    private byte[] writeToBytes(DynamicArray<Long> array) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        serializer.write(array, Channels.newChannel(output));
+        return output.toByteArray();
+    }
+
+    @Nested
+    @DisplayName("Tests for writing to and reading from channels")
+    public class ChannelTest {
+
+        @Test
+        void testRoundTrip() throws IOException {
+            byte[] bytes = writeToBytes(dynamicArray);
+
+            assertEquals(serializer.serializedSize(dynamicArray), bytes.length);
+
+            DynamicArrayImplementation<Long> read = serializer.read(Channels.newChannel(new ByteArrayInputStream(bytes)));
+            assertEquals(dynamicArray.copy(), read.copy());
+            assertEquals(100, read.capacity());
+        }
+
+        @Test
+        void testRoundTripOfEmptyArray() throws IOException {
+            byte[] bytes = writeToBytes(new DynamicArrayImplementation<>(Long.class));
+
+            assertEquals(MappedDynamicArray.HEADER_SIZE, bytes.length);
+            assertTrue(serializer.read(Channels.newChannel(new ByteArrayInputStream(bytes))).isEmpty());
+        }
+
+        @Test
+        void testWriteOfOtherImplementations() throws IOException {
+            DynamicArray<Long> chunked = new ChunkedDynamicArray<>(Long.class, 3);
+            chunked.addAll(dynamicArray);
+
+            assertArrayEquals(writeToBytes(dynamicArray), writeToBytes(chunked));
+        }
+
+        @Test
+        void testReadOfTruncatedData() throws IOException {
+            byte[] bytes = Arrays.copyOf(writeToBytes(dynamicArray), 100);
+
+            assertThrows(EOFException.class,
+                    () -> serializer.read(Channels.newChannel(new ByteArrayInputStream(bytes))));
+        }
+
+        @Test
+        void testReadWithDifferentCodec() throws IOException {
+            byte[] bytes = writeToBytes(dynamicArray);
+            DynamicArraySerializer<Integer> intSerializer = new DynamicArraySerializer<>(ElementCodec.INT);
+
+            assertThrows(IOException.class,
+                    () -> intSerializer.read(Channels.newChannel(new ByteArrayInputStream(bytes))));
+        }
+
+        @Test
+        void testWrittenFileOpensAsMappedArray() throws IOException {
+            Path file = directory.resolve("checkpoint.bin");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                serializer.write(dynamicArray, channel);
+            }
+
+            try (MappedDynamicArray<Long> mapped = new MappedDynamicArray<>(file, ElementCodec.LONG)) {
+                assertEquals(100, mapped.size());
+                assertEquals(dynamicArray.copy(), mapped.copy());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for writing to and reading from byte buffers")
+    public class ByteBufferTest {
+
+        @Test
+        void testRoundTripAtPosition() {
+            ByteBuffer buffer = ByteBuffer.allocate(1000);
+            buffer.position(7);
+
+            serializer.write(dynamicArray, buffer);
+            assertEquals(7 + serializer.serializedSize(dynamicArray), buffer.position());
+
+            buffer.flip().position(7);
+            assertEquals(dynamicArray.copy(), serializer.read(buffer).copy());
+            assertFalse(buffer.hasRemaining());
+        }
+
+        @Test
+        void testWriteToSmallBuffer() {
+            ByteBuffer buffer = ByteBuffer.allocate(100);
+
+            assertThrows(BufferOverflowException.class,
+                    () -> serializer.write(dynamicArray, buffer));
+            assertEquals(0, buffer.position());
+        }
+
+        @Test
+        void testReadOfDataWhichIsNotAnArray() {
+            ByteBuffer buffer = ByteBuffer.wrap(new byte[64]);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> serializer.read(buffer));
+        }
+
+        @Test
+        void testSingleElementPerChunk() throws IOException {
+            DynamicArraySerializer<Long> tiny = new DynamicArraySerializer<>(ElementCodec.LONG, 32);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            tiny.write(dynamicArray, Channels.newChannel(output));
+
+            DynamicArray<Long> read = tiny.read(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())));
+            assertEquals(List.of(0L, 1L, 4L), Arrays.asList(read.takeN(3)));
+        }
+    }
+}
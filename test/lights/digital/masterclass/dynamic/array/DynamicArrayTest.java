@@ -1,10 +1,22 @@
 package lights.digital.masterclass.dynamic.array;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -283,6 +295,70 @@ class DynamicArrayTest {
     }
 
 
+    @Nested
+    @DisplayName("Tests for methods removeRange(), removeIf() and retainAll()")
+    public class RemoveRangeTest {
+
+        @Test
+        void testDeleteWithLastIndex() {
+            assertEquals(3, dynamicArray.delete(2));
+            assertEquals(List.of(1, 2), dynamicArray.copy());
+        }
+
+        @Test
+        void testDeleteWithFirstIndex() {
+            assertEquals(1, dynamicArray.delete(0));
+            assertEquals(List.of(2, 3), dynamicArray.copy());
+            assertFalse(dynamicArray.contains(1));
+        }
+
+        @Test
+        void testRemoveRangeInTheMiddle() {
+            dynamicArray.addAll(4, 5, 6);
+
+            dynamicArray.removeRange(1, 4);
+
+            assertEquals(List.of(1, 5, 6), dynamicArray.copy());
+        }
+
+        @Test
+        void testRemoveRangeWithInvalidRange() {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.removeRange(2, 1),
+                    "The method removeRange should throw an IndexOutOfBoundsException " +
+                            "when fromIndex is more than toIndex!");
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.removeRange(0, 4));
+        }
+
+        @Test
+        void testRemoveIfWithEvenNumbers() {
+            dynamicArray.addAll(4, 5, 6);
+
+            assertTrue(dynamicArray.removeIf(el -> el % 2 == 0));
+            assertEquals(List.of(1, 3, 5), dynamicArray.copy());
+            assertFalse(dynamicArray.removeIf(el -> el % 2 == 0));
+        }
+
+        @Test
+        void testRemoveIfWithThrowingFilterKeepsUntestedElements() {
+            assertThrows(IllegalStateException.class,
+                    () -> dynamicArray.removeIf(el -> {
+                        if (el == 3) {
+                            throw new IllegalStateException();
+                        }
+                        return el == 1;
+                    }));
+            assertEquals(List.of(2, 3), dynamicArray.copy());
+        }
+
+        @Test
+        void testRetainAll() {
+            assertTrue(dynamicArray.retainAll(List.of(3, 1)));
+            assertEquals(List.of(1, 3), dynamicArray.copy());
+        }
+    }
+
     @Nested
     @DisplayName("Tests for method addAll()")
     public class AddAllTest {
@@ -290,7 +366,7 @@ class DynamicArrayTest {
         @Test
         void testAddAllWithNullValue() {
             assertThrows(IllegalArgumentException.class,
-                    () -> dynamicArray.addAll(null));
+                    () -> dynamicArray.addAll((Integer[]) null));
         }
 
         @Test
@@ -329,6 +405,78 @@ class DynamicArrayTest {
     }
 
 
+    @Nested
+    @DisplayName("Tests for bulk methods addAll() and insertAll()")
+    public class BulkInsertTest {
+
+        @Test
+        void testAddAllWithCollectionGrowsOnce() {
+            DynamicArray<Integer> localDynamicArrayTest = new DynamicArrayImplementation<>(Integer.class);
+
+            localDynamicArrayTest.addAll(List.of(1, 2, 3, 4, 5));
+
+            assertEquals(5, localDynamicArrayTest.capacity());
+            assertEquals(List.of(1, 2, 3, 4, 5), localDynamicArrayTest.copy());
+        }
+
+        @Test
+        void testAddAllWithCollectionContainingNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> dynamicArray.addAll(Arrays.asList(4, null)),
+                    "The method addAll should throw an IllegalArgumentException " +
+                            "for a collection containing null!");
+            assertEquals(3, dynamicArray.size());
+        }
+
+        @Test
+        void testAddAllWithDynamicArray() {
+            DynamicArray<Integer> localDynamicArrayTest = new DynamicArrayImplementation<>(Integer.class);
+            localDynamicArrayTest.addAll(4, 5);
+
+            dynamicArray.addAll(localDynamicArrayTest);
+
+            assertEquals(List.of(1, 2, 3, 4, 5), dynamicArray.copy());
+        }
+
+        @Test
+        void testAddAllWithItself() {
+            dynamicArray.addAll(dynamicArray);
+
+            assertEquals(List.of(1, 2, 3, 1, 2, 3), dynamicArray.copy());
+        }
+
+        @Test
+        void testAddAllWithArrayRange() {
+            dynamicArray.addAll(new Integer[]{7, 8, 9, 10}, 1, 3);
+
+            assertEquals(List.of(1, 2, 3, 8, 9), dynamicArray.copy());
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.addAll(new Integer[]{7, 8}, 1, 3));
+        }
+
+        @Test
+        void testInsertAllInTheMiddle() {
+            dynamicArray.insertAll(1, 7, 8);
+
+            assertEquals(List.of(1, 7, 8, 2, 3), dynamicArray.copy());
+        }
+
+        @Test
+        void testInsertAllWithCollectionAtTheFront() {
+            dynamicArray.insertAll(0, List.of(7, 8));
+
+            assertEquals(List.of(7, 8, 1, 2, 3), dynamicArray.copy());
+        }
+
+        @Test
+        void testInsertAllWithIndexMoreThanSize() {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.insertAll(4, 7),
+                    "The method insertAll should throw an IndexOutOfBoundsException " +
+                            "for index more than the array size!");
+        }
+    }
+
     @Nested
     @DisplayName("Tests for method copy()")
     public class CopyTest {
@@ -366,6 +514,53 @@ class DynamicArrayTest {
         }
     }
 
+    @Nested
+    @DisplayName("Tests for method spliterator()")
+    public class SpliteratorTest {
+
+        @Test
+        void testSpliteratorCharacteristics() {
+            Spliterator<Integer> spliterator = dynamicArray.spliterator();
+
+            assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+            assertEquals(3, spliterator.getExactSizeIfKnown());
+        }
+
+        @Test
+        void testSpliteratorTrySplitHalvesTheRange() {
+            dynamicArray.push(4);
+            Spliterator<Integer> spliterator = dynamicArray.spliterator();
+
+            Spliterator<Integer> prefix = spliterator.trySplit();
+
+            assertNotNull(prefix);
+            assertEquals(2, prefix.estimateSize());
+            assertEquals(2, spliterator.estimateSize());
+        }
+
+        @Test
+        void testParallelStreamWithLargeArray() {
+            DynamicArray<Integer> localDynamicArrayTest = new DynamicArrayImplementation<>(Integer.class);
+            for (int i = 1; i <= 10000; i++) {
+                localDynamicArrayTest.push(i);
+            }
+
+            assertEquals(50005000L, localDynamicArrayTest.stream().parallel().mapToLong(Integer::longValue).sum());
+            assertEquals(localDynamicArrayTest.copy(), localDynamicArrayTest.stream().parallel().toList());
+        }
+
+        @Test
+        void testSpliteratorWithModificationDuringTraversal() {
+            assertThrows(ConcurrentModificationException.class,
+                    () -> dynamicArray.stream().forEach(dynamicArray::push),
+                    "The spliterator should throw a ConcurrentModificationException " +
+                            "when the array is modified during traversal!");
+        }
+    }
+
     @Nested
     @DisplayName("Tests for method remove()")
     public class RemoveTest {
@@ -535,4 +730,453 @@ class DynamicArrayTest {
 
         }
     }
+
+    @Nested
+    @DisplayName("Tests for methods indexOf(), lastIndexOf() and the element index")
+    public class ElementIndexTest {
+
+        private final DynamicArrayImplementation<Integer> indexedArray =
+                new DynamicArrayImplementation<>(Integer.class);
+
+        @BeforeEach
+        void setUp() {
+            indexedArray.addAll(5, 7, 5, 9);
+            indexedArray.enableElementIndex();
+        }
+
+        @Test
+        void testIndexOfWithoutElementIndex() {
+            dynamicArray.push(1);
+
+            assertEquals(0, dynamicArray.indexOf(1));
+            assertEquals(3, dynamicArray.lastIndexOf(1));
+            assertEquals(-1, dynamicArray.indexOf(4));
+            assertEquals(-1, dynamicArray.indexOf(null));
+        }
+
+        @Test
+        void testContainsIgnoresEmptySlots() {
+            assertTrue(dynamicArray.capacity() > dynamicArray.size());
+            assertFalse(dynamicArray.contains(null));
+        }
+
+        @Test
+        void testIndexFollowsPushPopAndSet() {
+            assertEquals(0, indexedArray.indexOf(5));
+            assertEquals(2, indexedArray.lastIndexOf(5));
+
+            indexedArray.push(5);
+            assertEquals(4, indexedArray.lastIndexOf(5));
+
+            indexedArray.pop();
+            indexedArray.set(0, 9);
+            assertEquals(2, indexedArray.indexOf(5));
+            assertEquals(0, indexedArray.indexOf(9));
+            assertEquals(3, indexedArray.lastIndexOf(9));
+
+            indexedArray.set(1, 11);
+            assertFalse(indexedArray.contains(7));
+            assertTrue(indexedArray.containsAll(List.of(9, 11, 5)));
+        }
+
+        @Test
+        void testIndexAfterShiftingOperations() {
+            indexedArray.delete(0);
+            assertEquals(1, indexedArray.indexOf(5));
+
+            indexedArray.insertAll(0, 9, 9);
+            assertEquals(0, indexedArray.indexOf(9));
+            assertEquals(4, indexedArray.lastIndexOf(9));
+
+            indexedArray.removeIf(el -> el == 9);
+            assertEquals(List.of(7, 5), indexedArray.copy());
+            assertEquals(-1, indexedArray.indexOf(9));
+            assertEquals(1, indexedArray.indexOf(5));
+
+            indexedArray.clear();
+            assertFalse(indexedArray.contains(5));
+        }
+
+        @Test
+        void testPushPopAndDeleteOnStaleIndex() {
+            indexedArray.delete(0);
+
+            for (int i = 100; i < 1100; i++) {
+                indexedArray.push(i);
+            }
+            indexedArray.pop();
+            indexedArray.delete(indexedArray.size() - 1);
+
+            assertEquals(1, indexedArray.indexOf(5));
+            assertEquals(1000, indexedArray.lastIndexOf(1097));
+            assertEquals(-1, indexedArray.indexOf(1099));
+        }
+
+        @Test
+        void testRandomOperationsAgainstScan() {
+            Random random = new Random(12);
+
+            for (int step = 0; step < 5000; step++) {
+                int operation = random.nextInt(5);
+                int value = random.nextInt(50);
+                if (operation == 0 || indexedArray.isEmpty()) {
+                    indexedArray.push(value);
+                } else if (operation == 1) {
+                    indexedArray.pop();
+                } else if (operation == 2) {
+                    indexedArray.set(random.nextInt(indexedArray.size()), value);
+                } else if (operation == 3) {
+                    indexedArray.delete(random.nextInt(indexedArray.size()));
+                } else {
+                    List<Integer> model = indexedArray.copy();
+                    assertEquals(model.indexOf(value), indexedArray.indexOf(value));
+                    assertEquals(model.lastIndexOf(value), indexedArray.lastIndexOf(value));
+                    assertEquals(model.contains(value), indexedArray.contains(value));
+                }
+            }
+        }
+
+        @Test
+        void testMemoryFootprint() {
+            assertTrue(indexedArray.elementIndexMemoryFootprint() > 0);
+
+            indexedArray.disableElementIndex();
+            assertEquals(0, indexedArray.elementIndexMemoryFootprint());
+            assertEquals(2, indexedArray.lastIndexOf(5));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for methods enableMetrics() and stats()")
+    public class MetricsTest {
+
+        private final DynamicArrayImplementation<Integer> measuredArray =
+                new DynamicArrayImplementation<>(Integer.class);
+
+        @BeforeEach
+        void setUp() {
+            measuredArray.enableMetrics();
+        }
+
+        @Test
+        void testStatsWithoutMetrics() {
+            measuredArray.disableMetrics();
+
+            assertThrows(IllegalStateException.class, measuredArray::stats);
+        }
+
+        @Test
+        void testGrowthIsCounted() {
+            for (int i = 0; i < 5; i++) {
+                measuredArray.push(i);
+            }
+
+            DynamicArrayStats stats = measuredArray.stats();
+            assertEquals(3, stats.resizes());
+            assertEquals(1 + 2 + 4, stats.copiedElements());
+            assertEquals(7L * DynamicArrayMetrics.REFERENCE_BYTES, stats.copiedBytes());
+            assertEquals(8, stats.peakCapacity());
+            assertEquals(3, stats.wastedSlots());
+            assertTrue(stats.growthNanos() > 0);
+        }
+
+        @Test
+        void testCopiesAreCounted() {
+            measuredArray.addAll(1, 2, 3, 4, 5);
+            long copiedByAddAll = measuredArray.stats().copiedElements();
+
+            measuredArray.delete(0);
+            measuredArray.takeN(2);
+            measuredArray.trimToSize();
+
+            DynamicArrayStats stats = measuredArray.stats();
+            assertEquals(copiedByAddAll + 4 + 2 + 4, stats.copiedElements());
+            assertEquals(5, stats.peakCapacity());
+            assertEquals(0, stats.wastedSlots());
+        }
+
+        @Test
+        void testGrowthEventIsRecorded() throws IOException {
+            Path dump = Files.createTempFile("dynamic-array", ".jfr");
+            try (Recording recording = new Recording()) {
+                recording.enable("lights.digital.masterclass.dynamic.array.Growth").withoutThreshold();
+                recording.start();
+
+                measuredArray.ensureCapacity(100);
+
+                recording.stop();
+                recording.dump(dump);
+            }
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+            Files.delete(dump);
+
+            assertEquals(1, events.size());
+            assertEquals(100, events.get(0).getInt("newCapacity"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for methods sort(), parallelSort(), parallelPrefix(), map() and filter()")
+    public class BulkOperationsTest {
+
+        private static final int LARGE_SIZE = BulkOperations.SEQUENTIAL_CUTOFF * 5 + 17;
+
+        private final DynamicArrayImplementation<Integer> largeArray =
+                new DynamicArrayImplementation<>(Integer.class);
+
+        @BeforeEach
+        void setUp() {
+            Random random = new Random(19);
+            for (int i = 0; i < LARGE_SIZE; i++) {
+                largeArray.push(random.nextInt(1000));
+            }
+        }
+
+        @Test
+        void testSortOnlyTouchesLiveRange() {
+            dynamicArray.push(0);
+            dynamicArray.push(5);
+            dynamicArray.sort(Comparator.reverseOrder());
+
+            assertEquals(List.of(5, 3, 2, 1, 0), dynamicArray.copy());
+            assertEquals(8, dynamicArray.capacity());
+        }
+
+        @Test
+        void testSortWithNullComparator() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> dynamicArray.sort(null));
+        }
+
+        @Test
+        void testParallelSortOfLargeArray() {
+            List<Integer> expected = largeArray.stream().sorted().toList();
+
+            largeArray.parallelSort(Comparator.naturalOrder());
+
+            assertEquals(expected, largeArray.copy());
+        }
+
+        @Test
+        void testParallelSortInvalidatesElementIndex() {
+            DynamicArrayImplementation<Integer> indexedArray = new DynamicArrayImplementation<>(Integer.class);
+            indexedArray.addAll(3, 1, 2);
+            indexedArray.enableElementIndex();
+
+            indexedArray.parallelSort(Comparator.naturalOrder());
+
+            assertEquals(0, indexedArray.indexOf(1));
+            assertEquals(2, indexedArray.indexOf(3));
+        }
+
+        @Test
+        void testParallelPrefix() {
+            dynamicArray.parallelPrefix(Integer::sum);
+            assertEquals(List.of(1, 3, 6), dynamicArray.copy());
+
+            List<Integer> expected = largeArray.copy();
+            largeArray.parallelPrefix(Integer::sum);
+
+            int sum = 0;
+            for (int i = 0; i < LARGE_SIZE; i++) {
+                sum += expected.get(i);
+                assertEquals(sum, largeArray.get(i));
+            }
+        }
+
+        @Test
+        void testParallelPrefixWithNullResult() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> dynamicArray.parallelPrefix((left, right) -> null));
+        }
+
+        @Test
+        void testMap() {
+            DynamicArray<String> mapped = dynamicArray.map(String::valueOf, String.class);
+
+            assertEquals(List.of("1", "2", "3"), mapped.copy());
+            assertEquals(3, mapped.capacity());
+
+            DynamicArray<Long> largeMapped = largeArray.map(el -> el * 2L, Long.class);
+            assertEquals(LARGE_SIZE, largeMapped.capacity());
+            assertEquals(largeArray.stream().map(el -> el * 2L).toList(), largeMapped.copy());
+        }
+
+        @Test
+        void testMapWithNullResult() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> largeArray.map(el -> el > 998 ? null : el, Integer.class));
+        }
+
+        @Test
+        void testFilter() {
+            DynamicArray<Integer> filtered = dynamicArray.filter(el -> el != 2);
+
+            assertEquals(List.of(1, 3), filtered.copy());
+            assertEquals(2, filtered.capacity());
+            assertTrue(dynamicArray.filter(el -> false).isEmpty());
+
+            DynamicArray<Integer> largeFiltered = largeArray.filter(el -> el % 3 == 0);
+            List<Integer> expected = largeArray.stream().filter(el -> el % 3 == 0).toList();
+            assertEquals(expected.size(), largeFiltered.capacity());
+            assertEquals(expected, largeFiltered.copy());
+
+            largeFiltered.push(1);
+            assertEquals(expected.size() + 1, largeFiltered.size());
+        }
+
+        @Test
+        void testDefaultMethodsOnOtherImplementations() {
+            DynamicArray<Integer> persistentArray = new PersistentDynamicArray<>(Integer.class);
+            persistentArray.addAll(largeArray);
+            List<Integer> expected = largeArray.stream().sorted(Comparator.reverseOrder()).toList();
+
+            persistentArray.parallelSort(Comparator.reverseOrder());
+            assertEquals(expected, persistentArray.copy());
+
+            assertEquals(expected.stream().filter(el -> el < 10).toList(),
+                    persistentArray.filter(el -> el < 10).copy());
+            assertEquals(expected.stream().map(String::valueOf).toList(),
+                    persistentArray.map(String::valueOf, String.class).copy());
+
+            DynamicArray<Integer> emptyArray = new PersistentDynamicArray<>(Integer.class);
+            emptyArray.sort(Comparator.naturalOrder());
+            assertTrue(emptyArray.filter(el -> true).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for methods equals() and hashCode()")
+    public class EqualsHashCodeTest {
+
+        @Test
+        void testInverseOf31() {
+            assertEquals(1, 31 * DynamicArrayImplementation.INVERSE_OF_31);
+        }
+
+        @Test
+        void testEqualsIgnoresCapacity() {
+            DynamicArray<Integer> otherArray = new DynamicArrayImplementation<>(Integer.class, 100);
+            otherArray.addAll(1, 2, 3);
+
+            assertEquals(dynamicArray, otherArray);
+            assertEquals(dynamicArray.hashCode(), otherArray.hashCode());
+            assertEquals(List.of(1, 2, 3).hashCode(), dynamicArray.hashCode());
+
+            otherArray.push(4);
+            assertNotEquals(dynamicArray, otherArray);
+            otherArray.pop();
+            otherArray.set(2, 4);
+            assertNotEquals(dynamicArray, otherArray);
+        }
+
+        @Test
+        void testHashOfEmptyArrays() {
+            DynamicArray<Integer> emptyArray = new DynamicArrayImplementation<>(Integer.class, 10);
+
+            assertEquals(List.of().hashCode(), emptyArray.hashCode());
+            dynamicArray.clear();
+            assertEquals(emptyArray, dynamicArray);
+            assertEquals(emptyArray.hashCode(), dynamicArray.hashCode());
+        }
+
+        @Test
+        void testHashFollowsRandomOperations() {
+            Random random = new Random(21);
+            DynamicArrayImplementation<Integer> hashedArray = new DynamicArrayImplementation<>(Integer.class);
+            hashedArray.hashCode();
+
+            for (int step = 0; step < 5000; step++) {
+                int operation = random.nextInt(8);
+                int value = random.nextInt(1000) - 500;
+                if (operation <= 2 || hashedArray.isEmpty()) {
+                    hashedArray.push(value);
+                } else if (operation == 3) {
+                    hashedArray.pop();
+                } else if (operation == 4) {
+                    hashedArray.set(random.nextInt(hashedArray.size()), value);
+                } else if (operation == 5) {
+                    hashedArray.delete(random.nextInt(hashedArray.size()));
+                } else if (operation == 6) {
+                    hashedArray.insertAll(random.nextInt(hashedArray.size() + 1), value, value + 1);
+                } else if (random.nextInt(50) == 0) {
+                    hashedArray.clear();
+                }
+
+                assertEquals(hashedArray.copy().hashCode(), hashedArray.hashCode());
+            }
+        }
+
+        @Test
+        void testArrayAsMapKey() {
+            Map<DynamicArray<Integer>, String> cache = new HashMap<>();
+            cache.put(dynamicArray, "value");
+
+            DynamicArray<Integer> lookupKey = new DynamicArrayImplementation<>(Integer.class, 16);
+            lookupKey.addAll(List.of(1, 2, 3));
+
+            assertEquals("value", cache.get(lookupKey));
+        }
+
+        @Test
+        void testEqualsAfterElementMutatedInPlace() {
+            class Key {
+                int value;
+
+                Key(int value) {
+                    this.value = value;
+                }
+
+                @Override
+                public boolean equals(Object o) {
+                    return o instanceof Key && ((Key) o).value == value;
+                }
+
+                @Override
+                public int hashCode() {
+                    return value;
+                }
+            }
+
+            Key key = new Key(1);
+            DynamicArrayImplementation<Key> mutatedArray = new DynamicArrayImplementation<>(Key.class);
+            mutatedArray.push(key);
+            mutatedArray.hashCode();
+            key.value = 5;
+
+            DynamicArrayImplementation<Key> otherArray = new DynamicArrayImplementation<>(Key.class);
+            otherArray.push(new Key(5));
+            otherArray.hashCode();
+
+            assertEquals(mutatedArray, otherArray);
+        }
+
+        @Test
+        void testHashIsOnlyMaintainedAfterHashCode() {
+            int[] hashCodeCalls = {0};
+            class Counted {
+                @Override
+                public int hashCode() {
+                    hashCodeCalls[0]++;
+                    return 7;
+                }
+            }
+
+            DynamicArrayImplementation<Counted> countedArray = new DynamicArrayImplementation<>(Counted.class);
+            for (int i = 0; i < 100; i++) {
+                countedArray.push(new Counted());
+            }
+            countedArray.pop();
+            countedArray.clear();
+            countedArray.push(new Counted());
+            assertEquals(0, hashCodeCalls[0]);
+
+            countedArray.hashCode();
+            assertEquals(1, hashCodeCalls[0]);
+
+            countedArray.push(new Counted());
+            assertEquals(2, hashCodeCalls[0]);
+        }
+    }
 }
\ No newline at end of file
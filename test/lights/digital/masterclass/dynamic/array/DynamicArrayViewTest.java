@@ -0,0 +1,218 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicArrayViewTest {
+
+    private final DynamicArrayImplementation<Integer> dynamicArray = new DynamicArrayImplementation<>(Integer.class);
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 10; i++) {
+            dynamicArray.push(i);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method slice()")
+    public class SliceTest {
+
+        @Test
+        void testSliceReadsTheParent() {
+            DynamicArray<Integer> slice = dynamicArray.slice(3, 7);
+
+            assertEquals(4, slice.size());
+            assertEquals(4, slice.capacity());
+            assertEquals(3, slice.get(0));
+            assertEquals(List.of(3, 4, 5, 6), slice.copy());
+            assertEquals(List.of(3, 4), List.of(slice.takeN(2)));
+            assertEquals(List.of(3, 4, 5), List.of(slice.dropN(1)));
+            assertEquals(2, slice.indexOf(5));
+            assertFalse(slice.contains(7));
+            assertEquals("[3, 4, 5, 6]", slice.toString());
+        }
+
+        @Test
+        void testSliceWithInvalidRange() {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.slice(-1, 3));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.slice(5, 11));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.slice(6, 5));
+        }
+
+        @Test
+        void testGetOutsideOfSlice() {
+            DynamicArray<Integer> slice = dynamicArray.slice(3, 7);
+
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> slice.get(4));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> slice.get(-1));
+        }
+
+        @Test
+        void testSliceOfSlice() {
+            DynamicArray<Integer> slice = dynamicArray.slice(2, 9).slice(1, 4);
+
+            assertEquals(List.of(3, 4, 5), slice.copy());
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.slice(2, 9).slice(0, 8));
+        }
+
+        @Test
+        void testEmptySlice() {
+            DynamicArray<Integer> slice = dynamicArray.slice(4, 4);
+
+            assertTrue(slice.isEmpty());
+            assertEquals(0, slice.stream().count());
+        }
+
+        @Test
+        void testViewCoversWholeArray() {
+            assertEquals(dynamicArray.copy(), dynamicArray.view().copy());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for writing through a view")
+    public class WriteTest {
+
+        @Test
+        void testSetWritesToParent() {
+            DynamicArray<Integer> slice = dynamicArray.slice(3, 7);
+            DynamicArray<Integer> otherSlice = dynamicArray.slice(0, 5);
+
+            assertEquals(4, slice.set(1, 40));
+            assertEquals(40, dynamicArray.get(4));
+            assertEquals(40, otherSlice.get(4));
+        }
+
+        @Test
+        void testSortSortsOnlyTheWindow() {
+            dynamicArray.slice(2, 6).sort(Comparator.reverseOrder());
+
+            assertEquals(List.of(0, 1, 5, 4, 3, 2, 6, 7, 8, 9), dynamicArray.copy());
+        }
+
+        @Test
+        void testStructuralMethodsAreNotSupported() {
+            DynamicArray<Integer> slice = dynamicArray.slice(3, 7);
+
+            assertThrows(UnsupportedOperationException.class,
+                    () -> slice.push(1));
+            assertThrows(UnsupportedOperationException.class,
+                    slice::pop);
+            assertThrows(UnsupportedOperationException.class,
+                    () -> slice.delete(0));
+            assertThrows(UnsupportedOperationException.class,
+                    () -> slice.addAll(1, 2));
+            assertThrows(UnsupportedOperationException.class,
+                    slice::clear);
+            assertEquals(10, dynamicArray.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for fail-fast behaviour")
+    public class FailFastTest {
+
+        @Test
+        void testStructuralModificationOfParent() {
+            DynamicArray<Integer> slice = dynamicArray.slice(3, 7);
+            dynamicArray.delete(0);
+
+            assertThrows(ConcurrentModificationException.class,
+                    () -> slice.get(0));
+            assertThrows(ConcurrentModificationException.class,
+                    slice::size);
+            assertThrows(ConcurrentModificationException.class,
+                    slice::copy);
+        }
+
+        @Test
+        void testSetOnParentKeepsViewValid() {
+            DynamicArray<Integer> slice = dynamicArray.slice(3, 7);
+            dynamicArray.set(3, 30);
+
+            assertEquals(30, slice.get(0));
+        }
+
+        @Test
+        void testModificationDuringStream() {
+            DynamicArray<Integer> slice = dynamicArray.slice(3, 7);
+
+            assertThrows(ConcurrentModificationException.class,
+                    () -> slice.stream().forEach(dynamicArray::push));
+        }
+
+        @Test
+        void testChunkedArrayDetectsModification() {
+            DynamicArray<Integer> chunked = new ChunkedDynamicArray<>(Integer.class, 4);
+            chunked.addAll(dynamicArray);
+            DynamicArray<Integer> slice = chunked.slice(3, 7);
+
+            assertEquals(List.of(3, 4, 5, 6), slice.copy());
+
+            chunked.push(10);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> slice.get(0));
+        }
+
+        @Test
+        void testCircularArrayDetectsModificationWithoutSizeChange() {
+            CircularDynamicArray<Integer> circular = new CircularDynamicArray<>(Integer.class);
+            for (int i = 0; i < 5; i++) {
+                circular.push(i);
+            }
+            DynamicArray<Integer> slice = circular.slice(1, 3);
+
+            assertEquals(List.of(1, 2), slice.copy());
+
+            circular.popFirst();
+            circular.push(99);
+            assertThrows(ConcurrentModificationException.class,
+                    () -> slice.get(0));
+        }
+
+        @Test
+        void testConcurrentArrayViewSurvivesAppends() {
+            ConcurrentDynamicArray<Integer> concurrent = new ConcurrentDynamicArray<>(Integer.class);
+            concurrent.addAll(dynamicArray);
+            DynamicArray<Integer> slice = concurrent.slice(3, 7);
+
+            concurrent.push(10);
+            concurrent.push(11);
+
+            assertEquals(List.of(3, 4, 5, 6), slice.copy());
+            assertEquals(3, slice.get(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method stream()")
+    public class StreamTest {
+
+        @Test
+        void testParallelStreamOfLargeSlice() {
+            DynamicArrayImplementation<Integer> largeArray = new DynamicArrayImplementation<>(Integer.class);
+            for (int i = 0; i < 100_000; i++) {
+                largeArray.push(i);
+            }
+
+            DynamicArray<Integer> slice = largeArray.slice(1000, 99_000);
+
+            assertEquals(98_000, slice.stream().parallel().count());
+            assertEquals(slice.stream().mapToLong(Integer::longValue).sum(),
+                    slice.stream().parallel().mapToLong(Integer::longValue).sum());
+            assertEquals(1000, slice.stream().findFirst().orElseThrow());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrowthPolicyTest {
+
+    @Nested
+    @DisplayName("Tests for method geometric()")
+    public class GeometricTest {
+
+        @Test
+        void testGeometricWithFactorNotMoreThanOne() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> GrowthPolicy.geometric(1),
+                    "The method geometric should throw an IllegalArgumentException " +
+                            "for factor not more than 1!");
+        }
+
+        @Test
+        void testGeometricWithFactorOnePointFive() {
+            GrowthPolicy growthPolicy = GrowthPolicy.geometric(1.5);
+
+            assertEquals(15, growthPolicy.grow(10, 11));
+            assertEquals(1, growthPolicy.grow(0, 1));
+            assertEquals(100, growthPolicy.grow(10, 100));
+        }
+
+        @Test
+        void testGeometricCapacityMatchesAllocatedLength() {
+            DynamicArray<Integer> localDynamicArrayTest =
+                    new DynamicArrayImplementation<>(Integer.class, 10, GrowthPolicy.geometric(1.5));
+
+            for (int i = 0; i < 11; i++) {
+                localDynamicArrayTest.push(i);
+            }
+
+            assertEquals(15, localDynamicArrayTest.capacity());
+            assertEquals(10, localDynamicArrayTest.get(10));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method fixedIncrement()")
+    public class FixedIncrementTest {
+
+        @Test
+        void testFixedIncrementWithZero() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> GrowthPolicy.fixedIncrement(0));
+        }
+
+        @Test
+        void testFixedIncrementWithValidIncrement() {
+            IntDynamicArray localDynamicArrayTest =
+                    new IntDynamicArrayImplementation(0, GrowthPolicy.fixedIncrement(8));
+
+            for (int i = 0; i < 9; i++) {
+                localDynamicArrayTest.push(i);
+            }
+
+            assertEquals(16, localDynamicArrayTest.capacity());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method powerOfTwo()")
+    public class PowerOfTwoTest {
+
+        @Test
+        void testPowerOfTwoRoundsUp() {
+            GrowthPolicy growthPolicy = GrowthPolicy.powerOfTwo(1024);
+
+            assertEquals(8, growthPolicy.grow(5, 6));
+            assertEquals(128, growthPolicy.grow(8, 100));
+        }
+
+        @Test
+        void testPowerOfTwoRespectsMaxCapacity() {
+            GrowthPolicy growthPolicy = GrowthPolicy.powerOfTwo(100);
+
+            assertEquals(100, growthPolicy.grow(64, 65));
+            assertThrows(IllegalStateException.class,
+                    () -> growthPolicy.grow(100, 101),
+                    "The policy should throw an IllegalStateException above its ceiling!");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for per-instance growth")
+    public class PerInstanceTest {
+
+        @Test
+        void testLargeArrayDoesNotChangeGrowthOfSmallArray() {
+            DynamicArray<Integer> largeDynamicArray = new DynamicArrayImplementation<>(Integer.class);
+            for (int i = 0; i < 5000; i++) {
+                largeDynamicArray.push(i);
+            }
+
+            DynamicArray<Integer> smallDynamicArray = new DynamicArrayImplementation<>(Integer.class);
+            smallDynamicArray.push(1);
+            smallDynamicArray.push(2);
+            smallDynamicArray.push(3);
+
+            assertEquals(4, smallDynamicArray.capacity());
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedDynamicArrayTest {
+
+    /**
+     * Small regions of 16 ints, so that the tests cross region boundaries.
+     */
+    private static final int REGION_BYTES = 64;
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private MappedDynamicArray<Integer> dynamicArray;
+
+    private MappedDynamicArray<Integer> open() throws IOException {
+        return new MappedDynamicArray<>(file, ElementCodec.INT, 4, GrowthPolicy.defaultPolicy(), REGION_BYTES);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("array.bin");
+        dynamicArray = open();
+        dynamicArray.addAll(1, 2, 3);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        dynamicArray.close();
+    }
+
+    @Nested
+    @DisplayName("Tests for methods push(), get() and pop()")
+    public class PushPopTest {
+
+        @Test
+        void testPushAcrossRegions() {
+            for (int i = 4; i <= 100; i++) {
+                dynamicArray.push(i);
+            }
+
+            assertEquals(100, dynamicArray.size());
+            assertEquals(128, dynamicArray.capacity());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i + 1, dynamicArray.get(i));
+            }
+        }
+
+        @Test
+        void testPopToEmpty() {
+            assertEquals(3, dynamicArray.pop());
+            assertEquals(2, dynamicArray.pop());
+            assertEquals(1, dynamicArray.pop());
+            assertNull(dynamicArray.pop());
+        }
+
+        @Test
+        void testGetWithIndexEqualToSize() {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.get(3));
+        }
+
+        @Test
+        void testPushWithNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> dynamicArray.push(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for reopening the file")
+    public class ReopenTest {
+
+        @Test
+        void testReopenKeepsElementsAndCapacity() throws IOException {
+            for (int i = 4; i <= 40; i++) {
+                dynamicArray.push(i);
+            }
+            dynamicArray.close();
+
+            dynamicArray = open();
+
+            assertEquals(40, dynamicArray.size());
+            assertEquals(64, dynamicArray.capacity());
+            assertEquals(40, dynamicArray.get(39));
+
+            dynamicArray.push(41);
+            assertEquals(41, dynamicArray.size());
+        }
+
+        @Test
+        void testReopenWithDifferentWidth() throws IOException {
+            dynamicArray.close();
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> new MappedDynamicArray<>(file, ElementCodec.LONG));
+        }
+
+        @Test
+        void testOpenFileWhichIsNotAnArray() throws IOException {
+            Path other = directory.resolve("other.bin");
+            Files.write(other, new byte[64]);
+
+            assertThrows(IOException.class,
+                    () -> new MappedDynamicArray<>(other, ElementCodec.INT));
+        }
+
+        @Test
+        void testClosedArray() throws IOException {
+            dynamicArray.close();
+            dynamicArray.close();
+
+            assertThrows(IllegalStateException.class,
+                    () -> dynamicArray.get(0));
+            assertThrows(IllegalStateException.class,
+                    () -> dynamicArray.push(4));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for methods which shift elements")
+    public class ShiftTest {
+
+        @Test
+        void testDeleteAndInsertAll() {
+            assertEquals(2, dynamicArray.delete(1));
+            dynamicArray.insertAll(1, 10, 11);
+
+            assertEquals(List.of(1, 10, 11, 3), dynamicArray.copy());
+        }
+
+        @Test
+        void testRandomOperationsAgainstArrayList() {
+            Random random = new Random(14);
+            List<Integer> model = new ArrayList<>(dynamicArray.copy());
+
+            for (int step = 0; step < 3000; step++) {
+                int operation = random.nextInt(6);
+                int value = random.nextInt(100);
+                if (operation == 0 || model.isEmpty()) {
+                    dynamicArray.push(value);
+                    model.add(value);
+                } else if (operation == 1) {
+                    int index = random.nextInt(model.size());
+                    assertEquals(model.remove(index), dynamicArray.delete(index));
+                } else if (operation == 2) {
+                    int index = random.nextInt(model.size() + 1);
+                    List<Integer> inserted = List.of(value, value + 1, value + 2, value + 3, value + 4);
+                    dynamicArray.insertAll(index, inserted);
+                    model.addAll(index, inserted);
+                } else if (operation == 3) {
+                    int from = random.nextInt(model.size());
+                    int to = from + random.nextInt(Math.min(20, model.size() - from) + 1);
+                    dynamicArray.removeRange(from, to);
+                    model.subList(from, to).clear();
+                } else if (operation == 4) {
+                    dynamicArray.removeIf(el -> el == value);
+                    model.removeIf(el -> el == value);
+                } else {
+                    int index = random.nextInt(model.size());
+                    assertEquals(model.set(index, value), dynamicArray.set(index, value));
+                }
+            }
+
+            assertEquals(model, dynamicArray.copy());
+            assertEquals(model, dynamicArray.stream().toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for methods trimToSize() and ensureCapacity()")
+    public class CapacityTest {
+
+        @Test
+        void testEnsureCapacityExtendsTheFile() throws IOException {
+            dynamicArray.ensureCapacity(100);
+
+            assertEquals(100, dynamicArray.capacity());
+            assertEquals(MappedDynamicArray.HEADER_SIZE + 400, Files.size(file));
+        }
+
+        @Test
+        void testTrimToSizeTruncatesTheFile() throws IOException {
+            for (int i = 4; i <= 20; i++) {
+                dynamicArray.push(i);
+            }
+            dynamicArray.trimToSize();
+            dynamicArray.force();
+
+            assertEquals(20, dynamicArray.capacity());
+            assertEquals(MappedDynamicArray.HEADER_SIZE + 80, Files.size(file));
+            assertEquals(20, dynamicArray.get(19));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method stream()")
+    public class StreamTest {
+
+        @Test
+        void testParallelStream() {
+            for (int i = 4; i <= 100; i++) {
+                dynamicArray.push(i);
+            }
+
+            assertEquals(5050, dynamicArray.stream().parallel().mapToInt(Integer::intValue).sum());
+        }
+
+        @Test
+        void testStreamWithModificationDuringTraversal() {
+            assertThrows(ConcurrentModificationException.class,
+                    () -> dynamicArray.stream().forEach(dynamicArray::push));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentDynamicArrayTest {
+
+    private final PersistentDynamicArray<Integer> dynamicArray = new PersistentDynamicArray<>(Integer.class);
+
+    @BeforeEach
+    void setUp() {
+        dynamicArray.push(1);
+        dynamicArray.push(2);
+        dynamicArray.push(3);
+    }
+
+    @Nested
+    @DisplayName("Tests for methods push(), get() and pop()")
+    public class PushPopTest {
+
+        @Test
+        void testPushWithNull() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> dynamicArray.push(null));
+        }
+
+        @Test
+        void testPushAndPopAcrossSeveralLevels() {
+            PersistentDynamicArray<Integer> localDynamicArrayTest = new PersistentDynamicArray<>(Integer.class);
+            int count = 40000;
+
+            for (int i = 0; i < count; i++) {
+                localDynamicArrayTest.push(i);
+            }
+
+            assertEquals(count, localDynamicArrayTest.size());
+            for (int i = 0; i < count; i += 997) {
+                assertEquals(i, localDynamicArrayTest.get(i));
+            }
+
+            for (int i = count - 1; i >= 0; i--) {
+                assertEquals(i, localDynamicArrayTest.pop());
+            }
+            assertNull(localDynamicArrayTest.pop());
+            assertTrue(localDynamicArrayTest.isEmpty());
+        }
+
+        @Test
+        void testGetWithIndexEqualToSize() {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.get(3));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method copy()")
+    public class CopyTest {
+
+        @Test
+        void testCopyIsNotChangedByLaterMutations() {
+            List<Integer> copyOfDynamicArray = dynamicArray.copy();
+
+            dynamicArray.set(0, 7);
+            dynamicArray.push(4);
+            dynamicArray.delete(1);
+
+            assertEquals(List.of(1, 2, 3), copyOfDynamicArray);
+            assertEquals(List.of(7, 3, 4), dynamicArray.copy());
+        }
+
+        @Test
+        void testCopyIsImmutable() {
+            assertThrows(UnsupportedOperationException.class,
+                    () -> dynamicArray.copy().add(12),
+                    "The method copy should throw an UnsupportedOperationException" +
+                            " when trying to make a change to the immutable return value!");
+        }
+
+        @Test
+        void testSnapshotCanBeModifiedIndependently() {
+            PersistentDynamicArray<Integer> snapshot = dynamicArray.snapshot();
+
+            snapshot.push(10);
+            dynamicArray.set(2, 30);
+
+            assertEquals(List.of(1, 2, 3, 10), snapshot.copy());
+            assertEquals(List.of(1, 2, 30), dynamicArray.copy());
+        }
+
+        @Test
+        void testRandomOperationsAgainstSnapshots() {
+            Random random = new Random(7);
+            List<Integer> model = new ArrayList<>(List.of(1, 2, 3));
+            List<List<Integer>> expectedSnapshots = new ArrayList<>();
+            List<List<Integer>> snapshots = new ArrayList<>();
+
+            for (int step = 0; step < 20000; step++) {
+                int operation = random.nextInt(10);
+                if (operation < 6 || model.isEmpty()) {
+                    int value = random.nextInt(1000);
+                    dynamicArray.push(value);
+                    model.add(value);
+                } else if (operation < 8) {
+                    int index = random.nextInt(model.size());
+                    int value = random.nextInt(1000);
+                    assertEquals(model.set(index, value), dynamicArray.set(index, value));
+                } else if (operation < 9) {
+                    assertEquals(model.remove(model.size() - 1), dynamicArray.pop());
+                } else {
+                    snapshots.add(dynamicArray.copy());
+                    expectedSnapshots.add(new ArrayList<>(model));
+                }
+            }
+
+            assertEquals(model, dynamicArray.copy());
+            assertEquals(model, dynamicArray.stream().toList());
+            assertEquals(expectedSnapshots, snapshots);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for methods which shift elements")
+    public class ShiftTest {
+
+        @Test
+        void testDeleteInTheMiddle() {
+            assertEquals(2, dynamicArray.delete(1));
+            assertEquals(List.of(1, 3), dynamicArray.copy());
+        }
+
+        @Test
+        void testInsertAllAndRemoveRange() {
+            dynamicArray.insertAll(1, 7, 8);
+            assertEquals(List.of(1, 7, 8, 2, 3), dynamicArray.copy());
+
+            dynamicArray.removeRange(0, 2);
+            assertEquals(List.of(8, 2, 3), dynamicArray.copy());
+        }
+
+        @Test
+        void testRemoveIfWithEvenNumbers() {
+            assertTrue(dynamicArray.removeIf(el -> el % 2 == 0));
+            assertEquals(List.of(1, 3), dynamicArray.copy());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveKernelsTest {
+
+    private final PrimitiveKernels scalar = new ScalarPrimitiveKernels();
+    private final PrimitiveKernels vector = new VectorPrimitiveKernels();
+
+    private final Random random = new Random(13);
+
+    @Test
+    void testVectorKernelsAreSelectedWhenTheModuleIsPresent() {
+        assertTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        assertInstanceOf(VectorPrimitiveKernels.class, PrimitiveKernels.INSTANCE);
+    }
+
+    @Nested
+    @DisplayName("Tests which compare the vector kernels with the scalar ones")
+    public class ScalarEquivalenceTest {
+
+        @Test
+        void testIntKernels() {
+            for (int size = 0; size < 200; size++) {
+                int[] array = random.ints(size + 3, -50, 50).toArray();
+                int element = random.nextInt(100) - 50;
+
+                assertEquals(scalar.indexOf(array, size, element), vector.indexOf(array, size, element));
+                assertEquals(scalar.sum(array, size), vector.sum(array, size));
+                assertEquals(scalar.min(array, size), vector.min(array, size));
+                assertEquals(scalar.max(array, size), vector.max(array, size));
+                assertEquals(scalar.countGreaterThan(array, size, element), vector.countGreaterThan(array, size, element));
+                assertArrayEquals(scalar.indexesGreaterThan(array, size, element),
+                        vector.indexesGreaterThan(array, size, element));
+            }
+        }
+
+        @Test
+        void testLongKernels() {
+            for (int size = 0; size < 200; size++) {
+                long[] array = random.longs(size + 3, -50, 50).toArray();
+                long element = random.nextInt(100) - 50;
+
+                assertEquals(scalar.indexOf(array, size, element), vector.indexOf(array, size, element));
+                assertEquals(scalar.sum(array, size), vector.sum(array, size));
+                assertEquals(scalar.min(array, size), vector.min(array, size));
+                assertEquals(scalar.max(array, size), vector.max(array, size));
+                assertEquals(scalar.countGreaterThan(array, size, element), vector.countGreaterThan(array, size, element));
+                assertArrayEquals(scalar.indexesGreaterThan(array, size, element),
+                        vector.indexesGreaterThan(array, size, element));
+            }
+        }
+
+        @Test
+        void testDoubleKernels() {
+            double[] specialValues = {Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY};
+
+            for (int size = 0; size < 200; size++) {
+                double[] array = random.ints(size + 3, -50, 50).asDoubleStream().toArray();
+                if (size > 0 && random.nextBoolean()) {
+                    array[random.nextInt(size)] = specialValues[random.nextInt(specialValues.length)];
+                }
+                double element = random.nextInt(4) == 0
+                        ? specialValues[random.nextInt(specialValues.length)]
+                        : random.nextInt(100) - 50;
+
+                assertEquals(scalar.indexOf(array, size, element), vector.indexOf(array, size, element));
+                assertEquals(scalar.sum(array, size), vector.sum(array, size), 1e-9);
+                assertEquals(scalar.min(array, size), vector.min(array, size));
+                assertEquals(scalar.max(array, size), vector.max(array, size));
+                assertEquals(scalar.countGreaterThan(array, size, element), vector.countGreaterThan(array, size, element));
+                assertArrayEquals(scalar.indexesGreaterThan(array, size, element),
+                        vector.indexesGreaterThan(array, size, element));
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShrinkPolicyTest {
+
+    @Nested
+    @DisplayName("Tests for method never()")
+    public class NeverTest {
+
+        @Test
+        void testNeverKeepsCapacity() {
+            assertEquals(1024, ShrinkPolicy.never().shrink(1024, 0));
+        }
+
+        @Test
+        void testArraysDoNotShrinkByDefault() {
+            DynamicArray<Integer> dynamicArray = new DynamicArrayImplementation<>(Integer.class);
+            for (int i = 0; i < 100; i++) {
+                dynamicArray.push(i);
+            }
+            dynamicArray.clear();
+
+            assertEquals(128, dynamicArray.capacity());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for method halving()")
+    public class HalvingTest {
+
+        private final ShrinkPolicy shrinkPolicy = ShrinkPolicy.halving(0.25, 4);
+
+        private DynamicArray<Integer> newDynamicArray() {
+            return new DynamicArrayImplementation<>(Integer.class, 1, GrowthPolicy.defaultPolicy(), shrinkPolicy);
+        }
+
+        @Test
+        void testHalvingWithInvalidArguments() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> ShrinkPolicy.halving(0, 4));
+            assertThrows(IllegalArgumentException.class,
+                    () -> ShrinkPolicy.halving(0.6, 4));
+            assertThrows(IllegalArgumentException.class,
+                    () -> ShrinkPolicy.halving(0.5, 4));
+            assertThrows(IllegalArgumentException.class,
+                    () -> ShrinkPolicy.halving(0.25, -1));
+        }
+
+        @Test
+        void testHalvingBelowThreshold() {
+            assertEquals(64, shrinkPolicy.shrink(64, 16));
+            assertEquals(32, shrinkPolicy.shrink(64, 15));
+            assertEquals(16, shrinkPolicy.shrink(64, 7));
+        }
+
+        @Test
+        void testHalvingRespectsMinCapacity() {
+            assertEquals(4, shrinkPolicy.shrink(1024, 0));
+            assertEquals(4, shrinkPolicy.shrink(6, 1));
+            assertEquals(3, shrinkPolicy.shrink(3, 0));
+        }
+
+        @Test
+        void testPopShrinksArray() {
+            DynamicArray<Integer> dynamicArray = newDynamicArray();
+            for (int i = 0; i < 64; i++) {
+                dynamicArray.push(i);
+            }
+            assertEquals(64, dynamicArray.capacity());
+
+            while (dynamicArray.size() > 15) {
+                dynamicArray.pop();
+            }
+
+            assertEquals(32, dynamicArray.capacity());
+            assertEquals(14, dynamicArray.get(14));
+        }
+
+        @Test
+        void testPushPopAtBoundaryDoesNotReallocate() {
+            DynamicArrayImplementation<Integer> dynamicArray =
+                    new DynamicArrayImplementation<>(Integer.class, 1, GrowthPolicy.defaultPolicy(), shrinkPolicy);
+            for (int i = 0; i < 64; i++) {
+                dynamicArray.push(i);
+            }
+            while (dynamicArray.size() > 15) {
+                dynamicArray.pop();
+            }
+
+            dynamicArray.enableMetrics();
+            for (int i = 0; i < 100; i++) {
+                dynamicArray.push(i);
+                dynamicArray.pop();
+                dynamicArray.pop();
+                dynamicArray.push(i);
+            }
+
+            assertEquals(0, dynamicArray.stats().resizes());
+            assertEquals(32, dynamicArray.capacity());
+        }
+
+        @Test
+        void testAlternatingPushPopAcrossBoundariesDoesNotReallocate() {
+            DynamicArrayImplementation<Integer> dynamicArray =
+                    new DynamicArrayImplementation<>(Integer.class, 1, GrowthPolicy.defaultPolicy(), shrinkPolicy);
+            for (int i = 0; i < 64; i++) {
+                dynamicArray.push(i);
+            }
+            while (dynamicArray.size() > 16) {
+                dynamicArray.pop();
+            }
+            dynamicArray.pop();
+            assertEquals(32, dynamicArray.capacity());
+
+            dynamicArray.enableMetrics();
+            for (int i = 0; i < 100; i++) {
+                dynamicArray.push(i);
+                dynamicArray.pop();
+            }
+            assertEquals(0, dynamicArray.stats().resizes());
+
+            while (dynamicArray.size() < 33) {
+                dynamicArray.push(0);
+            }
+            assertEquals(64, dynamicArray.capacity());
+            long resizes = dynamicArray.stats().resizes();
+            for (int i = 0; i < 100; i++) {
+                dynamicArray.pop();
+                dynamicArray.push(i);
+            }
+
+            assertEquals(resizes, dynamicArray.stats().resizes());
+            assertEquals(64, dynamicArray.capacity());
+        }
+
+        @Test
+        void testDeleteRemoveAndClearShrinkArray() {
+            DynamicArray<Integer> dynamicArray = newDynamicArray();
+            for (int i = 0; i < 32; i++) {
+                dynamicArray.push(i);
+            }
+
+            for (int i = 0; i < 25; i++) {
+                dynamicArray.delete(0);
+            }
+            assertEquals(16, dynamicArray.capacity());
+
+            dynamicArray.remove();
+            dynamicArray.remove();
+            dynamicArray.remove();
+            assertEquals(16, dynamicArray.capacity());
+
+            dynamicArray.remove();
+            assertEquals(8, dynamicArray.capacity());
+            assertEquals(List.of(25, 26, 27), dynamicArray.copy());
+
+            dynamicArray.clear();
+            assertEquals(4, dynamicArray.capacity());
+        }
+
+        @Test
+        void testBulkRemovalsShrinkArray() {
+            DynamicArray<Integer> dynamicArray = newDynamicArray();
+            for (int i = 0; i < 128; i++) {
+                dynamicArray.push(i);
+            }
+
+            dynamicArray.removeRange(10, 128);
+            assertEquals(32, dynamicArray.capacity());
+
+            dynamicArray.removeIf(el -> el > 0);
+            assertEquals(4, dynamicArray.capacity());
+            assertEquals(0, dynamicArray.get(0));
+        }
+
+        @Test
+        void testShrinkWithArrayPool() {
+            ArrayPool arrayPool = new ArrayPool();
+            DynamicArray<Integer> dynamicArray = new DynamicArrayImplementation<>(
+                    Integer.class, 1, GrowthPolicy.defaultPolicy(), shrinkPolicy, arrayPool);
+            for (int i = 0; i < 64; i++) {
+                dynamicArray.push(i);
+            }
+
+            dynamicArray.clear();
+
+            assertEquals(16, dynamicArray.capacity());
+        }
+
+        @Test
+        void testPolicyBelowSize() {
+            DynamicArray<Integer> dynamicArray = new DynamicArrayImplementation<>(
+                    Integer.class, 8, GrowthPolicy.defaultPolicy(), (capacity, size) -> size - 1);
+            dynamicArray.push(1);
+            dynamicArray.push(2);
+
+            assertThrows(IllegalStateException.class,
+                    dynamicArray::pop);
+        }
+    }
+}
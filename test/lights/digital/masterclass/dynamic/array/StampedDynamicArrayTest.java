@@ -0,0 +1,118 @@
+package lights.digital.masterclass.dynamic.array;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StampedDynamicArrayTest {
+
+    private final DynamicArray<Integer> dynamicArray = new StampedDynamicArray<>(Integer.class);
+
+    @BeforeEach
+    void setUp() {
+        dynamicArray.push(1);
+        dynamicArray.push(2);
+        dynamicArray.push(3);
+    }
+
+    @Nested
+    @DisplayName("Tests for method get()")
+    public class GetTest {
+
+        @Test
+        void testGetWithNegativeInputValue() {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> dynamicArray.get(-1),
+                    "The method get should throw an IndexOutOfBoundsException for " +
+                            "index value being a negative number!");
+        }
+
+        @Test
+        void testGetWithValidIndexValue() {
+            assertEquals(1, dynamicArray.get(0));
+            assertEquals(3, dynamicArray.get(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for mutating methods")
+    public class MutationTest {
+
+        @Test
+        void testMutationsAreVisibleToReads() {
+            dynamicArray.set(0, 7);
+            dynamicArray.delete(1);
+            dynamicArray.addAll(4, 5);
+
+            assertEquals(List.of(7, 3, 4, 5), dynamicArray.copy());
+            assertTrue(dynamicArray.contains(5));
+            assertFalse(dynamicArray.contains(2));
+        }
+
+        @Test
+        void testAddAllWithItself() {
+            dynamicArray.addAll(dynamicArray);
+
+            assertEquals(List.of(1, 2, 3, 1, 2, 3), dynamicArray.copy());
+        }
+
+        @Test
+        void testCopyWithEmptyArray() {
+            dynamicArray.clear();
+
+            assertTrue(dynamicArray.copy().isEmpty());
+            assertEquals(0, dynamicArray.stream().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for concurrent access")
+    public class ConcurrencyTest {
+
+        @Test
+        void testReadsDuringConcurrentWrites() throws Exception {
+            DynamicArray<Integer> localDynamicArrayTest = new StampedDynamicArray<>(Integer.class);
+            localDynamicArrayTest.push(0);
+
+            AtomicBoolean running = new AtomicBoolean(true);
+            ExecutorService executorService = Executors.newFixedThreadPool(4);
+            try {
+                Future<?> writer = executorService.submit(() -> {
+                    for (int i = 1; i < 50000; i++) {
+                        localDynamicArrayTest.push(i);
+                    }
+                    running.set(false);
+                });
+
+                Future<?>[] readers = new Future<?>[3];
+                for (int r = 0; r < readers.length; r++) {
+                    readers[r] = executorService.submit(() -> {
+                        while (running.get()) {
+                            int size = localDynamicArrayTest.size();
+                            int index = size - 1;
+                            Integer element = localDynamicArrayTest.get(index);
+                            assertNotNull(element);
+                            assertTrue(element >= index);
+                        }
+                    });
+                }
+
+                writer.get(30, TimeUnit.SECONDS);
+                for (Future<?> reader : readers) {
+                    reader.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executorService.shutdownNow();
+            }
+
+            assertEquals(50000, localDynamicArrayTest.size());
+        }
+    }
+}